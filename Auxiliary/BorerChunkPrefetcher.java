@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * @author Reika Kalseki
+ *
+ * Copyright 2017
+ *
+ * All rights reserved.
+ * Distribution of the software in any form is only allowed with
+ * explicit, prior permission from the owner.
+ ******************************************************************************/
+package Reika.RotaryCraft.Auxiliary;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.chunk.storage.AnvilChunkLoader;
+import net.minecraft.world.chunk.storage.IChunkLoader;
+import net.minecraftforge.common.DimensionManager;
+
+import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
+import Reika.RotaryCraft.Registry.ConfigRegistry;
+
+/** Generates and populates the terrain ahead of borers a little at a time, under a per-tick time budget shared by all borers, instead of in
+ * the middle of a dig cycle. Chunk generation is not thread-safe, so the work stays on the server thread; it is only spread out. */
+public class BorerChunkPrefetcher {
+
+	public static final BorerChunkPrefetcher instance = new BorerChunkPrefetcher();
+
+	/** How many finished chunks to remember, so that borers passing through them again do not requeue them. */
+	private static final int COMPLETED_MEMORY = 1024;
+
+	private final LinkedList<Request> queue = new LinkedList();
+	private final HashMap<Long, Request> pending = new HashMap();
+	private final LinkedHashMap<Long, Boolean> completed = new LinkedHashMap(COMPLETED_MEMORY, 0.75F, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry eldest) {
+			return this.size() > COMPLETED_MEMORY;
+		}
+	};
+
+	private long generated;
+	private long totalWait;
+	private long maxWait;
+	private long totalGenTime;
+	private long maxGenTime;
+	private int maxQueue;
+	private long stalls;
+
+	private BorerChunkPrefetcher() {
+
+	}
+
+	/** Queues the chunks around the given block position for generation, if they are not already done or queued. */
+	public void request(World world, int x, int z, int range) {
+		long key = getKey(world, x, z);
+		if (completed.containsKey(key) || pending.containsKey(key))
+			return;
+		Request r = new Request(world.provider.dimensionId, x, z, range, key);
+		pending.put(key, r);
+		queue.addLast(r);
+		maxQueue = Math.max(maxQueue, queue.size());
+	}
+
+	/** Returns true if the chunks around the given position are generated and populated, without queueing anything. */
+	public boolean isReady(World world, int x, int z, int range) {
+		long key = getKey(world, x, z);
+		if (completed.containsKey(key))
+			return true;
+		if (isGenerated(world, x, z, range)) {
+			completed.put(key, Boolean.TRUE);
+			return true;
+		}
+		return false;
+	}
+
+	/** Returns true if the chunks around the given position are ready to dig; otherwise moves them to the front of the queue. */
+	public boolean prepare(World world, int x, int z, int range) {
+		if (this.isReady(world, x, z, range))
+			return true;
+		long key = getKey(world, x, z);
+		Request r = pending.get(key);
+		if (r == null) {
+			r = new Request(world.provider.dimensionId, x, z, range, key);
+			pending.put(key, r);
+		}
+		else {
+			queue.remove(r);
+		}
+		queue.addFirst(r);
+		maxQueue = Math.max(maxQueue, queue.size());
+		stalls++;
+		return false;
+	}
+
+	public void tick() {
+		if (queue.isEmpty())
+			return;
+		long budget = ConfigRegistry.BORERGENBUDGET.getValue()*1000000L;
+		long start = System.nanoTime();
+		//always make some progress, so that a zero budget cannot stall borers forever
+		do {
+			Request r = queue.removeFirst();
+			pending.remove(r.key);
+			World world = DimensionManager.getWorld(r.dimension);
+			if (world == null)
+				continue;
+			long t = System.nanoTime();
+			ReikaWorldHelper.forceGenAndPopulate(world, r.xCoord, r.zCoord, r.range);
+			long end = System.nanoTime();
+			completed.put(r.key, Boolean.TRUE);
+
+			long gen = end-t;
+			long wait = end-r.requestTime;
+			generated++;
+			totalGenTime += gen;
+			maxGenTime = Math.max(maxGenTime, gen);
+			totalWait += wait;
+			maxWait = Math.max(maxWait, wait);
+		} while (!queue.isEmpty() && System.nanoTime()-start < budget);
+	}
+
+	/** Drops everything queued for or remembered about the world's dimension, so that a new world loaded under the same ID starts clean. */
+	public void onWorldUnload(World world) {
+		int dim = world.provider.dimensionId;
+		Iterator<Request> it = queue.iterator();
+		while (it.hasNext()) {
+			Request r = it.next();
+			if (r.dimension == dim) {
+				it.remove();
+				pending.remove(r.key);
+			}
+		}
+		Iterator<Long> it2 = completed.keySet().iterator();
+		while (it2.hasNext()) {
+			if ((int)(it2.next() >> 42) == dim)
+				it2.remove();
+		}
+	}
+
+	public void clear() {
+		queue.clear();
+		pending.clear();
+		completed.clear();
+	}
+
+	/** Whether every chunk in range is populated. Chunks saved to disk but not loaded are read in, which is far cheaper than generating them,
+	 * so that terrain generated before a restart does not have to wait for the queue. */
+	private static boolean isGenerated(World world, int x, int z, int range) {
+		IChunkProvider cp = world.getChunkProvider();
+		int cx = x >> 4;
+		int cz = z >> 4;
+		for (int i = -range; i <= range; i++) {
+			for (int k = -range; k <= range; k++) {
+				int dx = cx+i;
+				int dz = cz+k;
+				if (!cp.chunkExists(dx, dz) && !isSaved(world, dx, dz))
+					return false;
+				if (!world.getChunkFromChunkCoords(dx, dz).isTerrainPopulated)
+					return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isSaved(World world, int cx, int cz) {
+		if (world instanceof WorldServer) {
+			IChunkLoader loader = ((WorldServer)world).theChunkProviderServer.currentChunkLoader;
+			return loader instanceof AnvilChunkLoader && ((AnvilChunkLoader)loader).chunkExists(world, cx, cz);
+		}
+		return false;
+	}
+
+	private static long getKey(World world, int x, int z) {
+		return ((long)world.provider.dimensionId << 42) ^ (((long)(x >> 4) & 0x1FFFFFL) << 21) ^ ((z >> 4) & 0x1FFFFFL);
+	}
+
+	public ArrayList<String> getMessages() {
+		ArrayList<String> li = new ArrayList();
+		li.add(queue.size()+" chunk areas queued (peak "+maxQueue+"), "+generated+" generated, "+stalls+" borer stalls");
+		if (generated > 0) {
+			li.add(String.format("Generation: %.2f ms average, %.2f ms max", totalGenTime/(double)generated/1000000D, maxGenTime/1000000D));
+			li.add(String.format("Request latency: %.2f ms average, %.2f ms max", totalWait/(double)generated/1000000D, maxWait/1000000D));
+		}
+		return li;
+	}
+
+	private static final class Request {
+
+		private final int dimension;
+		private final int xCoord;
+		private final int zCoord;
+		private final int range;
+		private final long key;
+		private final long requestTime;
+
+		private Request(int dim, int x, int z, int r, long key) {
+			dimension = dim;
+			xCoord = x;
+			zCoord = z;
+			range = r;
+			this.key = key;
+			requestTime = System.nanoTime();
+		}
+
+	}
+
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * @author Reika Kalseki
+ *
+ * Copyright 2017
+ *
+ * All rights reserved.
+ * Distribution of the software in any form is only allowed with
+ * explicit, prior permission from the owner.
+ ******************************************************************************/
+package Reika.RotaryCraft.Auxiliary;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+
+import Reika.DragonAPI.Libraries.IO.ReikaChatHelper;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+/** Cave scans only run on the client, so their stats are reported by a client command rather than through the server. */
+@SideOnly(Side.CLIENT)
+public class CaveScanCommand extends CommandBase {
+
+	@Override
+	public void processCommand(ICommandSender ics, String[] args) {
+		for (String s : CaveScanExecutor.instance.getMessages())
+			ReikaChatHelper.writeString(s);
+	}
+
+	@Override
+	public String getCommandName() {
+		return "rccavescan";
+	}
+
+	@Override
+	public String getCommandUsage(ICommandSender ics) {
+		return "/"+this.getCommandName();
+	}
+
+	@Override
+	public boolean canCommandSenderUseCommand(ICommandSender ics) {
+		return true;
+	}
+
+}
@@ -0,0 +1,299 @@
+/*******************************************************************************
+ * @author Reika Kalseki
+ *
+ * Copyright 2017
+ *
+ * All rights reserved.
+ * Distribution of the software in any form is only allowed with
+ * explicit, prior permission from the owner.
+ ******************************************************************************/
+package Reika.RotaryCraft.Auxiliary;
+
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.NibbleArray;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+/** Runs cave scanner sweeps on a small shared pool of daemon threads. The block data is copied out of the chunks on the calling thread, so
+ * the workers never touch the live world, and each finished sweep is published as a whole, immutable bitset. A new request for the same
+ * scanner supersedes any sweep still queued or running for it. */
+public class CaveScanExecutor {
+
+	public static final CaveScanExecutor instance = new CaveScanExecutor();
+
+	private static final int THREADS = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors()-1));
+	private static final int QUEUE_SIZE = 32;
+
+	private final ThreadPoolExecutor pool;
+
+	private final AtomicLong requested = new AtomicLong();
+	private final AtomicLong completed = new AtomicLong();
+	private final AtomicLong superseded = new AtomicLong();
+	private final AtomicLong rejected = new AtomicLong();
+	private final AtomicLong totalLatency = new AtomicLong();
+	private final AtomicLong maxLatency = new AtomicLong();
+
+	private CaveScanExecutor() {
+		pool = new ThreadPoolExecutor(THREADS, THREADS, 30, TimeUnit.SECONDS, new ArrayBlockingQueue(QUEUE_SIZE), new ScanThreadFactory());
+		pool.allowCoreThreadTimeOut(true);
+	}
+
+	/** Snapshots the area around the given center and queues a sweep of it. Returns false if the pool is saturated and the caller should
+	 * try again later. Must be called from the thread that owns the world. */
+	public boolean request(CaveScan scan, World world, int x, int y, int z, int range) {
+		requested.incrementAndGet();
+		int gen = scan.generation.incrementAndGet();
+		scan.pending = new ScanSnapshot(world, x, y, z, range, gen);
+		if (scan.queued.compareAndSet(false, true)) {
+			try {
+				pool.execute(scan.task);
+			}
+			catch (RejectedExecutionException e) {
+				scan.queued.set(false);
+				scan.pending = null;
+				rejected.incrementAndGet();
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void run(CaveScan scan) {
+		scan.queued.set(false);
+		ScanSnapshot s = scan.pending;
+		if (s == null)
+			return;
+		int r = s.range;
+		int w = r*2+1;
+		long[] bits = new long[(w*w*w+63) >> 6];
+		for (int i = 0; i < w; i++) {
+			if (scan.generation.get() != s.generation) {
+				superseded.incrementAndGet();
+				return;
+			}
+			int x = s.centerX-r+i;
+			for (int j = 0; j < w; j++) {
+				int y = s.centerY-r+j;
+				for (int k = 0; k < w; k++) {
+					int z = s.centerZ-r+k;
+					if (s.isCaveCorner(x, y, z)) {
+						int idx = (i*w+j)*w+k;
+						bits[idx >> 6] |= 1L << (idx & 63);
+					}
+				}
+			}
+		}
+		if (scan.generation.get() != s.generation) {
+			superseded.incrementAndGet();
+			return;
+		}
+		scan.result.set(new ScanResult(s.centerX, s.centerY, s.centerZ, r, bits));
+		long time = System.nanoTime()-s.requestTime;
+		completed.incrementAndGet();
+		totalLatency.addAndGet(time);
+		long max = maxLatency.get();
+		while (time > max && !maxLatency.compareAndSet(max, time))
+			max = maxLatency.get();
+	}
+
+	public ArrayList<String> getMessages() {
+		ArrayList<String> li = new ArrayList();
+		li.add(requested.get()+" scans requested, "+completed.get()+" completed, "+superseded.get()+" superseded, "+rejected.get()+" rejected");
+		long n = completed.get();
+		if (n > 0) {
+			li.add(String.format("Latency: %.2f ms average, %.2f ms max", totalLatency.get()/(double)n/1000000D, maxLatency.get()/1000000D));
+		}
+		li.add(pool.getActiveCount()+"/"+THREADS+" threads busy, "+pool.getQueue().size()+" queued");
+		return li;
+	}
+
+	/** The per-scanner state. Hold one per tile and pass it to every request. */
+	public static final class CaveScan {
+
+		private final AtomicInteger generation = new AtomicInteger();
+		private final AtomicBoolean queued = new AtomicBoolean();
+		private final AtomicReference<ScanResult> result = new AtomicReference();
+		private volatile ScanSnapshot pending;
+
+		private final Runnable task = new Runnable() {
+			@Override
+			public void run() {
+				instance.run(CaveScan.this);
+			}
+		};
+
+		/** Returns the newest finished sweep if there is one not yet collected, else null. */
+		public ScanResult pollResult() {
+			return result.getAndSet(null);
+		}
+
+		/** Abandons any queued or running sweep, such as when the scanner is removed. */
+		public void cancel() {
+			generation.incrementAndGet();
+			pending = null;
+		}
+
+	}
+
+	public static final class ScanResult {
+
+		public final int centerX;
+		public final int centerY;
+		public final int centerZ;
+		public final int range;
+
+		private final long[] points;
+
+		private ScanResult(int x, int y, int z, int r, long[] bits) {
+			centerX = x;
+			centerY = y;
+			centerZ = z;
+			range = r;
+			points = bits;
+		}
+
+		/** Offsets are from the low corner of the scanned cube, so each runs from 0 to twice the range. */
+		public boolean hasPoint(int dx, int dy, int dz) {
+			int w = range*2+1;
+			if (dx < 0 || dy < 0 || dz < 0 || dx >= w || dy >= w || dz >= w)
+				return false;
+			int idx = (dx*w+dy)*w+dz;
+			return (points[idx >> 6] & (1L << (idx & 63))) != 0;
+		}
+
+	}
+
+	/** Copies of the block ID arrays of every chunk section the sweep can read. Null sections are all air. */
+	private static final class ScanSnapshot {
+
+		private final int generation;
+		private final long requestTime;
+
+		private final int centerX;
+		private final int centerY;
+		private final int centerZ;
+		private final int range;
+
+		private final int minCX;
+		private final int minCZ;
+		private final int sizeCZ;
+		private final int minSY;
+		private final int sizeSY;
+
+		private final boolean[] loaded;
+		private final byte[][] lsb;
+		private final byte[][] msb;
+
+		private ScanSnapshot(World world, int x, int y, int z, int r, int gen) {
+			generation = gen;
+			requestTime = System.nanoTime();
+			centerX = x;
+			centerY = y;
+			centerZ = z;
+			range = r;
+
+			//corners look one block down and back along each axis
+			minCX = (x-r-1) >> 4;
+			minCZ = (z-r-1) >> 4;
+			int sizeCX = ((x+r) >> 4)-minCX+1;
+			sizeCZ = ((z+r) >> 4)-minCZ+1;
+			minSY = Math.max(0, (y-r-1) >> 4);
+			sizeSY = Math.max(0, Math.min(15, (y+r) >> 4)-minSY+1);
+
+			loaded = new boolean[sizeCX*sizeCZ];
+			lsb = new byte[sizeCX*sizeCZ*sizeSY][];
+			msb = new byte[sizeCX*sizeCZ*sizeSY][];
+			for (int a = 0; a < sizeCX; a++) {
+				for (int b = 0; b < sizeCZ; b++) {
+					int cx = minCX+a;
+					int cz = minCZ+b;
+					if (!world.getChunkProvider().chunkExists(cx, cz))
+						continue;
+					int c = a*sizeCZ+b;
+					loaded[c] = true;
+					Chunk ch = world.getChunkFromChunkCoords(cx, cz);
+					ExtendedBlockStorage[] arr = ch.getBlockStorageArray();
+					for (int s = 0; s < sizeSY; s++) {
+						ExtendedBlockStorage ebs = arr[minSY+s];
+						if (ebs != null && !ebs.isEmpty()) {
+							lsb[c*sizeSY+s] = ebs.getBlockLSBArray().clone();
+							NibbleArray n = ebs.getBlockMSBArray();
+							if (n != null)
+								msb[c*sizeSY+s] = n.data.clone();
+						}
+					}
+				}
+			}
+		}
+
+		/** Whether the block corner at the given position has both air and non-air among the eight blocks sharing it. */
+		private boolean isCaveCorner(int x, int y, int z) {
+			boolean air = false;
+			boolean solid = false;
+			for (int i = -1; i <= 0; i++) {
+				for (int j = -1; j <= 0; j++) {
+					for (int k = -1; k <= 0; k++) {
+						if (this.isAir(x+i, y+j, z+k))
+							air = true;
+						else
+							solid = true;
+						if (air && solid)
+							return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		private boolean isAir(int x, int y, int z) {
+			if (y < 0)
+				return false;
+			if (y > 255)
+				return true;
+			int c = ((x >> 4)-minCX)*sizeCZ+((z >> 4)-minCZ);
+			if (!loaded[c])
+				return false;
+			int s = (y >> 4)-minSY;
+			byte[] low = lsb[c*sizeSY+s];
+			if (low == null)
+				return true;
+			int idx = (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+			int id = low[idx] & 255;
+			byte[] high = msb[c*sizeSY+s];
+			if (high != null) {
+				int b = high[idx >> 1];
+				id |= ((idx & 1) == 0 ? b & 15 : (b >> 4) & 15) << 8;
+			}
+			return id == 0 || Block.getBlockById(id).getMaterial() == Material.air;
+		}
+
+	}
+
+	private static final class ScanThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread t = new Thread(r, "RotaryCraft Cave Scanner "+count.incrementAndGet());
+			t.setDaemon(true);
+			t.setPriority(Thread.MIN_PRIORITY+1);
+			return t;
+		}
+
+	}
+
+}
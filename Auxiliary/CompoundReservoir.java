@@ -9,129 +9,183 @@
  ******************************************************************************/
 package Reika.RotaryCraft.Auxiliary;
 
-@Deprecated
+import java.util.ArrayList;
+
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+
+import Reika.RotaryCraft.TileEntities.Storage.TileEntityReservoir;
+
+/** A shared tank for a horizontally connected group of reservoirs holding the same fluid (or nothing). The pool holds the whole group's
+ * contents as one amount, so filling, draining and levelling cost the same however many reservoirs it spans, and each reservoir's own level
+ * is just its share of the total, worked out when something asks for it. The pool itself is never saved; reservoirs write their share into
+ * their own tanks when saved or synced, and rebuild the pool when they load. Pools only exist on the server. */
 public class CompoundReservoir {
-	/*
-	private final BlockArray blocks = new BlockArray();
-	private final World world;
 
-	private long lastTick;
+	private final ArrayList<TileEntityReservoir> members = new ArrayList();
 
-	public CompoundReservoir(World world) {
-		blocks.setWorld(world);
-		this.world = world;
-	}
+	private Fluid fluid;
+	private int amount;
+
+	private CompoundReservoir() {
 
-	public CompoundReservoir addReservoir(TileEntityReservoir te) {
-		blocks.addBlockCoordinate(te.xCoord, te.yCoord, te.zCoord);
-		return this;
 	}
 
-	public void removeReservoir(TileEntityReservoir te) {
-		blocks.remove(te.xCoord, te.yCoord, te.zCoord);
-		for (Coordinate c : blocks.keySet()) {
-			if (te instanceof TileEntityReservoir) {
-				te.recalculateCompound();
+	/** Puts the reservoir into a pool, taking in whatever its own tank holds, and merges with every compatible pool next to it. */
+	public static void join(TileEntityReservoir te) {
+		CompoundReservoir cr = new CompoundReservoir();
+		if (!te.isEmpty()) {
+			cr.fluid = te.getFluid();
+			cr.amount = te.getLevel();
+		}
+		cr.add(te);
+		World world = te.worldObj;
+		for (int i = 2; i < 6; i++) {
+			ForgeDirection dir = ForgeDirection.VALID_DIRECTIONS[i];
+			if (te.adjacentOnSide(dir)) {
+				int dx = te.xCoord+dir.offsetX;
+				int dz = te.zCoord+dir.offsetZ;
+				if (world.getChunkProvider().chunkExists(dx >> 4, dz >> 4)) {
+					Object o = world.getTileEntity(dx, te.yCoord, dz);
+					if (o instanceof TileEntityReservoir) {
+						CompoundReservoir other = ((TileEntityReservoir)o).getCompound();
+						if (other != null && other != cr && cr.canMergeWith(other)) {
+							cr = cr.merge(other);
+						}
+					}
+				}
 			}
 		}
-		this.clear();
 	}
 
-	public void merge(CompoundReservoir cr) {
-		for (Coordinate c : cr.blocks.keySet()) {
-			TileEntity te = c.getTileEntity(world);
-			if (te instanceof TileEntityReservoir) {
-				((TileEntityReservoir)te).setCompound(this);
-			}
-			blocks.addBlockCoordinate(c.xCoord, c.yCoord, c.zCoord);
+	/** Takes the reservoir out of the pool with its share, and breaks up the rest, since removing it may have split the group. The others
+	 * rebuild their pools when they next tick. */
+	public void remove(TileEntityReservoir te) {
+		int idx = te.getCompoundIndex();
+		if (idx < 0 || idx >= members.size() || members.get(idx) != te)
+			return;
+		this.dissolve();
+	}
+
+	/** Hands every member its share and empties the pool. */
+	private void dissolve() {
+		int n = members.size();
+		for (int i = 0; i < n; i++) {
+			TileEntityReservoir te = members.get(i);
+			te.setCompound(null, -1);
+			int share = this.getShare(i);
+			if (share > 0)
+				te.setLevel(share, fluid);
+			else
+				te.setEmpty();
+		}
+		members.clear();
+		amount = 0;
+		fluid = null;
+	}
+
+	private void add(TileEntityReservoir te) {
+		te.setCompound(this, members.size());
+		members.add(te);
+	}
+
+	private boolean canMergeWith(CompoundReservoir cr) {
+		return fluid == null || cr.fluid == null || fluid.equals(cr.fluid);
+	}
+
+	/** Moves the members of the smaller pool into the larger, and returns the larger. */
+	private CompoundReservoir merge(CompoundReservoir cr) {
+		if (cr.members.size() > members.size())
+			return cr.merge(this);
+		for (TileEntityReservoir te : cr.members) {
+			this.add(te);
 		}
-		cr.clear();
+		if (fluid == null)
+			fluid = cr.fluid;
+		amount += cr.amount;
+		cr.members.clear();
+		cr.amount = 0;
+		cr.fluid = null;
+		return this;
+	}
+
+	/** Splits the total as evenly as possible, giving the leftover millibuckets to the first members, so that the shares always add up. */
+	private int getShare(int idx) {
+		int n = members.size();
+		int share = amount/n;
+		if (idx < amount%n)
+			share++;
+		return share;
+	}
+
+	public int getLevel(TileEntityReservoir te) {
+		return this.getShare(te.getCompoundIndex());
+	}
+
+	public Fluid getFluid() {
+		return amount > 0 ? fluid : null;
+	}
+
+	public int getTotalAmount() {
+		return amount;
 	}
 
 	public int getSize() {
-		return blocks.getSize();
+		return members.size();
 	}
 
-	public void clear() {
-		blocks.clear();
+	public int getCapacity() {
+		return members.size()*TileEntityReservoir.CAPACITY;
 	}
 
-	public void tick() {
-		long time = world.getTotalWorldTime();
-		if (time == lastTick)
-			return;
-		lastTick = time;
-		this.doTick();
+	public FluidStack getContents() {
+		return amount > 0 ? new FluidStack(fluid, amount) : null;
 	}
 
-	private void doTick() {
-		Fluid f = this.getFluid();
-		if (f == null)
-			return;
-		for (Coordinate c : blocks.keySet()) {
-			int x = c.xCoord;
-			int y = c.yCoord;
-			int z = c.zCoord;
-			int Tamb = ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z);
-			int temp = this.getFluid().getTemperature(world, x, y, z)-273;
-			int dT = temp-Tamb;
-			int r = 2;
-			for (int i = -r; i <= r; i++) {
-				for (int j = -r; j <= r; j++) {
-					for (int k = -r; k <= r; k++) {
-						double dd = ReikaMathLibrary.py3d(i, j, k)+1;
-						int hiT = (int)(Tamb+dT/dd/2D);
-						ReikaWorldHelper.temperatureEnvironment(world, x+i, y+j, z+k, hiT);
-						if (temp > 2500)
-							ReikaSoundHelper.playSoundAtBlock(world, x+i, y+j, z+k, "random.fizz", 0.2F, 1F);
-					}
-				}
-			}
-			if (temp > 2500) {
-				world.setBlock(x, y, z, Blocks.flowing_lava);
-				world.setBlock(x+1, y, z, Blocks.flowing_lava);
-				world.setBlock(x-1, y, z, Blocks.flowing_lava);
-				world.setBlock(x, y, z+1, Blocks.flowing_lava);
-				world.setBlock(x, y, z-1, Blocks.flowing_lava);
-				ReikaSoundHelper.playSoundAtBlock(world, x, y, z, "random.fizz", 0.4F, 1F);
-			}
+	public boolean canAccept(Fluid f) {
+		return amount == 0 || f.equals(fluid);
+	}
 
-			boolean hot = Tamb >= 300;
-			hot = hot || ReikaWorldHelper.checkForAdjMaterial(world, x, y, z, Material.fire) != null;
-			hot = hot || ReikaWorldHelper.checkForAdjMaterial(world, x, y, z, Material.lava) != null;
-			if (hot) {
-				boolean flammable = f.equals(FluidRegistry.getFluid("rc ethanol")) || f.equals(FluidRegistry.getFluid("rc jet fuel"));
-				flammable = flammable || f.equals(FluidRegistry.getFluid("oil")) || f.equals(FluidRegistry.getFluid("fuel"));
-				flammable = flammable || f.equals(FluidRegistry.getFluid("ethanol")) || f.equals(FluidRegistry.getFluid("creosote"));
-				flammable = flammable || f.equals(FluidRegistry.getFluid("biofuel")) || f.equals(FluidRegistry.getFluid("bioethanol"));
-				if (flammable) {
-					world.setBlockToAir(x, y, z);
-					world.newExplosion(null, x+0.5, y+0.5, z+0.5, 4, true, true);
-				}
-			}
+	public boolean canDrain(Fluid f) {
+		return amount > 0 && (f == null || f.equals(fluid));
+	}
+
+	/** Returns the amount accepted. */
+	public int fill(Fluid f, int amt, boolean doFill) {
+		if (f == null || !this.canAccept(f))
+			return 0;
+		int add = Math.min(amt, this.getCapacity()-amount);
+		if (add > 0 && doFill) {
+			amount += add;
+			fluid = f;
 		}
+		return Math.max(0, add);
 	}
 
-	public Fluid getFluid() {
-		Coordinate c = blocks.getNthBlock(0);
-		if (c == null)
-			return null;
-		TileEntity te = c.getTileEntity(world);
-		if (te instanceof TileEntityReservoir) {
-			return ((TileEntityReservoir)te).getFluid();
+	/** Returns the amount removed. */
+	public int drain(int amt, boolean doDrain) {
+		int rem = Math.min(amt, amount);
+		if (rem > 0 && doDrain) {
+			amount -= rem;
+			//an empty pool may now join a neighbour holding some other fluid, so break it up and let the members rebuild
+			if (amount == 0)
+				this.dissolve();
 		}
-		return null;
+		return Math.max(0, rem);
 	}
 
-	public int getTotalAmount() {
-		int amt = 0;
-		for (Coordinate c : blocks.keySet()) {
-			TileEntity te = c.getTileEntity(world);
-			if (te instanceof TileEntityReservoir) {
-				amt += ((TileEntityReservoir)te).getLevel();
-			}
+	/** Sets the given member's share to the given amount, such as when something empties or fills a single reservoir. */
+	public void setLevel(TileEntityReservoir te, int amt, Fluid f) {
+		int old = this.getLevel(te);
+		if (amt <= 0 || f == null) {
+			this.drain(old, true);
+		}
+		else if (this.canAccept(f)) {
+			amount = Math.min(this.getCapacity(), amount+amt-old);
+			fluid = f;
 		}
-		return amt;
 	}
-	 */
+
 }
@@ -0,0 +1,283 @@
+/*******************************************************************************
+ * @author Reika Kalseki
+ *
+ * Copyright 2017
+ *
+ * All rights reserved.
+ * Distribution of the software in any form is only allowed with
+ * explicit, prior permission from the owner.
+ ******************************************************************************/
+package Reika.RotaryCraft.Auxiliary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.WeakHashMap;
+
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import Reika.RotaryCraft.API.Power.ShaftMerger;
+import Reika.RotaryCraft.Auxiliary.Interfaces.PowerSourceTracker;
+
+/** Per-world cache of the power source lookups done by {@link PowerSourceList#getAllFrom}. Every coordinate visited by a lookup gets an entry,
+ * and each lookup records which enclosing lookup asked for it, so a block change at any visited coordinate is exactly the set of changes that
+ * can alter a cached result; such a change drops that coordinate and everything downstream of it, which is then rebuilt lazily by the next
+ * lookups. State that does not come with a block change (clutches, rifts relinking) is covered by a short maximum entry age. */
+public class DrivetrainGraph {
+
+	private static final WeakHashMap<World, DrivetrainGraph> serverGraphs = new WeakHashMap();
+	private static final WeakHashMap<World, DrivetrainGraph> clientGraphs = new WeakHashMap();
+
+	/** In ticks. */
+	private static final int MAX_AGE = 20;
+	/** In ticks; how often expired entries and the links of lookups no longer cached are dropped. */
+	private static final int SWEEP_INTERVAL = 200;
+
+	private final HashMap<Long, CachedSources> nodes = new HashMap();
+	/** Coordinate to the coordinates whose lookups asked for it, and so are downstream of it. */
+	private final HashMap<Long, HashSet<Long>> dependents = new HashMap();
+	private final HashMap<Long, HashSet<Long>> chunks = new HashMap();
+
+	/** The coordinates of the lookups currently running, innermost last. */
+	private long[] lookupStack = new long[16];
+	private int lookupDepth;
+
+	private long lookups;
+	private long hits;
+	private long rebuilds;
+	private int invalidations;
+	private long droppedNodes;
+	private long lastSweep;
+
+	private DrivetrainGraph() {
+
+	}
+
+	public static DrivetrainGraph getGraph(World world) {
+		WeakHashMap<World, DrivetrainGraph> map = world.isRemote ? clientGraphs : serverGraphs;
+		DrivetrainGraph g = map.get(world);
+		if (g == null) {
+			g = new DrivetrainGraph();
+			map.put(world, g);
+		}
+		return g;
+	}
+
+	private static DrivetrainGraph getExistingGraph(World world) {
+		return (world.isRemote ? clientGraphs : serverGraphs).get(world);
+	}
+
+	/** The cached lookups hold the world's tiles, which would otherwise keep the world from ever being collected. */
+	public static void onWorldUnload(World world) {
+		(world.isRemote ? clientGraphs : serverGraphs).remove(world);
+	}
+
+	/** Call when the block or the IO configuration at a coordinate has changed. */
+	public static void onBlockChange(World world, int x, int y, int z) {
+		DrivetrainGraph g = getExistingGraph(world);
+		if (g != null && !g.nodes.isEmpty()) {
+			Long key = getNodeKey(x, y, z);
+			if (g.nodes.containsKey(key) || g.dependents.containsKey(key))
+				g.invalidate(key);
+		}
+	}
+
+	public static void onChunkUnload(World world, int cx, int cz) {
+		DrivetrainGraph g = getExistingGraph(world);
+		if (g != null && !g.chunks.isEmpty()) {
+			HashSet<Long> set = g.chunks.get(getChunkKey(cx, cz));
+			if (set != null) {
+				for (Long key : new ArrayList<Long>(set))
+					g.invalidate(key);
+			}
+		}
+	}
+
+	/** For state changes at a coordinate that do not come with a block change, like a generator starting or stopping. */
+	public static void markDirty(World world, int x, int y, int z) {
+		onBlockChange(world, x, y, z);
+	}
+
+	/** Changes every time part of the graph is dropped; results derived from the topology can be keyed on this. */
+	public int getRevision() {
+		return invalidations;
+	}
+
+	/** Drops the coordinate and every coordinate downstream of it. */
+	private void invalidate(Long key) {
+		ArrayList<Long> queue = new ArrayList();
+		queue.add(key);
+		while (!queue.isEmpty()) {
+			Long k = queue.remove(queue.size()-1);
+			if (nodes.remove(k) != null) {
+				droppedNodes++;
+				this.removeFromChunk(k);
+			}
+			HashSet<Long> down = dependents.remove(k); //removing it also keeps loops from being walked twice
+			if (down != null)
+				queue.addAll(down);
+		}
+		invalidations++;
+	}
+
+	/** Must be paired with {@link #exitLookup}; records the enclosing lookup, if any, as depending on this coordinate. */
+	void enterLookup(int x, int y, int z) {
+		long key = getNodeKey(x, y, z);
+		if (lookupDepth > 0) {
+			long parent = lookupStack[lookupDepth-1];
+			if (parent != key) {
+				HashSet<Long> set = dependents.get(key);
+				if (set == null) {
+					set = new HashSet();
+					dependents.put(key, set);
+				}
+				set.add(parent);
+			}
+		}
+		if (lookupDepth == lookupStack.length)
+			lookupStack = Arrays.copyOf(lookupStack, lookupDepth*2);
+		lookupStack[lookupDepth] = key;
+		lookupDepth++;
+	}
+
+	void exitLookup() {
+		lookupDepth--;
+	}
+
+	/** The returned list is shared between all callers and must not be modified. */
+	PowerSourceList getCachedSources(World world, ForgeDirection dir, int x, int y, int z, PowerSourceTracker io, ShaftMerger caller) {
+		lookups++;
+		long time = world.getTotalWorldTime();
+		if (time-lastSweep >= SWEEP_INTERVAL || time < lastSweep) {
+			lastSweep = time;
+			this.sweep(time);
+		}
+		CachedSources c = nodes.get(getNodeKey(x, y, z));
+		while (c != null) {
+			if (c.direction == dir && c.reader == io && c.caller == caller) {
+				if (time-c.creationTime <= MAX_AGE && time >= c.creationTime) {
+					hits++;
+					return c.sources;
+				}
+				return null;
+			}
+			c = c.next;
+		}
+		return null;
+	}
+
+	void cacheSources(World world, ForgeDirection dir, int x, int y, int z, PowerSourceTracker io, ShaftMerger caller, PowerSourceList sources) {
+		rebuilds++;
+		Long key = getNodeKey(x, y, z);
+		CachedSources root = nodes.get(key);
+		CachedSources c = root;
+		while (c != null) {
+			if (c.direction == dir && c.reader == io && c.caller == caller) {
+				c.sources = sources;
+				c.creationTime = world.getTotalWorldTime();
+				return;
+			}
+			c = c.next;
+		}
+		c = new CachedSources(dir, io, caller);
+		c.sources = sources;
+		c.creationTime = world.getTotalWorldTime();
+		c.next = root;
+		nodes.put(key, c);
+		Long chunk = getChunkKey(x >> 4, z >> 4);
+		HashSet<Long> set = chunks.get(chunk);
+		if (set == null) {
+			set = new HashSet();
+			chunks.put(chunk, set);
+		}
+		set.add(key);
+	}
+
+	/** Drops nodes whose every entry has expired, then every link whose downstream lookup is no longer cached, since only a cached result
+	 * needs to hear about changes upstream of it. */
+	private void sweep(long time) {
+		Iterator<Entry<Long, CachedSources>> it = nodes.entrySet().iterator();
+		while (it.hasNext()) {
+			Entry<Long, CachedSources> e = it.next();
+			boolean live = false;
+			for (CachedSources c = e.getValue(); c != null && !live; c = c.next) {
+				live = time-c.creationTime <= MAX_AGE && time >= c.creationTime;
+			}
+			if (!live) {
+				it.remove();
+				droppedNodes++;
+				this.removeFromChunk(e.getKey());
+			}
+		}
+		Iterator<HashSet<Long>> it2 = dependents.values().iterator();
+		while (it2.hasNext()) {
+			HashSet<Long> set = it2.next();
+			set.retainAll(nodes.keySet());
+			if (set.isEmpty())
+				it2.remove();
+		}
+	}
+
+	private void removeFromChunk(Long key) {
+		Long chunk = getChunkKey(PackedCoordinateMap.unpackX(key) >> 4, PackedCoordinateMap.unpackZ(key) >> 4);
+		HashSet<Long> set = chunks.get(chunk);
+		if (set != null) {
+			set.remove(key);
+			if (set.isEmpty())
+				chunks.remove(chunk);
+		}
+	}
+
+	private static long getNodeKey(int x, int y, int z) {
+		return PackedCoordinateMap.pack(x, y, z);
+	}
+
+	private static long getChunkKey(int cx, int cz) {
+		return ((long)cx << 32) | (cz & 0xFFFFFFFFL);
+	}
+
+	public ArrayList<String> getMessages() {
+		ArrayList<String> li = new ArrayList();
+		int size = 0;
+		for (CachedSources c : nodes.values()) {
+			while (c != null) {
+				size++;
+				c = c.next;
+			}
+		}
+		li.add(nodes.size()+" nodes, "+size+" cached lookups across "+chunks.size()+" chunks");
+		li.add(rebuilds+" rebuilds, "+invalidations+" invalidations dropping "+droppedNodes+" nodes");
+		double ratio = lookups > 0 ? hits*100D/lookups : 0;
+		li.add(hits+"/"+lookups+" lookups served from cache ("+String.format("%.1f", ratio)+"%)");
+		return li;
+	}
+
+	public static Map<World, DrivetrainGraph> getServerGraphs() {
+		return serverGraphs;
+	}
+
+	private static class CachedSources {
+
+		private final ForgeDirection direction;
+		private final PowerSourceTracker reader;
+		private final ShaftMerger caller;
+
+		private PowerSourceList sources;
+		private long creationTime;
+
+		private CachedSources next;
+
+		private CachedSources(ForgeDirection dir, PowerSourceTracker io, ShaftMerger sm) {
+			direction = dir;
+			reader = io;
+			caller = sm;
+		}
+
+	}
+
+}
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * @author Reika Kalseki
+ *
+ * Copyright 2017
+ *
+ * All rights reserved.
+ * Distribution of the software in any form is only allowed with
+ * explicit, prior permission from the owner.
+ ******************************************************************************/
+package Reika.RotaryCraft.Auxiliary;
+
+import java.util.Map.Entry;
+
+import net.minecraft.command.ICommandSender;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.util.EnumChatFormatting;
+import net.minecraft.world.World;
+
+import Reika.DragonAPI.Command.DragonCommandBase;
+import Reika.DragonAPI.Libraries.IO.ReikaChatHelper;
+import Reika.RotaryCraft.Base.TileEntity.TileEntityPowerReceiver;
+
+public class DrivetrainGraphCommand extends DragonCommandBase {
+
+	@Override
+	public void processCommand(ICommandSender ics, String[] args) {
+		EntityPlayerMP ep = this.getCommandSenderAsPlayer(ics);
+		ReikaChatHelper.sendChatToPlayer(ep, "Drivetrain sync:");
+		for (String s : DrivetrainSyncBatcher.instance.getMessages())
+			ReikaChatHelper.sendChatToPlayer(ep, "  "+s);
+		ReikaChatHelper.sendChatToPlayer(ep, "Receiver power input:");
+		for (String s : TileEntityPowerReceiver.getPushMessages())
+			ReikaChatHelper.sendChatToPlayer(ep, "  "+s);
+		if (DrivetrainGraph.getServerGraphs().isEmpty()) {
+			ReikaChatHelper.sendChatToPlayer(ep, EnumChatFormatting.RED+"No drivetrain graphs have been built.");
+			return;
+		}
+		for (Entry<World, DrivetrainGraph> e : DrivetrainGraph.getServerGraphs().entrySet()) {
+			World world = e.getKey();
+			ReikaChatHelper.sendChatToPlayer(ep, "Drivetrain graph for world '"+world.provider.getDimensionName()+"' (DIM"+world.provider.dimensionId+"):");
+			for (String s : e.getValue().getMessages())
+				ReikaChatHelper.sendChatToPlayer(ep, "  "+s);
+		}
+	}
+
+	@Override
+	public String getCommandString() {
+		return "rcdrivetrain";
+	}
+
+	@Override
+	protected boolean isAdminOnly() {
+		return true;
+	}
+
+}
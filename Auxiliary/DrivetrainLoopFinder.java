@@ -0,0 +1,309 @@
+/*******************************************************************************
+ * @author Reika Kalseki
+ *
+ * Copyright 2017
+ *
+ * All rights reserved.
+ * Distribution of the software in any form is only allowed with
+ * explicit, prior permission from the owner.
+ ******************************************************************************/
+package Reika.RotaryCraft.Auxiliary;
+
+import java.util.ArrayList;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import Reika.ChromatiCraft.API.Interfaces.WorldRift;
+import Reika.DragonAPI.Instantiable.Data.Immutable.Coordinate;
+import Reika.DragonAPI.Instantiable.Data.Immutable.WorldLocation;
+import Reika.RotaryCraft.API.Power.ShaftMerger;
+import Reika.RotaryCraft.Base.TileEntity.TileEntityIOMachine;
+import Reika.RotaryCraft.TileEntities.Transmission.TileEntityBeltHub;
+import Reika.RotaryCraft.TileEntities.Transmission.TileEntityShaft;
+import Reika.RotaryCraft.TileEntities.Transmission.TileEntitySplitter;
+
+/** Walks a drivetrain upstream along read directions, belts and WorldRift links with an explicit stack instead of recursion, so arbitrarily
+ * long shaft lines cannot overflow the stack. Any cycle found on the way is a power loop; {@link PowerSourceList#getAllFrom} would recurse
+ * forever on it. The buffers are kept between runs, so a search only allocates when it grows past its previous depth or reports a loop. */
+public final class DrivetrainLoopFinder {
+
+	private static final DrivetrainLoopFinder server = new DrivetrainLoopFinder();
+	private static final DrivetrainLoopFinder client = new DrivetrainLoopFinder();
+
+	private static final byte ON_PATH = 1;
+	private static final byte DONE = 2;
+
+	/** Branch bit used for the receiving end of a belt, whose input is the other hub rather than an adjacent block. */
+	private static final int BELT_BRANCH = 4;
+
+	/** Guards against rifts linked into each other. */
+	private static final int MAX_RIFT_HOPS = 16;
+
+	private final PackedCoordinateMap states = new PackedCoordinateMap(256);
+
+	private int[] nodeX = new int[64];
+	private int[] nodeY = new int[64];
+	private int[] nodeZ = new int[64];
+	private byte[] nodeBranches = new byte[64];
+	private TileEntityIOMachine[] nodeTile = new TileEntityIOMachine[64];
+	private int depth;
+
+	private boolean allBedrock;
+	private boolean loopsThroughStart;
+	private int visited;
+
+	private DrivetrainLoopFinder() {
+
+	}
+
+	public static DrivetrainLoopFinder getFinder(World world) {
+		return world.isRemote ? client : server;
+	}
+
+	/** Returns true if anything upstream of the given machine is looped; stops at the first loop found. */
+	public boolean isLooping(TileEntityIOMachine start) {
+		return this.search(start, null, false);
+	}
+
+	/** Returns true if anything upstream of the given machine is looped, but keeps searching until it finds a loop through the machine
+	 * itself or runs out; {@link #wasLoopThroughStart} then tells which. */
+	public boolean isLoopingThrough(TileEntityIOMachine start) {
+		return this.search(start, null, true);
+	}
+
+	/** Returns every loop upstream of the given machine, each with its member coordinates. */
+	public ArrayList<DrivetrainLoop> findLoops(TileEntityIOMachine start) {
+		ArrayList<DrivetrainLoop> li = new ArrayList();
+		this.search(start, li, false);
+		return li;
+	}
+
+	/** Whether the last search found a loop passing through the machine it started from. */
+	public boolean wasLoopThroughStart() {
+		return loopsThroughStart;
+	}
+
+	/** Whether every merger seen in the last search was a bedrock splitter. */
+	public boolean wasAllBedrock() {
+		return allBedrock;
+	}
+
+	/** The number of distinct machines seen in the last search. */
+	public int getVisitedCount() {
+		return visited;
+	}
+
+	private boolean search(TileEntityIOMachine start, ArrayList<DrivetrainLoop> loops, boolean needStart) {
+		World world = start.worldObj;
+		boolean found = false;
+		states.clear();
+		depth = 0;
+		visited = 0;
+		allBedrock = true;
+		loopsThroughStart = false;
+		this.push(start, start.xCoord, start.yCoord, start.zCoord, false, 0, 0, 0);
+
+		while (depth > 0) {
+			int i = depth-1;
+			int branches = nodeBranches[i];
+			if (branches == 0) {
+				states.put(PackedCoordinateMap.pack(nodeX[i], nodeY[i], nodeZ[i]), DONE);
+				nodeTile[i] = null;
+				depth--;
+				continue;
+			}
+			int b = Integer.numberOfTrailingZeros(branches);
+			nodeBranches[i] = (byte)(branches & ~(1 << b));
+
+			TileEntityIOMachine te = nodeTile[i];
+			int x;
+			int y;
+			int z;
+			ForgeDirection dir = null;
+			if (b == BELT_BRANCH) {
+				Coordinate c = ((TileEntityBeltHub)te).getConnection();
+				if (c == null)
+					continue;
+				x = c.xCoord;
+				y = c.yCoord;
+				z = c.zCoord;
+			}
+			else {
+				dir = this.getReadDirection(te, b);
+				x = nodeX[i]+dir.offsetX+te.getPointingOffsetX();
+				y = nodeY[i]+dir.offsetY+te.getPointingOffsetY();
+				z = nodeZ[i]+dir.offsetZ+te.getPointingOffsetZ();
+			}
+
+			TileEntity tile = world.getTileEntity(x, y, z);
+			int hops = 0;
+			while (dir != null && tile instanceof WorldRift && hops < MAX_RIFT_HOPS) {
+				WorldLocation loc = ((WorldRift)tile).getLinkTarget();
+				if (loc == null) {
+					tile = null;
+					break;
+				}
+				x = loc.xCoord+dir.offsetX;
+				y = loc.yCoord+dir.offsetY;
+				z = loc.zCoord+dir.offsetZ;
+				tile = world.getTileEntity(x, y, z);
+				hops++;
+			}
+			if (!(tile instanceof TileEntityIOMachine))
+				continue;
+
+			TileEntityIOMachine io = (TileEntityIOMachine)tile;
+			//the machine must output into the block it was reached from, which for rifts is the linked rift
+			int tx = dir != null ? x-dir.offsetX : 0;
+			int ty = dir != null ? y-dir.offsetY : 0;
+			int tz = dir != null ? z-dir.offsetZ : 0;
+			if (dir != null && !io.isWritingToCoordinate(tx, ty, tz) && !io.isWritingToCoordinate2(tx, ty, tz))
+				continue;
+
+			byte state = states.get(PackedCoordinateMap.pack(x, y, z));
+			if (state == ON_PATH) {
+				found = true;
+				//the start stays on the path for the whole search, so every loop through it closes on it
+				boolean atStart = x == start.xCoord && y == start.yCoord && z == start.zCoord;
+				if (atStart)
+					loopsThroughStart = true;
+				if (loops == null) {
+					if (!needStart || atStart)
+						return true;
+				}
+				else {
+					loops.add(this.createLoop(x, y, z));
+				}
+			}
+			else if (state != DONE) {
+				this.push(io, x, y, z, dir != null, tx, ty, tz);
+			}
+		}
+		return found;
+	}
+
+	private void push(TileEntityIOMachine te, int x, int y, int z, boolean hasTarget, int tx, int ty, int tz) {
+		if (depth == nodeX.length)
+			this.grow();
+		nodeX[depth] = x;
+		nodeY[depth] = y;
+		nodeZ[depth] = z;
+		nodeTile[depth] = te;
+		nodeBranches[depth] = this.getBranches(te, hasTarget, tx, ty, tz);
+		depth++;
+		visited++;
+		states.put(PackedCoordinateMap.pack(x, y, z), ON_PATH);
+		if (te instanceof ShaftMerger) {
+			if (!(te instanceof TileEntitySplitter) || !((TileEntitySplitter)te).isBedrock())
+				allBedrock = false;
+		}
+	}
+
+	private byte getBranches(TileEntityIOMachine te, boolean hasTarget, int tx, int ty, int tz) {
+		if (te instanceof TileEntityBeltHub && ((TileEntityBeltHub)te).isReceivingEnd)
+			return 1 << BELT_BRANCH;
+		if (hasTarget && te instanceof TileEntityShaft && ((TileEntityShaft)te).isCross()) {
+			//the two axes of a cross shaft are independent
+			return (byte)(te.isWritingToCoordinate(tx, ty, tz) ? 1 : 2);
+		}
+		int ret = 0;
+		for (int i = 0; i < 4; i++) {
+			if (this.getReadDirection(te, i) != null)
+				ret |= 1 << i;
+		}
+		return (byte)ret;
+	}
+
+	private ForgeDirection getReadDirection(TileEntityIOMachine te, int idx) {
+		switch(idx) {
+			case 0:
+				return te.getReadDirection();
+			case 1:
+				return te.getReadDirection2();
+			case 2:
+				return te.getReadDirection3();
+			case 3:
+				return te.getReadDirection4();
+			default:
+				return null;
+		}
+	}
+
+	private void grow() {
+		int len = nodeX.length*2;
+		int[] x = new int[len];
+		int[] y = new int[len];
+		int[] z = new int[len];
+		byte[] b = new byte[len];
+		TileEntityIOMachine[] t = new TileEntityIOMachine[len];
+		System.arraycopy(nodeX, 0, x, 0, depth);
+		System.arraycopy(nodeY, 0, y, 0, depth);
+		System.arraycopy(nodeZ, 0, z, 0, depth);
+		System.arraycopy(nodeBranches, 0, b, 0, depth);
+		System.arraycopy(nodeTile, 0, t, 0, depth);
+		nodeX = x;
+		nodeY = y;
+		nodeZ = z;
+		nodeBranches = b;
+		nodeTile = t;
+	}
+
+	private DrivetrainLoop createLoop(int x, int y, int z) {
+		int from = depth-1;
+		while (from > 0 && (nodeX[from] != x || nodeY[from] != y || nodeZ[from] != z))
+			from--;
+		int[] coords = new int[(depth-from)*3];
+		boolean bedrock = true;
+		boolean merger = false;
+		for (int i = from; i < depth; i++) {
+			int n = (i-from)*3;
+			coords[n] = nodeX[i];
+			coords[n+1] = nodeY[i];
+			coords[n+2] = nodeZ[i];
+			if (nodeTile[i] instanceof ShaftMerger) {
+				merger = true;
+				if (!(nodeTile[i] instanceof TileEntitySplitter) || !((TileEntitySplitter)nodeTile[i]).isBedrock())
+					bedrock = false;
+			}
+		}
+		return new DrivetrainLoop(coords, merger && bedrock);
+	}
+
+	public static final class DrivetrainLoop {
+
+		/** Packed as consecutive x, y, z triples, in upstream order. */
+		private final int[] members;
+
+		/** True if every merger in the loop is a bedrock splitter. */
+		public final boolean isBedrock;
+
+		private DrivetrainLoop(int[] coords, boolean bedrock) {
+			members = coords;
+			isBedrock = bedrock;
+		}
+
+		public int size() {
+			return members.length/3;
+		}
+
+		public Coordinate getMember(int i) {
+			return new Coordinate(members[i*3], members[i*3+1], members[i*3+2]);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder();
+			sb.append(this.size()+"-machine "+(isBedrock ? "bedrock " : "")+"loop: ");
+			for (int i = 0; i < this.size(); i++) {
+				if (i > 0)
+					sb.append(" <- ");
+				sb.append("["+members[i*3]+", "+members[i*3+1]+", "+members[i*3+2]+"]");
+			}
+			return sb.toString();
+		}
+
+	}
+
+}
@@ -0,0 +1,368 @@
+/*******************************************************************************
+ * @author Reika Kalseki
+ *
+ * Copyright 2017
+ *
+ * All rights reserved.
+ * Distribution of the software in any form is only allowed with
+ * explicit, prior permission from the owner.
+ ******************************************************************************/
+package Reika.RotaryCraft.Auxiliary;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+
+import Reika.DragonAPI.Instantiable.IO.PacketTarget;
+import Reika.DragonAPI.Libraries.IO.ReikaPacketHelper;
+import Reika.RotaryCraft.RotaryCraft;
+import Reika.RotaryCraft.Base.TileEntity.TileEntityIOMachine;
+import Reika.RotaryCraft.Registry.PacketRegistry;
+
+/** Sends the torque, speed and power of drivetrain machines to clients as per-chunk batches of changed fields, each entry a bitmask followed
+ * by varints, instead of through the NBT sync tag. A player who starts watching a chunk is sent the full state of its machines once, so
+ * clients never have to ask for it. The IO directions and pointing offsets stay on the NBT sync path. */
+public class DrivetrainSyncBatcher {
+
+	public static final DrivetrainSyncBatcher instance = new DrivetrainSyncBatcher();
+
+	/** In ticks. */
+	private static final int SYNC_INTERVAL = 5;
+	private static final int SYNC_RANGE = 64;
+
+	private static final int TORQUE = 1;
+	private static final int OMEGA = 2;
+	/** Only sent when power is not simply torque times speed. */
+	private static final int POWER = 4;
+	private static final int IOTICK = 8;
+
+	/** What the old NBT sync tag cost per machine: torque, omega, power, io, six directions, omni and three offsets. */
+	private static final int NBT_SYNC_SIZE = intTagSize("torque")+intTagSize("omega")+longTagSize("power")+intTagSize("io")+
+			intTagSize("read1")*4+intTagSize("write1")*2+booleanTagSize("omni")+intTagSize("pox")*3;
+
+	private final ArrayList<SyncEntry> tracked = new ArrayList();
+	private final HashMap<Long, ArrayList<SyncEntry>> batches = new HashMap();
+	/** The tracked entries by chunk, for sending a chunk's full state to a player who starts watching it. */
+	private final HashMap<Long, ArrayList<SyncEntry>> byChunk = new HashMap();
+
+	private byte[] buffer = new byte[256];
+	private int length;
+
+	private int tick;
+
+	private long bytesSent;
+	private long bytesSaved;
+	private long packetsSent;
+	private long sampledTicks;
+
+	private DrivetrainSyncBatcher() {
+
+	}
+
+	public SyncEntry track(TileEntityIOMachine te) {
+		SyncEntry e = new SyncEntry(te);
+		tracked.add(e);
+		Long key = getBatchKey(te.worldObj, te.xCoord >> 4, te.zCoord >> 4);
+		ArrayList<SyncEntry> li = byChunk.get(key);
+		if (li == null) {
+			li = new ArrayList();
+			byChunk.put(key, li);
+		}
+		li.add(e);
+		return e;
+	}
+
+	private void removeFromChunk(SyncEntry e) {
+		Long key = getBatchKey(e.tile.worldObj, e.tile.xCoord >> 4, e.tile.zCoord >> 4);
+		ArrayList<SyncEntry> li = byChunk.get(key);
+		if (li != null) {
+			li.remove(e);
+			if (li.isEmpty())
+				byChunk.remove(key);
+		}
+	}
+
+	/** Sends the full power state of every machine in the chunk to a player who has just been sent the chunk. */
+	public void onChunkWatched(EntityPlayerMP ep, int cx, int cz) {
+		ArrayList<SyncEntry> li = byChunk.get(getBatchKey(ep.worldObj, cx, cz));
+		if (li != null && !li.isEmpty())
+			this.sendBatch(li, ep);
+	}
+
+	/** For machines that are broken or unloaded; the entry is dropped from the list on the next sync cycle. */
+	public void untrack(SyncEntry e) {
+		e.removed = true;
+	}
+
+	public void onWorldUnload(World world) {
+		Iterator<SyncEntry> it = tracked.iterator();
+		while (it.hasNext()) {
+			SyncEntry e = it.next();
+			if (e.removed || e.tile.worldObj == world) {
+				e.removed = true;
+				it.remove();
+				this.removeFromChunk(e);
+			}
+		}
+		batches.clear();
+	}
+
+	public void tick() {
+		tick++;
+		if (tick%SYNC_INTERVAL != 0)
+			return;
+		sampledTicks += SYNC_INTERVAL;
+		Iterator<SyncEntry> it = tracked.iterator();
+		while (it.hasNext()) {
+			SyncEntry e = it.next();
+			TileEntityIOMachine te = e.tile;
+			if (e.removed || te.isInvalid() || te.worldObj == null) {
+				e.removed = true;
+				it.remove();
+				this.removeFromChunk(e);
+				continue;
+			}
+			int mask = e.getChangeMask();
+			if (mask != 0) {
+				e.pendingMask = mask;
+				Long key = getBatchKey(te.worldObj, te.xCoord >> 4, te.zCoord >> 4);
+				ArrayList<SyncEntry> li = batches.get(key);
+				if (li == null) {
+					li = new ArrayList();
+					batches.put(key, li);
+				}
+				li.add(e);
+			}
+			e.lastIO = te.iotick;
+		}
+		if (!batches.isEmpty()) {
+			for (ArrayList<SyncEntry> li : batches.values()) {
+				if (!li.isEmpty()) {
+					this.sendBatch(li, null);
+					li.clear();
+				}
+			}
+		}
+	}
+
+	private static long getBatchKey(World world, int cx, int cz) {
+		return ((long)world.provider.dimensionId << 42) ^ (((long)cx & 0x1FFFFFL) << 21) ^ (cz & 0x1FFFFFL);
+	}
+
+	/** Sends the pending changes to everyone nearby, or with a player given, everything to just that player. */
+	private void sendBatch(ArrayList<SyncEntry> li, EntityPlayerMP ep) {
+		TileEntityIOMachine ref = li.get(0).tile;
+		length = 0;
+		this.writeVarInt(zigzag(ref.xCoord >> 4));
+		this.writeVarInt(zigzag(ref.zCoord >> 4));
+		this.writeVarInt(li.size());
+		for (SyncEntry e : li) {
+			TileEntityIOMachine te = e.tile;
+			int mask = ep != null ? e.getFullMask() : e.pendingMask;
+			this.writeByte(((te.xCoord & 15) << 4) | (te.zCoord & 15));
+			this.writeVarInt(te.yCoord);
+			this.writeByte(mask);
+			if ((mask & TORQUE) != 0)
+				this.writeVarInt(zigzag(te.torque));
+			if ((mask & OMEGA) != 0)
+				this.writeVarInt(zigzag(te.omega));
+			if ((mask & POWER) != 0)
+				this.writeVarLong(te.power);
+			if ((mask & IOTICK) != 0)
+				this.writeVarInt(zigzag(te.iotick));
+			if (ep == null)
+				e.markSent();
+		}
+
+		ArrayList<Integer> data = new ArrayList();
+		data.add(length);
+		for (int i = 0; i < length; i += 4) {
+			int val = 0;
+			for (int k = 0; k < 4; k++) {
+				int b = i+k < length ? buffer[i+k] & 0xFF : 0;
+				val |= b << (k*8);
+			}
+			data.add(val);
+		}
+		int x = ((ref.xCoord >> 4) << 4)+8;
+		int z = ((ref.zCoord >> 4) << 4)+8;
+		PacketTarget pt = ep != null ? new PacketTarget.PlayerTarget(ep) : new PacketTarget.RadiusTarget(ref.worldObj, x, ref.yCoord, z, SYNC_RANGE);
+		ReikaPacketHelper.sendDataPacket(RotaryCraft.packetChannel, PacketRegistry.DRIVETRAINSYNC.ordinal(), pt, data);
+
+		int sent = data.size()*4;
+		packetsSent++;
+		bytesSent += sent;
+		bytesSaved += li.size()*NBT_SYNC_SIZE-sent;
+	}
+
+	public static void receive(World world, int[] data) {
+		int len = data[0];
+		byte[] raw = new byte[len];
+		for (int i = 0; i < len; i++) {
+			raw[i] = (byte)(data[1+i/4] >> ((i%4)*8));
+		}
+		int[] pos = new int[]{0};
+		int cx = unzigzag(readVarInt(raw, pos));
+		int cz = unzigzag(readVarInt(raw, pos));
+		int n = readVarInt(raw, pos);
+		for (int i = 0; i < n; i++) {
+			int xz = raw[pos[0]++] & 0xFF;
+			int x = (cx << 4) | (xz >> 4);
+			int z = (cz << 4) | (xz & 15);
+			int y = readVarInt(raw, pos);
+			int mask = raw[pos[0]++] & 0xFF;
+			int torque = (mask & TORQUE) != 0 ? unzigzag(readVarInt(raw, pos)) : 0;
+			int omega = (mask & OMEGA) != 0 ? unzigzag(readVarInt(raw, pos)) : 0;
+			long power = (mask & POWER) != 0 ? readVarLong(raw, pos) : 0;
+			int io = (mask & IOTICK) != 0 ? unzigzag(readVarInt(raw, pos)) : 0;
+			TileEntity tile = world.getTileEntity(x, y, z);
+			if (tile instanceof TileEntityIOMachine) {
+				TileEntityIOMachine te = (TileEntityIOMachine)tile;
+				if ((mask & TORQUE) != 0)
+					te.torque = Math.max(0, torque);
+				if ((mask & OMEGA) != 0)
+					te.omega = Math.max(0, omega);
+				te.power = (mask & POWER) != 0 ? power : (long)te.torque*(long)te.omega;
+				if ((mask & IOTICK) != 0)
+					te.iotick = io;
+			}
+		}
+	}
+
+	private void writeByte(int b) {
+		if (length == buffer.length) {
+			byte[] b2 = new byte[buffer.length*2];
+			System.arraycopy(buffer, 0, b2, 0, length);
+			buffer = b2;
+		}
+		buffer[length++] = (byte)b;
+	}
+
+	private void writeVarInt(int val) {
+		while ((val & ~0x7F) != 0) {
+			this.writeByte((val & 0x7F) | 0x80);
+			val >>>= 7;
+		}
+		this.writeByte(val);
+	}
+
+	private void writeVarLong(long val) {
+		while ((val & ~0x7FL) != 0) {
+			this.writeByte((int)(val & 0x7F) | 0x80);
+			val >>>= 7;
+		}
+		this.writeByte((int)val);
+	}
+
+	private static int readVarInt(byte[] raw, int[] pos) {
+		int val = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = raw[pos[0]++];
+			val |= (b & 0x7F) << shift;
+			shift += 7;
+		} while ((b & 0x80) != 0);
+		return val;
+	}
+
+	private static long readVarLong(byte[] raw, int[] pos) {
+		long val = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = raw[pos[0]++];
+			val |= (long)(b & 0x7F) << shift;
+			shift += 7;
+		} while ((b & 0x80) != 0);
+		return val;
+	}
+
+	private static int zigzag(int val) {
+		return (val << 1) ^ (val >> 31);
+	}
+
+	private static int unzigzag(int val) {
+		return (val >>> 1) ^ -(val & 1);
+	}
+
+	private static int intTagSize(String name) {
+		return 3+name.length()+4;
+	}
+
+	private static int longTagSize(String name) {
+		return 3+name.length()+8;
+	}
+
+	private static int booleanTagSize(String name) {
+		return 3+name.length()+1;
+	}
+
+	public ArrayList<String> getMessages() {
+		ArrayList<String> li = new ArrayList();
+		li.add(tracked.size()+" machines tracked, "+packetsSent+" batch packets sent");
+		if (sampledTicks > 0) {
+			li.add(String.format("%.1f bytes/tick sent, %.1f bytes/tick saved versus NBT sync", bytesSent/(double)sampledTicks, bytesSaved/(double)sampledTicks));
+		}
+		return li;
+	}
+
+	public static final class SyncEntry {
+
+		private final TileEntityIOMachine tile;
+
+		private int lastTorque = -1;
+		private int lastOmega = -1;
+		private long lastPower = -1;
+		private int lastIO;
+
+		private int pendingMask;
+		private boolean forceFull = true;
+		private boolean removed;
+
+		private SyncEntry(TileEntityIOMachine te) {
+			tile = te;
+		}
+
+		public boolean isRemoved() {
+			return removed;
+		}
+
+		private int getChangeMask() {
+			int mask = 0;
+			if (forceFull || tile.torque != lastTorque)
+				mask |= TORQUE;
+			if (forceFull || tile.omega != lastOmega)
+				mask |= OMEGA;
+			if (forceFull || tile.iotick > lastIO) //it otherwise counts down identically on both sides
+				mask |= IOTICK;
+			//the client derives power from torque and speed unless told otherwise
+			boolean explicit = tile.power != (long)tile.torque*(long)tile.omega;
+			if (explicit && (mask != 0 || tile.power != lastPower))
+				mask |= POWER;
+			else if (!explicit && tile.power != lastPower)
+				mask |= TORQUE;
+			return mask;
+		}
+
+		private int getFullMask() {
+			int mask = TORQUE | OMEGA | IOTICK;
+			if (tile.power != (long)tile.torque*(long)tile.omega)
+				mask |= POWER;
+			return mask;
+		}
+
+		private void markSent() {
+			lastTorque = tile.torque;
+			lastOmega = tile.omega;
+			lastPower = tile.power;
+			forceFull = false;
+		}
+
+	}
+
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * @author Reika Kalseki
+ *
+ * Copyright 2017
+ *
+ * All rights reserved.
+ * Distribution of the software in any form is only allowed with
+ * explicit, prior permission from the owner.
+ ******************************************************************************/
+package Reika.RotaryCraft.Auxiliary;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldSavedData;
+
+/** The non-RotaryCraft tiles knocked out by an EMP in one dimension, saved with that dimension. RotaryCraft machines store their own flag. */
+public class EMPShutdownData extends WorldSavedData {
+
+	private static final String IDENTIFIER = "RotaryCraft_EMPShutdown";
+
+	private final PackedCoordinateMap locations = new PackedCoordinateMap();
+
+	public EMPShutdownData() {
+		this(IDENTIFIER);
+	}
+
+	public EMPShutdownData(String s) {
+		super(s);
+	}
+
+	public static EMPShutdownData getFor(World world) {
+		EMPShutdownData data = (EMPShutdownData)world.perWorldStorage.loadData(EMPShutdownData.class, IDENTIFIER);
+		if (data == null) {
+			data = new EMPShutdownData();
+			world.perWorldStorage.setData(IDENTIFIER, data);
+		}
+		return data;
+	}
+
+	public boolean contains(int x, int y, int z) {
+		return locations.containsKey(PackedCoordinateMap.pack(x, y, z));
+	}
+
+	public boolean add(int x, int y, int z) {
+		if (locations.put(PackedCoordinateMap.pack(x, y, z), (byte)1) == 0) {
+			this.markDirty();
+			return true;
+		}
+		return false;
+	}
+
+	public boolean remove(int x, int y, int z) {
+		if (locations.remove(PackedCoordinateMap.pack(x, y, z)) != 0) {
+			this.markDirty();
+			return true;
+		}
+		return false;
+	}
+
+	public int size() {
+		return locations.size();
+	}
+
+	@Override
+	public void readFromNBT(NBTTagCompound NBT) {
+		locations.clear();
+		int[] arr = NBT.getIntArray("locations");
+		for (int i = 0; i+2 < arr.length; i += 3) {
+			locations.put(PackedCoordinateMap.pack(arr[i], arr[i+1], arr[i+2]), (byte)1);
+		}
+	}
+
+	@Override
+	public void writeToNBT(NBTTagCompound NBT) {
+		long[] keys = locations.keyArray();
+		int[] arr = new int[keys.length*3];
+		for (int i = 0; i < keys.length; i++) {
+			arr[i*3] = PackedCoordinateMap.unpackX(keys[i]);
+			arr[i*3+1] = PackedCoordinateMap.unpackY(keys[i]);
+			arr[i*3+2] = PackedCoordinateMap.unpackZ(keys[i]);
+		}
+		NBT.setIntArray("locations", arr);
+	}
+
+}
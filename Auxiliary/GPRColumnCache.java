@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * @author Reika Kalseki
+ *
+ * Copyright 2017
+ *
+ * All rights reserved.
+ * Distribution of the software in any form is only allowed with
+ * explicit, prior permission from the owner.
+ ******************************************************************************/
+package Reika.RotaryCraft.Auxiliary;
+
+import java.util.HashMap;
+import java.util.WeakHashMap;
+
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.World;
+
+import Reika.DragonAPI.Instantiable.Data.Immutable.BlockKey;
+import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
+
+/** Per-world cache of the block columns read by ground penetrating radars, grouped by chunk. Blocks are read lazily and stored as shared
+ * BlockKeys; a block change clears the one cell and bumps the revision of its column, so a radar only has to rescan the columns whose
+ * revision moved. Changes that come without a block event, such as a client receiving a whole chunk, are covered by the chunk load hook and
+ * a maximum column age. */
+public class GPRColumnCache {
+
+	private static final WeakHashMap<World, GPRColumnCache> serverCaches = new WeakHashMap();
+	private static final WeakHashMap<World, GPRColumnCache> clientCaches = new WeakHashMap();
+
+	/** Indexed by block ID, then metadata. */
+	private static final BlockKey[][] interned = new BlockKey[4096][];
+
+	/** In ticks. */
+	private static final int MAX_AGE = 600;
+
+	private final HashMap<Long, Column[]> chunks = new HashMap();
+
+	private int revisions;
+
+	private GPRColumnCache() {
+
+	}
+
+	public static GPRColumnCache getCache(World world) {
+		WeakHashMap<World, GPRColumnCache> map = world.isRemote ? clientCaches : serverCaches;
+		GPRColumnCache c = map.get(world);
+		if (c == null) {
+			c = new GPRColumnCache();
+			map.put(world, c);
+		}
+		return c;
+	}
+
+	private static GPRColumnCache getExistingCache(World world) {
+		return (world.isRemote ? clientCaches : serverCaches).get(world);
+	}
+
+	public static void onBlockChange(World world, int x, int y, int z) {
+		GPRColumnCache c = getExistingCache(world);
+		if (c != null && !c.chunks.isEmpty()) {
+			Column[] arr = c.chunks.get(getChunkKey(x >> 4, z >> 4));
+			if (arr != null) {
+				Column col = arr[getColumnIndex(x, z)];
+				if (col != null)
+					col.onChange(c, y);
+			}
+		}
+	}
+
+	/** Call on both chunk loads and unloads; either way, whatever was cached for the chunk may no longer be what is in the world. */
+	public static void onChunkChange(World world, int cx, int cz) {
+		GPRColumnCache c = getExistingCache(world);
+		if (c != null && !c.chunks.isEmpty()) {
+			c.chunks.remove(getChunkKey(cx, cz));
+		}
+	}
+
+	/** Returns a shared BlockKey for the given block and metadata, instead of allocating a new one per lookup. */
+	public static BlockKey intern(Block b, int meta) {
+		int id = Block.getIdFromBlock(b);
+		if (id < 0 || id >= interned.length || meta < 0 || meta >= 16)
+			return new BlockKey(b, meta);
+		BlockKey[] arr = interned[id];
+		if (arr == null) {
+			arr = new BlockKey[16];
+			interned[id] = arr;
+		}
+		BlockKey bk = arr[meta];
+		if (bk == null || bk.blockID != b) {
+			bk = new BlockKey(b, meta);
+			arr[meta] = bk;
+		}
+		return bk;
+	}
+
+	/** Changes whenever anything in the column may have changed, and is never reused for a different state of any column. */
+	public int getRevision(World world, int x, int z) {
+		return this.getColumn(world, x, z).revision;
+	}
+
+	public BlockKey getBlock(World world, int x, int y, int z) {
+		if (y < 0 || y > 255)
+			return intern(Blocks.air, 0);
+		Column col = this.getColumn(world, x, z);
+		BlockKey bk = col.blocks[y];
+		if (bk == null) {
+			bk = intern(world.getBlock(x, y, z), world.getBlockMetadata(x, y, z));
+			col.blocks[y] = bk;
+		}
+		return bk;
+	}
+
+	/** The number of blocks in the column from the given height down to bedrock that count as open space. */
+	public int countCaveBlocks(World world, int x, int y, int z) {
+		if (y < 0)
+			return 0;
+		int ret = 0;
+		if (y > 255) {
+			if (ReikaWorldHelper.caveBlock(Blocks.air))
+				ret += y-255;
+			y = 255;
+		}
+		Column col = this.getColumn(world, x, z);
+		if (col.caveCounts == null) {
+			int[] counts = new int[256];
+			int n = 0;
+			for (int k = 0; k < 256; k++) {
+				if (ReikaWorldHelper.caveBlock(this.getBlock(world, x, k, z).blockID))
+					n++;
+				counts[k] = n;
+			}
+			col.caveCounts = counts;
+		}
+		return ret+col.caveCounts[y];
+	}
+
+	private Column getColumn(World world, int x, int z) {
+		Long key = getChunkKey(x >> 4, z >> 4);
+		Column[] arr = chunks.get(key);
+		if (arr == null) {
+			arr = new Column[256];
+			chunks.put(key, arr);
+		}
+		int idx = getColumnIndex(x, z);
+		Column col = arr[idx];
+		long time = world.getTotalWorldTime();
+		if (col == null || time-col.creationTime > MAX_AGE || time < col.creationTime) {
+			col = new Column(++revisions, time);
+			arr[idx] = col;
+		}
+		return col;
+	}
+
+	private static long getChunkKey(int cx, int cz) {
+		return ((long)cx << 32) | (cz & 0xFFFFFFFFL);
+	}
+
+	private static int getColumnIndex(int x, int z) {
+		return (x & 15) << 4 | (z & 15);
+	}
+
+	private static final class Column {
+
+		private final BlockKey[] blocks = new BlockKey[256];
+		private final long creationTime;
+
+		private int revision;
+		/** Running totals of cave blocks from y=0 up; built on first use. */
+		private int[] caveCounts;
+
+		private Column(int rev, long time) {
+			revision = rev;
+			creationTime = time;
+		}
+
+		private void onChange(GPRColumnCache c, int y) {
+			if (y >= 0 && y < 256)
+				blocks[y] = null;
+			caveCounts = null;
+			revision = ++c.revisions;
+		}
+
+	}
+
+}
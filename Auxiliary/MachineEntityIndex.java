@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * @author Reika Kalseki
+ *
+ * Copyright 2017
+ *
+ * All rights reserved.
+ * Distribution of the software in any form is only allowed with
+ * explicit, prior permission from the owner.
+ ******************************************************************************/
+package Reika.RotaryCraft.Auxiliary;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.WeakHashMap;
+
+import net.minecraft.command.IEntitySelector;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+/** Per-world, per-tick index of loaded entities, shared by every machine that looks for entities in an area. The first query of a tick for
+ * a given entity class in a given chunk section walks that section's entity list once and keeps the matches with their bounding boxes in a
+ * flat array; every later query for that class and section in the same tick, from any machine, is answered from that array. Only the
+ * sections the query's height range covers are read. Bounding boxes are
+ * those at the time the chunk was indexed, which for tile entities is after all entities have moved for the tick. Entities spawned later in
+ * the tick are not seen until the next one, and entities killed earlier in it are left out. */
+public class MachineEntityIndex {
+
+	private static final WeakHashMap<World, MachineEntityIndex> serverIndices = new WeakHashMap();
+	private static final WeakHashMap<World, MachineEntityIndex> clientIndices = new WeakHashMap();
+
+	private static long queries;
+	private static long chunkScans;
+	private static long chunkReuses;
+	private static int lastTickQueries;
+	private static int lastTickScans;
+	private static int lastTickReuses;
+
+	/** One bucket per chunk section, filled in as queries reach it. */
+	private final HashMap<Long, HashMap<Class, Bucket[]>> chunks = new HashMap();
+	/** Only the server indices are counted in the statistics. */
+	private final boolean isServer;
+
+	private long indexTime = -1;
+	private int tickQueries;
+	private int tickScans;
+	private int tickReuses;
+
+	private MachineEntityIndex(boolean server) {
+		isServer = server;
+	}
+
+	private static MachineEntityIndex getIndex(World world) {
+		WeakHashMap<World, MachineEntityIndex> map = world.isRemote ? clientIndices : serverIndices;
+		MachineEntityIndex idx = map.get(world);
+		if (idx == null) {
+			idx = new MachineEntityIndex(!world.isRemote);
+			map.put(world, idx);
+		}
+		idx.checkTime(world.getTotalWorldTime());
+		return idx;
+	}
+
+	/** Equivalent to {@link World#getEntitiesWithinAABB}, except for the timing noted above. */
+	public static <E extends Entity> List<E> getEntities(World world, Class<E> c, AxisAlignedBB box) {
+		return getEntities(world, c, box, null);
+	}
+
+	/** Equivalent to {@link World#selectEntitiesWithinAABB}, except for the timing noted above. */
+	public static <E extends Entity> List<E> getEntities(World world, Class<E> c, AxisAlignedBB box, IEntitySelector sel) {
+		return getIndex(world).query(world, c, box, sel);
+	}
+
+	/** Drops the world's index, whose entities would otherwise keep the world loaded. */
+	public static void onWorldUnload(World world) {
+		(world.isRemote ? clientIndices : serverIndices).remove(world);
+	}
+
+	private void checkTime(long time) {
+		if (time != indexTime) {
+			if (!chunks.isEmpty())
+				chunks.clear();
+			if (isServer && tickQueries > 0) {
+				lastTickQueries = tickQueries;
+				lastTickScans = tickScans;
+				lastTickReuses = tickReuses;
+			}
+			tickQueries = tickScans = tickReuses = 0;
+			indexTime = time;
+		}
+	}
+
+	private <E extends Entity> List<E> query(World world, Class<E> c, AxisAlignedBB box, IEntitySelector sel) {
+		ArrayList<E> li = new ArrayList();
+		//same chunk span as the vanilla query, which allows for entities sticking out of their chunk
+		int minX = MathHelper.floor_double((box.minX-2)/16D);
+		int maxX = MathHelper.floor_double((box.maxX+2)/16D);
+		int minZ = MathHelper.floor_double((box.minZ-2)/16D);
+		int maxZ = MathHelper.floor_double((box.maxZ+2)/16D);
+		int minY = MathHelper.floor_double((box.minY-2)/16D);
+		int maxY = MathHelper.floor_double((box.maxY+2)/16D);
+		for (int cx = minX; cx <= maxX; cx++) {
+			for (int cz = minZ; cz <= maxZ; cz++) {
+				if (world.getChunkProvider().chunkExists(cx, cz)) {
+					this.collect(world, cx, cz, minY, maxY, c, box, sel, li);
+				}
+			}
+		}
+		tickQueries++;
+		if (isServer)
+			queries++;
+		return li;
+	}
+
+	private void collect(World world, int cx, int cz, int minY, int maxY, Class c, AxisAlignedBB box, IEntitySelector sel, List li) {
+		Chunk ch = world.getChunkFromChunkCoords(cx, cz);
+		//clamped the same way as the vanilla query
+		minY = MathHelper.clamp_int(minY, 0, ch.entityLists.length-1);
+		maxY = MathHelper.clamp_int(maxY, 0, ch.entityLists.length-1);
+		Long key = ((long)cx << 32) | (cz & 0xFFFFFFFFL);
+		HashMap<Class, Bucket[]> map = chunks.get(key);
+		if (map == null) {
+			map = new HashMap();
+			chunks.put(key, map);
+		}
+		Bucket[] sections = map.get(c);
+		if (sections == null) {
+			sections = new Bucket[ch.entityLists.length];
+			map.put(c, sections);
+		}
+		for (int i = minY; i <= maxY; i++) {
+			Bucket b = sections[i];
+			if (b == null) {
+				b = new Bucket(ch.entityLists[i], c);
+				sections[i] = b;
+				tickScans++;
+				if (isServer)
+					chunkScans++;
+			}
+			else {
+				tickReuses++;
+				if (isServer)
+					chunkReuses++;
+			}
+			b.collect(box, sel, li);
+		}
+	}
+
+	public static ArrayList<String> getMessages() {
+		ArrayList<String> li = new ArrayList();
+		li.add(serverIndices.size()+" worlds indexed");
+		li.add("Last tick: "+lastTickQueries+" queries, "+lastTickScans+" section scans, "+lastTickReuses+" section scans saved");
+		li.add("Total: "+queries+" queries, "+chunkScans+" section scans, "+chunkReuses+" section scans saved");
+		return li;
+	}
+
+	private static final class Bucket {
+
+		private final Entity[] entities;
+		/** Six values per entity: the min and max corners of its bounding box. */
+		private final double[] bounds;
+
+		private Bucket(List<Entity> in, Class c) {
+			ArrayList<Entity> li = new ArrayList();
+			for (int k = 0; k < in.size(); k++) {
+				Entity e = in.get(k);
+				if (c.isAssignableFrom(e.getClass()))
+					li.add(e);
+			}
+			entities = li.toArray(new Entity[li.size()]);
+			bounds = new double[entities.length*6];
+			for (int i = 0; i < entities.length; i++) {
+				AxisAlignedBB bb = entities[i].boundingBox;
+				int k = i*6;
+				bounds[k] = bb.minX;
+				bounds[k+1] = bb.minY;
+				bounds[k+2] = bb.minZ;
+				bounds[k+3] = bb.maxX;
+				bounds[k+4] = bb.maxY;
+				bounds[k+5] = bb.maxZ;
+			}
+		}
+
+		private void collect(AxisAlignedBB box, IEntitySelector sel, List li) {
+			for (int i = 0; i < entities.length; i++) {
+				int k = i*6;
+				if (bounds[k+3] > box.minX && bounds[k] < box.maxX && bounds[k+4] > box.minY && bounds[k+1] < box.maxY && bounds[k+5] > box.minZ && bounds[k+2] < box.maxZ) {
+					Entity e = entities[i];
+					if (!e.isDead && (sel == null || sel.isEntityApplicable(e)))
+						li.add(e);
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * @author Reika Kalseki
+ *
+ * Copyright 2017
+ *
+ * All rights reserved.
+ * Distribution of the software in any form is only allowed with
+ * explicit, prior permission from the owner.
+ ******************************************************************************/
+package Reika.RotaryCraft.Auxiliary;
+
+import net.minecraft.command.ICommandSender;
+import net.minecraft.entity.player.EntityPlayerMP;
+
+import Reika.DragonAPI.Command.DragonCommandBase;
+import Reika.DragonAPI.Libraries.IO.ReikaChatHelper;
+
+public class MachineEntityIndexCommand extends DragonCommandBase {
+
+	@Override
+	public void processCommand(ICommandSender ics, String[] args) {
+		EntityPlayerMP ep = this.getCommandSenderAsPlayer(ics);
+		for (String s : MachineEntityIndex.getMessages())
+			ReikaChatHelper.sendChatToPlayer(ep, s);
+	}
+
+	@Override
+	public String getCommandString() {
+		return "rcentityindex";
+	}
+
+	@Override
+	protected boolean isAdminOnly() {
+		return true;
+	}
+
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * @author Reika Kalseki
+ *
+ * Copyright 2017
+ *
+ * All rights reserved.
+ * Distribution of the software in any form is only allowed with
+ * explicit, prior permission from the owner.
+ ******************************************************************************/
+package Reika.RotaryCraft.Auxiliary;
+
+import java.util.ArrayList;
+
+import Reika.RotaryCraft.Registry.MachineRegistry;
+
+/** Counts the machines of each type that are currently asleep, having found nothing to do; see {@link
+ * Reika.RotaryCraft.Base.TileEntity.RotaryCraftTileEntity#sleep}. Only the server puts machines to sleep. */
+public class MachineSleepTracker {
+
+	private static final int[] asleep = new int[MachineRegistry.machineList.length];
+
+	private static long sleeps;
+	private static long wakes;
+
+	private MachineSleepTracker() {
+
+	}
+
+	public static void onSleep(MachineRegistry m) {
+		asleep[m.ordinal()]++;
+		sleeps++;
+	}
+
+	public static void onWake(MachineRegistry m) {
+		if (asleep[m.ordinal()] > 0)
+			asleep[m.ordinal()]--;
+		wakes++;
+	}
+
+	public static int getSleepingCount(MachineRegistry m) {
+		return asleep[m.ordinal()];
+	}
+
+	public static ArrayList<String> getMessages() {
+		ArrayList<String> li = new ArrayList();
+		int total = 0;
+		for (int i = 0; i < asleep.length; i++) {
+			if (asleep[i] > 0) {
+				li.add(MachineRegistry.machineList.get(i).getName()+": "+asleep[i]+" asleep");
+				total += asleep[i];
+			}
+		}
+		li.add(0, total+" machines asleep; "+sleeps+" sleeps, "+wakes+" wakes");
+		return li;
+	}
+
+}
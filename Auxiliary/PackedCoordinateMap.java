@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * @author Reika Kalseki
+ *
+ * Copyright 2017
+ *
+ * All rights reserved.
+ * Distribution of the software in any form is only allowed with
+ * explicit, prior permission from the owner.
+ ******************************************************************************/
+package Reika.RotaryCraft.Auxiliary;
+
+import java.util.Arrays;
+
+/** Open-addressed map from block coordinates, packed into a long, to a small nonzero byte value. Lookups do not allocate, which makes it
+ * suitable for per-tick and per-block queries where a HashMap of Coordinate or WorldLocation would create garbage on every call. */
+public final class PackedCoordinateMap {
+
+	/** Not reachable by {@link #pack}, since it would require x = -2^25, well outside the world border. */
+	private static final long EMPTY = Long.MIN_VALUE;
+
+	private long[] keys;
+	private byte[] values;
+	private int mask;
+	private int size;
+
+	public PackedCoordinateMap() {
+		this(16);
+	}
+
+	public PackedCoordinateMap(int capacity) {
+		int cap = Integer.highestOneBit(Math.max(capacity, 8)-1) << 1;
+		this.allocate(cap);
+	}
+
+	private void allocate(int cap) {
+		keys = new long[cap];
+		values = new byte[cap];
+		Arrays.fill(keys, EMPTY);
+		mask = cap-1;
+	}
+
+	public static long pack(int x, int y, int z) {
+		return ((x & 0x3FFFFFFL) << 38) | ((z & 0x3FFFFFFL) << 12) | (y & 0xFFFL);
+	}
+
+	public static int unpackX(long key) {
+		return (int)(key >> 38);
+	}
+
+	public static int unpackY(long key) {
+		return (int)(key << 52 >> 52);
+	}
+
+	public static int unpackZ(long key) {
+		return (int)(key << 26 >> 38);
+	}
+
+	private static int hash(long key) {
+		key ^= key >>> 33;
+		key *= 0xff51afd7ed558ccdL;
+		key ^= key >>> 33;
+		return (int)key;
+	}
+
+	/** Returns 0 if the key is not present. */
+	public byte get(long key) {
+		int i = hash(key) & mask;
+		while (true) {
+			long k = keys[i];
+			if (k == key)
+				return values[i];
+			if (k == EMPTY)
+				return 0;
+			i = (i+1) & mask;
+		}
+	}
+
+	public boolean containsKey(long key) {
+		return this.get(key) != 0;
+	}
+
+	/** Value must be nonzero. Returns the previous value, or 0 if there was none. */
+	public byte put(long key, byte value) {
+		if (value == 0)
+			throw new IllegalArgumentException("Cannot store a zero value; use remove()!");
+		int i = hash(key) & mask;
+		while (true) {
+			long k = keys[i];
+			if (k == key) {
+				byte old = values[i];
+				values[i] = value;
+				return old;
+			}
+			if (k == EMPTY) {
+				keys[i] = key;
+				values[i] = value;
+				size++;
+				if (size*4 > keys.length*3)
+					this.rehash(keys.length*2);
+				return 0;
+			}
+			i = (i+1) & mask;
+		}
+	}
+
+	/** Returns the removed value, or 0 if there was none. */
+	public byte remove(long key) {
+		int i = hash(key) & mask;
+		while (true) {
+			long k = keys[i];
+			if (k == EMPTY)
+				return 0;
+			if (k == key)
+				break;
+			i = (i+1) & mask;
+		}
+		byte old = values[i];
+		size--;
+		//backward-shift deletion, so probes never need tombstones
+		int gap = i;
+		int j = (i+1) & mask;
+		while (keys[j] != EMPTY) {
+			int home = hash(keys[j]) & mask;
+			if (((j-home) & mask) >= ((j-gap) & mask)) {
+				keys[gap] = keys[j];
+				values[gap] = values[j];
+				gap = j;
+			}
+			j = (j+1) & mask;
+		}
+		keys[gap] = EMPTY;
+		values[gap] = 0;
+		return old;
+	}
+
+	private void rehash(int cap) {
+		long[] oldKeys = keys;
+		byte[] oldValues = values;
+		this.allocate(cap);
+		size = 0;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != EMPTY)
+				this.put(oldKeys[i], oldValues[i]);
+		}
+	}
+
+	public void clear() {
+		if (size > 0) {
+			Arrays.fill(keys, EMPTY);
+			Arrays.fill(values, (byte)0);
+			size = 0;
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public long[] keyArray() {
+		long[] ret = new long[size];
+		int n = 0;
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != EMPTY)
+				ret[n++] = keys[i];
+		}
+		return ret;
+	}
+
+}
@@ -66,7 +66,25 @@ public class PowerSourceList implements PowerTracker {
 		return isLooping;
 	}
 
+	/** The returned list may be shared with other callers through the {@link DrivetrainGraph} and must not be modified. */
 	public static PowerSourceList getAllFrom(World world, ForgeDirection dir, int x, int y, int z, PowerSourceTracker io, ShaftMerger caller) {
+		DrivetrainGraph graph = DrivetrainGraph.getGraph(world);
+		graph.enterLookup(x, y, z);
+		try {
+			PowerSourceList pwr = graph.getCachedSources(world, dir, x, y, z, io, caller);
+			if (pwr != null)
+				return pwr;
+			pwr = calculateAllFrom(world, dir, x, y, z, io, caller);
+			if (!pwr.isLooping && !pwr.errored) //loops fail the merger, so they are never steady-state
+				graph.cacheSources(world, dir, x, y, z, io, caller, pwr);
+			return pwr;
+		}
+		finally {
+			graph.exitLookup();
+		}
+	}
+
+	private static PowerSourceList calculateAllFrom(World world, ForgeDirection dir, int x, int y, int z, PowerSourceTracker io, ShaftMerger caller) {
 		PowerSourceList pwr = new PowerSourceList();
 
 		TileEntity tile = world.getTileEntity(x, y, z);
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * @author Reika Kalseki
+ *
+ * Copyright 2017
+ *
+ * All rights reserved.
+ * Distribution of the software in any form is only allowed with
+ * explicit, prior permission from the owner.
+ ******************************************************************************/
+package Reika.RotaryCraft.Auxiliary;
+
+import net.minecraft.command.ICommandSender;
+import net.minecraft.entity.player.EntityPlayerMP;
+
+import Reika.DragonAPI.Command.DragonCommandBase;
+import Reika.DragonAPI.Libraries.IO.ReikaChatHelper;
+import Reika.RotaryCraft.Auxiliary.RecipeManagers.RecipeHandler;
+
+public class RecipeCacheCommand extends DragonCommandBase {
+
+	@Override
+	public void processCommand(ICommandSender ics, String[] args) {
+		EntityPlayerMP ep = this.getCommandSenderAsPlayer(ics);
+		for (String s : RecipeHandler.getAllLookupStats())
+			ReikaChatHelper.sendChatToPlayer(ep, s);
+	}
+
+	@Override
+	public String getCommandString() {
+		return "rcrecipecache";
+	}
+
+	@Override
+	protected boolean isAdminOnly() {
+		return true;
+	}
+
+}
@@ -9,12 +9,14 @@
  ******************************************************************************/
 package Reika.RotaryCraft.Auxiliary.RecipeManagers;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Locale;
 
 import com.google.common.collect.HashBiMap;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.Fluid;
 
@@ -41,6 +43,9 @@ public abstract class RecipeHandler implements IngredientIDHandler {
 
 	private static final boolean enableRegistries = ConfigRegistry.RECIPEMOD.getState();
 
+	/** Every handler with at least one lookup cache, for the statistics. */
+	private static final ArrayList<RecipeHandler> cachingHandlers = new ArrayList();
+
 	private final MultiMap<RecipeLevel, String> recipesByLevel = new MultiMap(CollectionType.HASHSET);
 	private final HashMap<String, RecipeLevel> recipeLevels = new HashMap();
 
@@ -48,11 +53,18 @@ public abstract class RecipeHandler implements IngredientIDHandler {
 
 	public final MachineRegistry machine;
 
+	private final ArrayList<LookupCache> lookupCaches = new ArrayList();
+	private long lookupHits;
+	private long lookupEmptyHits;
+	private long lookupMisses;
+	private long lookupBypasses;
+
 	protected RecipeHandler(MachineRegistry m) {
 		machine = m;
 	}
 
 	protected final void onAddRecipe(MachineRecipe recipe, RecipeLevel rl) {
+		this.clearLookupCaches();
 		if (enableRegistries) {
 			String s = recipeKeys.get(recipe);
 			if (s == null) {
@@ -135,7 +147,9 @@ public abstract class RecipeHandler implements IngredientIDHandler {
 				return false;
 			}
 			try {
-				if (this.removeRecipe(recipe)) {
+				boolean flag = this.removeRecipe(recipe);
+				this.clearLookupCaches();
+				if (flag) {
 					recipesByLevel.remove(rl, rec);
 					recipeLevels.remove(rec);
 					recipeKeys.remove(recipe);
@@ -264,10 +278,104 @@ public abstract class RecipeHandler implements IngredientIDHandler {
 				crl.addToExample(createLuaBlock(c));
 			crl.createExampleFile();*/
 		}
+		this.clearLookupCaches();
 	}
 
 	protected abstract boolean addCustomRecipe(String n, LuaBlock lb, CustomRecipeList crl) throws Exception;
 
+	/** Drops every cached lookup result. Called on any recipe addition or removal; handlers that change their recipes some other way must
+	 * call it themselves. */
+	protected final void clearLookupCaches() {
+		for (LookupCache c : lookupCaches) {
+			c.clear();
+		}
+	}
+
+	public final ArrayList<String> getLookupStats() {
+		ArrayList<String> li = new ArrayList();
+		long total = lookupHits+lookupMisses;
+		double ratio = total > 0 ? lookupHits*100D/total : 0;
+		li.add(machine.name()+": "+lookupHits+"/"+total+" lookups cached ("+String.format("%.1f", ratio)+"%), "+lookupEmptyHits+" of them for items with no recipe");
+		li.add(lookupBypasses+" lookups not cacheable (NBT)");
+		return li;
+	}
+
+	public static ArrayList<String> getAllLookupStats() {
+		ArrayList<String> li = new ArrayList();
+		for (RecipeHandler h : cachingHandlers)
+			li.addAll(h.getLookupStats());
+		return li;
+	}
+
+	/** Caches the result of a recipe lookup per item type and damage, including "no recipe". Stacks with NBT are never cached, since the
+	 * handlers may match on it. */
+	abstract class LookupCache {
+
+		private static final int MAX_SIZE = 512;
+
+		/** Marks a cached null result. */
+		private final Object EMPTY = new Object();
+
+		private final HashMap<Long, Object> data = new HashMap();
+
+		private LookupCache() {
+			if (lookupCaches.isEmpty())
+				cachingHandlers.add(RecipeHandler.this);
+			lookupCaches.add(this);
+		}
+
+		protected final synchronized Object get(long key) {
+			Object o = data.get(key);
+			if (o != null) {
+				lookupHits++;
+				if (o == EMPTY) {
+					lookupEmptyHits++;
+					return null;
+				}
+			}
+			return o;
+		}
+
+		protected final synchronized boolean contains(long key) {
+			return data.containsKey(key);
+		}
+
+		protected final synchronized void put(long key, Object val) {
+			lookupMisses++;
+			if (data.size() >= MAX_SIZE)
+				data.clear();
+			data.put(key, val != null ? val : EMPTY);
+		}
+
+		protected final synchronized void clear() {
+			data.clear();
+		}
+
+	}
+
+	/** Subclass with the uncached lookup, and call {@link #get} instead of it. */
+	protected abstract class ItemLookup<V> extends LookupCache {
+
+		public final V get(ItemStack is) {
+			if (is == null || is.getItem() == null)
+				return null;
+			if (is.stackTagCompound != null) {
+				lookupBypasses++;
+				return this.calculate(is);
+			}
+			long key = ((long)Item.getIdFromItem(is.getItem()) << 32) | (is.getItemDamage() & 0xFFFFFFFFL);
+			V v = (V)this.get(key);
+			if (v != null || this.contains(key))
+				return v;
+			v = this.calculate(is);
+			this.put(key, v);
+			return v;
+		}
+
+		protected abstract V calculate(ItemStack is);
+
+	}
+
 	protected final void verifyOutputItem(ItemStack is) {
 		if (is.getItem() instanceof ItemBlockPlacer || is.getItem() == ItemRegistry.ETHANOL.getItemInstance())
 			throw new IllegalArgumentException("This item is not permitted as an output (it is a gating item).");
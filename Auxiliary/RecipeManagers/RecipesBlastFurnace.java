@@ -12,6 +12,7 @@ package Reika.RotaryCraft.Auxiliary.RecipeManagers;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -55,6 +56,10 @@ public class RecipesBlastFurnace extends RecipeHandler implements BlastFurnaceMa
 
 	private final ItemHashMap<HashSet<Integer>> itemInputTypes = new ItemHashMap();
 
+	/** Mainline recipes by the items accepted as their main ingredient, each list in priority order. Rebuilt lazily after any recipe change. */
+	private HashMap<Item, ArrayList<BlastRecipe>> recipeIndex;
+	private int revision;
+
 	private RecipesBlastFurnace() {
 		super(MachineRegistry.BLASTFURNACE);
 		RecipeInterface.blastfurn = this;
@@ -130,6 +135,7 @@ public class RecipesBlastFurnace extends RecipeHandler implements BlastFurnaceMa
 	private void addRecipe(BlastRecipe br, RecipeLevel rl) {
 		recipeList.add(br);
 		itemInputTypes.clear();
+		this.onRecipesChanged();
 		this.onAddRecipe(br, rl);
 	}
 
@@ -164,6 +170,7 @@ public class RecipesBlastFurnace extends RecipeHandler implements BlastFurnaceMa
 	private void addCrafting(BlastCrafting cr, RecipeLevel rl) {
 		craftingList.add(cr);
 		itemInputTypes.clear();
+		this.onRecipesChanged();
 		this.onAddRecipe(cr, rl);
 	}
 
@@ -208,7 +215,12 @@ public class RecipesBlastFurnace extends RecipeHandler implements BlastFurnaceMa
 		}
 
 		public boolean matches(InventoryCrafting ic, int temperature) {
-			return temperature >= this.temperature && recipe.matches(ic, null);
+			return temperature >= this.temperature && this.matchesItems(ic);
+		}
+
+		/** Ignores temperature. */
+		public boolean matchesItems(InventoryCrafting ic) {
+			return recipe.matches(ic, null);
 		}
 
 		public boolean usesItem(ItemStack is) {
@@ -485,25 +497,84 @@ public class RecipesBlastFurnace extends RecipeHandler implements BlastFurnaceMa
 	}
 
 	public BlastCrafting getCrafting(ItemStack[] main, int temp) {
+		for (BlastCrafting c : this.getCraftingMatching(main)) {
+			if (temp >= c.temperature)
+				return c;
+		}
+		return null;
+	}
+
+	/** Every crafting recipe the given grid matches at any temperature, in priority order. */
+	public ArrayList<BlastCrafting> getCraftingMatching(ItemStack[] main) {
+		ArrayList<BlastCrafting> li = new ArrayList();
 		RecipePattern ic = new RecipePattern(main);
 		for (int i = 0; i < craftingList.size(); i++) {
 			BlastCrafting c = craftingList.get(i);
-			if (c.matches(ic, temp)) {
-				return c;
+			if (c.matchesItems(ic)) {
+				li.add(c);
 			}
 		}
-		return null;
+		return li;
 	}
 
 	public BlastRecipe getRecipe(ItemStack in1, ItemStack in2, ItemStack in3, ItemStack[] main, int temp) {
-		for (int i = 0; i < recipeList.size(); i++) {
-			BlastRecipe r = recipeList.get(i);
-			if (temp >= r.temperature && this.matchRecipe(r, in1, in2, in3, main)) //allows for two recipes with same items but diff temp
+		for (BlastRecipe r : this.getRecipesMatching(in1, in2, in3, main)) {
+			if (temp >= r.temperature) //allows for two recipes with same items but diff temp
 				return r;
 		}
 		return null;
 	}
 
+	/** Every mainline recipe the given items match at any temperature, in priority order. */
+	public ArrayList<BlastRecipe> getRecipesMatching(ItemStack in1, ItemStack in2, ItemStack in3, ItemStack[] main) {
+		ArrayList<BlastRecipe> li = new ArrayList();
+		ItemStack first = null;
+		for (int i = 0; i < main.length && first == null; i++) {
+			first = main[i];
+		}
+		if (first == null) //every recipe needs at least one main item
+			return li;
+		ArrayList<BlastRecipe> c = this.getRecipeIndex().get(first.getItem());
+		if (c != null) {
+			for (BlastRecipe r : c) {
+				if (this.matchRecipe(r, in1, in2, in3, main))
+					li.add(r);
+			}
+		}
+		return li;
+	}
+
+	private HashMap<Item, ArrayList<BlastRecipe>> getRecipeIndex() {
+		if (recipeIndex == null) {
+			HashMap<Item, ArrayList<BlastRecipe>> map = new HashMap();
+			for (BlastRecipe r : recipeList) {
+				HashSet<Item> set = new HashSet();
+				for (ItemStack is : r.getMainItems()) {
+					if (is != null && is.getItem() != null && set.add(is.getItem())) {
+						ArrayList<BlastRecipe> li = map.get(is.getItem());
+						if (li == null) {
+							li = new ArrayList();
+							map.put(is.getItem(), li);
+						}
+						li.add(r);
+					}
+				}
+			}
+			recipeIndex = map;
+		}
+		return recipeIndex;
+	}
+
+	private void onRecipesChanged() {
+		recipeIndex = null;
+		revision++;
+	}
+
+	/** Changes whenever a recipe is added or removed, so that cached lookups can be dropped. */
+	public int getRevision() {
+		return revision;
+	}
+
 	private boolean matchRecipe(BlastRecipe r, ItemStack in1, ItemStack in2, ItemStack in3, ItemStack[] main) {
 		if (!r.primary.matchWithSize(in1))
 			return false;
@@ -669,6 +740,7 @@ public class RecipesBlastFurnace extends RecipeHandler implements BlastFurnaceMa
 	@Override
 	protected boolean removeRecipe(MachineRecipe recipe) {
 		itemInputTypes.clear();
+		this.onRecipesChanged();
 		return recipeList.remove(recipe) | craftingList.remove(recipe);
 	}
 
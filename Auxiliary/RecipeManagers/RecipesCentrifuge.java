@@ -70,6 +70,19 @@ public class RecipesCentrifuge extends RecipeHandler implements CentrifugeManage
 
 	private ItemHashMap<CentrifugeRecipe> recipeList = new ItemHashMap().enableNBT();
 
+	private final ItemLookup<CentrifugeRecipe> lookup = new ItemLookup<CentrifugeRecipe>() {
+		@Override
+		protected CentrifugeRecipe calculate(ItemStack is) {
+			ItemStack in = is.copy();
+			CentrifugeRecipe cr = recipeList.get(in);
+			if (cr != null && cr.hasNBT) {
+				if (!ItemStack.areItemStackTagsEqual(is, cr.in))
+					return null;
+			}
+			return cr;
+		}
+	};
+
 	private ArrayList<ItemStack> outputs = new ArrayList();
 
 	public final ChanceRounder rounder = new ChanceRounder();
@@ -227,15 +240,7 @@ public class RecipesCentrifuge extends RecipeHandler implements CentrifugeManage
 	}
 
 	public CentrifugeRecipe getRecipeResult(ItemStack item) {
-		if (item == null)
-			return null;
-		ItemStack in = item.copy();
-		CentrifugeRecipe cr = recipeList.get(in);
-		if (cr != null && cr.hasNBT) {
-			if (!ItemStack.areItemStackTagsEqual(item, cr.in))
-				return null;
-		}
-		return cr;
+		return lookup.get(item);
 	}
 
 	private Collection<ItemStack> getRecipeOutputs(ItemStack item) {
@@ -37,6 +37,13 @@ public class RecipesCompactor extends RecipeHandler implements CompactorManager
 
 	private ItemHashMap<CompactingRecipe> recipes = new ItemHashMap();
 
+	private final ItemLookup<CompactingRecipe> lookup = new ItemLookup<CompactingRecipe>() {
+		@Override
+		protected CompactingRecipe calculate(ItemStack is) {
+			return recipes.get(is);
+		}
+	};
+
 	public static final RecipesCompactor getRecipes()
 	{
 		return CompactorBase;
@@ -119,7 +126,7 @@ public class RecipesCompactor extends RecipeHandler implements CompactorManager
 		if (item == null)
 			return null;
 		//ModLoader.getMinecraftInstance().ingameGUI.addChatMessage(String.format("%d  %d", Items.itemID, item.getItemDamage()));
-		CompactingRecipe ret = recipes.get(item);
+		CompactingRecipe ret = lookup.get(item);
 		return ret != null ? ret.out.copy() : null;
 	}
 
@@ -128,7 +135,7 @@ public class RecipesCompactor extends RecipeHandler implements CompactorManager
 	}
 
 	public int getReqPressure(ItemStack item) {
-		CompactingRecipe ret = recipes.get(item);
+		CompactingRecipe ret = lookup.get(item);
 		return ret != null ? ret.pressure : 0;
 	}
 
@@ -142,7 +149,7 @@ public class RecipesCompactor extends RecipeHandler implements CompactorManager
 	}
 
 	public int getReqTemperature(ItemStack item) {
-		CompactingRecipe ret = recipes.get(item);
+		CompactingRecipe ret = lookup.get(item);
 		return ret != null ? ret.temperature : 0;
 	}
 
@@ -55,6 +55,13 @@ public class RecipesGrinder extends RecipeHandler implements GrinderManager {
 
 	private final ItemHashMap<GrinderRecipe> recipes = new ItemHashMap();
 
+	private final ItemLookup<GrinderRecipe> lookup = new ItemLookup<GrinderRecipe>() {
+		@Override
+		protected GrinderRecipe calculate(ItemStack is) {
+			return recipes.get(is);
+		}
+	};
+
 	public static final RecipesGrinder getRecipes()
 	{
 		return GrinderBase;
@@ -289,7 +296,7 @@ public class RecipesGrinder extends RecipeHandler implements GrinderManager {
 	}
 
 	public ItemStack getGrindingResult(ItemStack item) {
-		GrinderRecipe ret = item != null && item.getItem() != null ? recipes.get(item) : null;
+		GrinderRecipe ret = lookup.get(item);
 		return ret != null ? ret.output.copy() : null;
 	}
 
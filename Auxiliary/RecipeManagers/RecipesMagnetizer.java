@@ -31,6 +31,13 @@ public class RecipesMagnetizer extends RecipeHandler implements MagnetizerManage
 
 	private final ItemHashMap<MagnetizerRecipe> recipes = new ItemHashMap();
 
+	private final ItemLookup<MagnetizerRecipe> lookup = new ItemLookup<MagnetizerRecipe>() {
+		@Override
+		protected MagnetizerRecipe calculate(ItemStack is) {
+			return recipes.get(is);
+		}
+	};
+
 	private static final RecipesMagnetizer instance = new RecipesMagnetizer();
 
 	public static final RecipesMagnetizer getRecipes() {
@@ -71,7 +78,7 @@ public class RecipesMagnetizer extends RecipeHandler implements MagnetizerManage
 	}
 
 	public MagnetizerRecipe getRecipe(ItemStack is) {
-		return recipes.get(is);
+		return lookup.get(is);
 	}
 
 	public Collection<MagnetizerRecipe> getAllRecipes() {
@@ -60,6 +60,13 @@ public class RecipesPulseFurnace extends RecipeHandler implements PulseFurnaceMa
 
 	private ItemHashMap<PulseJetRecipe> recipes = new ItemHashMap();
 
+	private final ItemLookup<PulseJetRecipe> lookup = new ItemLookup<PulseJetRecipe>() {
+		@Override
+		protected PulseJetRecipe calculate(ItemStack is) {
+			return recipes.get(is);
+		}
+	};
+
 	public static final RecipesPulseFurnace getRecipes()
 	{
 		return PulseFurnaceBase;
@@ -271,7 +278,7 @@ public class RecipesPulseFurnace extends RecipeHandler implements PulseFurnaceMa
 	}
 
 	public PulseJetRecipe getSmeltingResult(ItemStack item) {
-		PulseJetRecipe ret = item != null ? recipes.get(item) : null;
+		PulseJetRecipe ret = lookup.get(item);
 		return ret;
 	}
 
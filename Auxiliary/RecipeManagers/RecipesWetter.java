@@ -35,6 +35,13 @@ public class RecipesWetter extends RecipeHandler implements WetterManager {
 	private static final RecipesWetter WetterBase = new RecipesWetter();
 
 	private final ItemHashMap<HashMap<Fluid, WettingRecipe>> recipeList = new ItemHashMap();
+
+	private final ItemLookup<HashMap<Fluid, WettingRecipe>> lookup = new ItemLookup<HashMap<Fluid, WettingRecipe>>() {
+		@Override
+		protected HashMap<Fluid, WettingRecipe> calculate(ItemStack is) {
+			return recipeList.get(is);
+		}
+	};
 	private final HashSet<String> fluids = new HashSet();
 
 	public static final RecipesWetter getRecipes()
@@ -75,12 +82,12 @@ public class RecipesWetter extends RecipeHandler implements WetterManager {
 	}
 
 	public WettingRecipe getRecipe(ItemStack is, FluidStack liquid) {
-		HashMap<Fluid, WettingRecipe> map = recipeList.get(is);
+		HashMap<Fluid, WettingRecipe> map = lookup.get(is);
 		if (map == null)
 			return null;
 		Fluid f = liquid.getFluid();
 		WettingRecipe wr = map.get(f);
-		return liquid.amount >= wr.fluid.amount ? wr : null;
+		return wr != null && liquid.amount >= wr.fluid.amount ? wr : null;
 	}
 
 	public boolean isValidFluid(Fluid f) {
@@ -97,11 +104,11 @@ public class RecipesWetter extends RecipeHandler implements WetterManager {
 	}
 
 	public boolean isWettable(ItemStack is) {
-		return recipeList.containsKey(is);
+		return lookup.get(is) != null;
 	}
 
 	public boolean isWettableWith(ItemStack is, Fluid f) {
-		HashMap<Fluid, WettingRecipe> c = recipeList.get(is);
+		HashMap<Fluid, WettingRecipe> c = lookup.get(is);
 		return c != null && c.containsKey(f);
 	}
 
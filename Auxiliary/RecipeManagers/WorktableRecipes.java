@@ -10,11 +10,14 @@
 package Reika.RotaryCraft.Auxiliary.RecipeManagers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
@@ -25,6 +28,8 @@ import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.item.crafting.ShapedRecipes;
 import net.minecraft.item.crafting.ShapelessRecipes;
 import net.minecraft.world.World;
+import net.minecraftforge.oredict.ShapedOreRecipe;
+import net.minecraftforge.oredict.ShapelessOreRecipe;
 
 import Reika.ChromatiCraft.Magic.ElementTagCompound;
 import Reika.ChromatiCraft.Magic.ItemElementCalculator;
@@ -53,6 +58,19 @@ public class WorktableRecipes extends RecipeHandler implements WorktableManager
 
 	private final RecipeSorter sorter = new RecipeSorter();
 
+	/** Rebuilt lazily after any change to the recipe list. */
+	private volatile RecipeIndex index;
+
+	private static final int CACHE_SIZE = 64;
+
+	/** Recent grid contents to the recipe they matched, or to null if they matched nothing. Guarded by itself. */
+	private final LinkedHashMap<GridKey, WorktableRecipe> matchCache = new LinkedHashMap(CACHE_SIZE, 0.75F, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry eldest) {
+			return this.size() > CACHE_SIZE;
+		}
+	};
+
 	public static final WorktableRecipes getInstance() {
 		return instance;
 	}
@@ -69,6 +87,7 @@ public class WorktableRecipes extends RecipeHandler implements WorktableManager
 		WorktableRecipe wr = new WorktableRecipe(recipe);
 		recipes.add(wr);
 		display.add(recipe);
+		this.invalidateIndex();
 
 		super.onAddRecipe(wr, rl);
 	}
@@ -198,35 +217,57 @@ public class WorktableRecipes extends RecipeHandler implements WorktableManager
 	}
 
 	public WorktableRecipe findMatchingRecipe(InventoryCrafting ic, World world) {
-		int i = 0;
-		ItemStack is = null;
-		ItemStack is1 = null;
-		int j;
-
-		for (j = 0; j < ic.getSizeInventory(); ++j) {
-			ItemStack is2 = ic.getStackInSlot(j);
-
-			if (is2 != null) {
-				if (i == 0) {
-					is = is2;
-				}
-
-				if (i == 1) {
-					is1 = is2;
+		GridKey key = GridKey.getKey(ic);
+		if (key != null) {
+			synchronized(matchCache) {
+				WorktableRecipe wr = matchCache.get(key);
+				if (wr != null || matchCache.containsKey(key)) {
+					if (wr == null || wr.recipe.matches(ic, world))
+						return wr;
 				}
+			}
+		}
 
-				++i;
+		RecipeIndex idx = this.getIndex();
+		WorktableRecipe ret = null;
+		for (int i : idx.getCandidates(ic)) {
+			WorktableRecipe wr = idx.recipes[i];
+			if (wr.recipe.matches(ic, world)) {
+				ret = wr;//ir.getCraftingResult(ic);
+				break;
 			}
 		}
 
-		for (WorktableRecipe wr : recipes) {
-			IRecipe ir = wr.recipe;
+		if (key != null) {
+			synchronized(matchCache) {
+				if (index == idx)
+					matchCache.put(key, ret);
+			}
+		}
+		return ret;
+	}
 
-			if (ir.matches(ic, world))
-				return wr;//ir.getCraftingResult(ic);
+	private RecipeIndex getIndex() {
+		RecipeIndex idx = index;
+		if (idx == null) {
+			synchronized(this) {
+				idx = index;
+				if (idx == null) {
+					idx = new RecipeIndex(recipes);
+					index = idx;
+				}
+			}
 		}
+		return idx;
+	}
 
-		return null;
+	private void invalidateIndex() {
+		synchronized(this) {
+			index = null;
+		}
+		synchronized(matchCache) {
+			matchCache.clear();
+		}
 	}
 
 	public List<WorktableRecipe> getRecipeListCopy() {
@@ -329,6 +370,143 @@ public class WorktableRecipes extends RecipeHandler implements WorktableManager
 
 	}
 
+	/** Narrows the recipe list by the number of filled slots and one item every matching grid must contain. Only the plain vanilla and ore
+	 * recipe classes are indexed; anything else, including recipes made only of oredict entries (which may still grow), is always tried. */
+	private static final class RecipeIndex {
+
+		private final WorktableRecipe[] recipes;
+
+		/** Keyed by ingredient count in the upper half and item ID in the lower; values are positions in the recipe list, in order. */
+		private final HashMap<Long, ArrayList<Integer>> keyed = new HashMap();
+		private final ArrayList<Integer> unindexed = new ArrayList();
+
+		private RecipeIndex(ArrayList<WorktableRecipe> li) {
+			recipes = li.toArray(new WorktableRecipe[li.size()]);
+			for (int i = 0; i < recipes.length; i++) {
+				IRecipe ir = recipes[i].recipe;
+				Collection c = getIngredients(ir);
+				Item anchor = null;
+				int size = 0;
+				if (c != null) {
+					for (Object o : c) {
+						if (o != null) {
+							size++;
+							if (anchor == null && o instanceof ItemStack)
+								anchor = ((ItemStack)o).getItem();
+						}
+					}
+				}
+				if (anchor == null) {
+					unindexed.add(i);
+				}
+				else {
+					Long key = getKey(size, Item.getIdFromItem(anchor));
+					ArrayList<Integer> at = keyed.get(key);
+					if (at == null) {
+						at = new ArrayList();
+						keyed.put(key, at);
+					}
+					at.add(i);
+				}
+			}
+		}
+
+		private static Collection getIngredients(IRecipe ir) {
+			//exact classes only, since subclasses may override matching
+			if (ir.getClass() == ShapedRecipes.class)
+				return Arrays.asList(((ShapedRecipes)ir).recipeItems);
+			if (ir.getClass() == ShapelessRecipes.class)
+				return ((ShapelessRecipes)ir).recipeItems;
+			if (ir.getClass() == ShapedOreRecipe.class)
+				return Arrays.asList(((ShapedOreRecipe)ir).getInput());
+			if (ir.getClass() == ShapelessOreRecipe.class)
+				return ((ShapelessOreRecipe)ir).getInput();
+			return null;
+		}
+
+		private static long getKey(int size, int id) {
+			return ((long)size << 32) | (id & 0xFFFFFFFFL);
+		}
+
+		private int[] getCandidates(InventoryCrafting ic) {
+			int size = 0;
+			int[] ids = new int[ic.getSizeInventory()];
+			int n = 0;
+			for (int i = 0; i < ids.length; i++) {
+				ItemStack is = ic.getStackInSlot(i);
+				if (is != null && is.getItem() != null) {
+					size++;
+					int id = Item.getIdFromItem(is.getItem());
+					boolean dupe = false;
+					for (int k = 0; k < n && !dupe; k++)
+						dupe = ids[k] == id;
+					if (!dupe)
+						ids[n++] = id;
+				}
+			}
+			int total = unindexed.size();
+			ArrayList<Integer>[] found = new ArrayList[n];
+			for (int k = 0; k < n; k++) {
+				found[k] = keyed.get(getKey(size, ids[k]));
+				if (found[k] != null)
+					total += found[k].size();
+			}
+			int[] ret = new int[total];
+			int i = 0;
+			for (int k = 0; k < n; k++) {
+				if (found[k] != null) {
+					for (int pos : found[k])
+						ret[i++] = pos;
+				}
+			}
+			for (int pos : unindexed)
+				ret[i++] = pos;
+			//keep the list order, so the first matching recipe still wins
+			Arrays.sort(ret);
+			return ret;
+		}
+
+	}
+
+	/** Item, damage and slot of every stack in a grid. Grids holding NBT are not cached, since recipes may check it. */
+	private static final class GridKey {
+
+		private final int[] slots;
+		private final int hash;
+
+		private GridKey(int[] data) {
+			slots = data;
+			hash = Arrays.hashCode(data);
+		}
+
+		private static GridKey getKey(InventoryCrafting ic) {
+			int[] data = new int[ic.getSizeInventory()];
+			for (int i = 0; i < data.length; i++) {
+				ItemStack is = ic.getStackInSlot(i);
+				if (is == null || is.getItem() == null) {
+					data[i] = -1;
+				}
+				else {
+					if (is.stackTagCompound != null)
+						return null;
+					data[i] = (Item.getIdFromItem(is.getItem()) << 16) | (is.getItemDamage() & 0xFFFF);
+				}
+			}
+			return new GridKey(data);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof GridKey && Arrays.equals(slots, ((GridKey)o).slots);
+		}
+
+	}
+
 	private static class RecipeSorter implements Comparator<WorktableRecipe> {
 
 		private RecipeSorter()
@@ -349,7 +527,9 @@ public class WorktableRecipes extends RecipeHandler implements WorktableManager
 
 	@Override
 	protected boolean removeRecipe(MachineRecipe recipe) {
-		return recipes.remove(recipe) && display.remove(((WorktableRecipe)recipe).recipe);
+		boolean flag = recipes.remove(recipe) && display.remove(((WorktableRecipe)recipe).recipe);
+		this.invalidateIndex();
+		return flag;
 	}
 
 	@Override
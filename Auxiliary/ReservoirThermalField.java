@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * @author Reika Kalseki
+ *
+ * Copyright 2017
+ *
+ * All rights reserved.
+ * Distribution of the software in any form is only allowed with
+ * explicit, prior permission from the owner.
+ ******************************************************************************/
+package Reika.RotaryCraft.Auxiliary;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map.Entry;
+import java.util.WeakHashMap;
+
+import net.minecraft.world.World;
+import net.minecraftforge.common.DimensionManager;
+
+import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
+import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
+
+/** Collects the heating and cooling that uncovered reservoirs apply to their surroundings, and applies it in batches, chunk by chunk, under
+ * a per-tick block limit. Every block keeps only its hottest and coldest requested temperatures for each period, so any number of
+ * overlapping reservoirs costs at most two environment updates per block. Only used on the server. */
+public class ReservoirThermalField {
+
+	public static final ReservoirThermalField instance = new ReservoirThermalField();
+
+	/** In ticks; requests made within one period are merged. */
+	private static final int PERIOD = 20;
+	private static final int MAX_BLOCKS_PER_TICK = 1024;
+	private static final int RANGE = 2;
+	/** If this many chunks are still waiting when a period ends, the backlog is dropped; the reservoirs will ask again next period. */
+	private static final int MAX_QUEUED_CHUNKS = 4096;
+
+	private final WeakHashMap<World, Field> fields = new WeakHashMap();
+
+	private ReservoirThermalField() {
+
+	}
+
+	/** Requests the usual falloff of temperature around a reservoir of the given fluid temperature, in the same units as ambient. */
+	public void addSource(World world, int x, int y, int z, int Tamb, int temp) {
+		if (world.isRemote)
+			return;
+		Field f = fields.get(world);
+		if (f == null) {
+			f = new Field();
+			fields.put(world, f);
+		}
+		int dT = temp-Tamb;
+		for (int i = -RANGE; i <= RANGE; i++) {
+			for (int j = -RANGE; j <= RANGE; j++) {
+				for (int k = -RANGE; k <= RANGE; k++) {
+					double dd = ReikaMathLibrary.py3d(i, j, k)+1;
+					f.add(x+i, y+j, z+k, (int)(Tamb+dT/dd/2D));
+				}
+			}
+		}
+	}
+
+	public void tick() {
+		if (fields.isEmpty())
+			return;
+		int budget = MAX_BLOCKS_PER_TICK;
+		for (Entry<World, Field> e : fields.entrySet()) {
+			World world = e.getKey();
+			if (world != null && DimensionManager.getWorld(world.provider.dimensionId) == world)
+				budget = e.getValue().tick(world, budget);
+		}
+	}
+
+	public void onWorldUnload(World world) {
+		fields.remove(world);
+	}
+
+	private static final class Field {
+
+		private HashMap<Long, ChunkBatch> incoming = new HashMap();
+		private final LinkedList<ChunkBatch> active = new LinkedList();
+		private long periodStart = -1;
+
+		private Field() {
+
+		}
+
+		private void add(int x, int y, int z, int temp) {
+			if (y < 0 || y > 255)
+				return;
+			int cx = x >> 4;
+			int cz = z >> 4;
+			Long key = ((long)cx << 32) | (cz & 0xFFFFFFFFL);
+			ChunkBatch b = incoming.get(key);
+			if (b == null) {
+				b = new ChunkBatch(cx, cz);
+				incoming.put(key, b);
+			}
+			b.add(x, y, z, temp);
+		}
+
+		private int tick(World world, int budget) {
+			long time = world.getTotalWorldTime();
+			if (periodStart < 0 || time < periodStart)
+				periodStart = time;
+			if (time-periodStart >= PERIOD && !incoming.isEmpty()) {
+				if (active.size() > MAX_QUEUED_CHUNKS)
+					active.clear();
+				active.addAll(incoming.values());
+				incoming = new HashMap();
+				periodStart = time;
+			}
+			while (budget > 0 && !active.isEmpty()) {
+				ChunkBatch b = active.getFirst();
+				if (!world.getChunkProvider().chunkExists(b.chunkX, b.chunkZ)) {
+					active.removeFirst();
+					continue;
+				}
+				budget = b.apply(world, budget);
+				if (b.cells.isEmpty())
+					active.removeFirst();
+			}
+			return budget;
+		}
+
+	}
+
+	private static final class ChunkBatch {
+
+		private final int chunkX;
+		private final int chunkZ;
+
+		/** Keyed by position within the chunk; each value is the hottest and coldest temperature requested there. */
+		private final HashMap<Integer, int[]> cells = new HashMap();
+
+		private ChunkBatch(int cx, int cz) {
+			chunkX = cx;
+			chunkZ = cz;
+		}
+
+		private void add(int x, int y, int z, int temp) {
+			Integer key = y << 8 | (x & 15) << 4 | (z & 15);
+			int[] arr = cells.get(key);
+			if (arr == null) {
+				cells.put(key, new int[]{temp, temp});
+			}
+			else {
+				arr[0] = Math.max(arr[0], temp);
+				arr[1] = Math.min(arr[1], temp);
+			}
+		}
+
+		private int apply(World world, int budget) {
+			Iterator<Entry<Integer, int[]>> it = cells.entrySet().iterator();
+			while (budget > 0 && it.hasNext()) {
+				Entry<Integer, int[]> e = it.next();
+				it.remove();
+				int key = e.getKey();
+				int x = chunkX*16+((key >> 4) & 15);
+				int y = key >> 8;
+				int z = chunkZ*16+(key & 15);
+				int[] arr = e.getValue();
+				ReikaWorldHelper.temperatureEnvironment(world, x, y, z, arr[0]);
+				if (arr[1] != arr[0])
+					ReikaWorldHelper.temperatureEnvironment(world, x, y, z, arr[1]);
+				budget--;
+			}
+			return budget;
+		}
+
+	}
+
+}
@@ -12,19 +12,20 @@ package Reika.RotaryCraft.Auxiliary;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.HashMap;
 
 import net.minecraftforge.common.util.ForgeDirection;
 
-import Reika.DragonAPI.Instantiable.Data.BlockStruct.BlockArray;
-import Reika.RotaryCraft.Registry.MachineRegistry;
 import Reika.RotaryCraft.TileEntities.Transmission.TileEntityBusController;
 import Reika.RotaryCraft.TileEntities.Transmission.TileEntityPowerBus;
 
+/** The blocks of a bus are kept as a spanning tree rooted at the controller, so removing a block only has to reconnect the blocks that were
+ * hanging off it rather than flood the whole bus again. Each block's output sides are cached as a mask and summed as they change. */
 public class ShaftPowerBus {
 
 	private final TileEntityBusController hub;
 	private final ArrayList<TileEntityPowerBus> blocks = new ArrayList();
+	private final HashMap<Long, BusNode> nodes = new HashMap();
 
 	private int sides = 0;
 
@@ -42,46 +43,149 @@ public class ShaftPowerBus {
 	}
 
 	public void removeBlock(TileEntityPowerBus bus) {
-		blocks.remove(bus);
-		this.rebuild();
-	}
-
-	private void rebuild() {
-		BlockArray b = new BlockArray();
-		int x = hub.xCoord;
-		int y = hub.yCoord;
-		int z = hub.zCoord;
-		for (int i = 2; i < 6; i++) {
-			ForgeDirection dir = ForgeDirection.VALID_DIRECTIONS[i];
-			int dx = x+dir.offsetX;
-			int dy = y+dir.offsetY;
-			int dz = z+dir.offsetZ;
-			MachineRegistry m = MachineRegistry.getMachine(hub.worldObj, dx, dy, dz);
-			if (m == MachineRegistry.POWERBUS) {
-				b.recursiveAddWithMetadata(hub.worldObj, dx, dy, dz, m.getBlock(), m.getBlockMetadata());
-			}
+		BusNode n = nodes.get(getKey(bus));
+		if (n == null)
+			return;
+		this.removeNode(n);
+
+		//only the blocks that were connected through the removed one can have been cut off
+		ArrayList<BusNode> cut = new ArrayList();
+		cut.addAll(n.children);
+		for (int i = 0; i < cut.size(); i++)
+			cut.addAll(cut.get(i).children);
+		for (BusNode c : cut) {
+			c.attached = false;
+			c.parent = null;
+			c.children.clear();
 		}
-		Iterator<TileEntityPowerBus> it = blocks.iterator();
-		while (it.hasNext()) {
-			TileEntityPowerBus te = it.next();
-			if (b.hasBlock(te.xCoord, te.yCoord, te.zCoord)) {
 
+		ArrayList<BusNode> seeds = new ArrayList();
+		for (BusNode c : cut) {
+			if (this.isAdjacentToHub(c)) {
+				c.attached = true;
+				seeds.add(c);
 			}
 			else {
-				te.clearBus();
-				it.remove();
+				BusNode p = this.getAttachedNeighbor(c);
+				if (p != null) {
+					this.attach(c, p);
+					seeds.add(c);
+				}
+			}
+		}
+		this.attachFrom(seeds);
+
+		for (BusNode c : cut) {
+			if (!c.attached) {
+				this.removeNode(c);
+				c.tile.clearBus();
 			}
 		}
 	}
 
 	public boolean addBlock(TileEntityPowerBus bus) {
-		if (blocks.contains(bus))
-			return false;
-		else {
-			blocks.add(bus);
-			this.update();
+		long key = getKey(bus);
+		BusNode n = nodes.get(key);
+		if (n != null) {
+			if (n.tile == bus)
+				return false;
+			//the same block, reloaded with its chunk
+			n.tile = bus;
+			blocks.set(n.index, bus);
+			this.updateOutputs(bus);
 			return true;
 		}
+		n = new BusNode(bus, key);
+		n.index = blocks.size();
+		blocks.add(bus);
+		nodes.put(key, n);
+		if (this.isAdjacentToHub(n)) {
+			n.attached = true;
+		}
+		else {
+			BusNode p = this.getAttachedNeighbor(n);
+			if (p != null)
+				this.attach(n, p);
+		}
+		//blocks loaded before the ones linking them to the controller are picked up once those arrive
+		if (n.attached) {
+			ArrayList<BusNode> li = new ArrayList();
+			li.add(n);
+			this.attachFrom(li);
+		}
+		this.updateOutputs(bus);
+		return true;
+	}
+
+	/** Call when anything that decides which sides of a block output power may have changed. */
+	public void updateOutputs(TileEntityPowerBus bus) {
+		BusNode n = nodes.get(getKey(bus));
+		if (n == null || n.tile != bus)
+			return;
+		int mask = bus.getOutputMask();
+		if (mask != n.outputs) {
+			sides += Integer.bitCount(mask)-Integer.bitCount(n.outputs);
+			n.outputs = mask;
+		}
+	}
+
+	private void attachFrom(ArrayList<BusNode> li) {
+		for (int i = 0; i < li.size(); i++) {
+			BusNode n = li.get(i);
+			for (int k = 0; k < 6; k++) {
+				BusNode n2 = this.getNeighbor(n, ForgeDirection.VALID_DIRECTIONS[k]);
+				if (n2 != null && !n2.attached) {
+					this.attach(n2, n);
+					li.add(n2);
+				}
+			}
+		}
+	}
+
+	private void attach(BusNode n, BusNode parent) {
+		n.attached = true;
+		n.parent = parent;
+		parent.children.add(n);
+	}
+
+	private void removeNode(BusNode n) {
+		nodes.remove(n.key);
+		int last = blocks.size()-1;
+		if (n.index != last) {
+			TileEntityPowerBus moved = blocks.get(last);
+			blocks.set(n.index, moved);
+			nodes.get(getKey(moved)).index = n.index;
+		}
+		blocks.remove(last);
+		if (n.parent != null)
+			n.parent.children.remove(n);
+		sides -= Integer.bitCount(n.outputs);
+	}
+
+	private BusNode getNeighbor(BusNode n, ForgeDirection dir) {
+		return nodes.get(PackedCoordinateMap.pack(n.tile.xCoord+dir.offsetX, n.tile.yCoord+dir.offsetY, n.tile.zCoord+dir.offsetZ));
+	}
+
+	private BusNode getAttachedNeighbor(BusNode n) {
+		for (int i = 0; i < 6; i++) {
+			BusNode n2 = this.getNeighbor(n, ForgeDirection.VALID_DIRECTIONS[i]);
+			if (n2 != null && n2.attached)
+				return n2;
+		}
+		return null;
+	}
+
+	/** Horizontal sides only, as the hub has never fed the bus from above or below. */
+	private boolean isAdjacentToHub(BusNode n) {
+		if (n.tile.yCoord != hub.yCoord)
+			return false;
+		int dx = Math.abs(n.tile.xCoord-hub.xCoord);
+		int dz = Math.abs(n.tile.zCoord-hub.zCoord);
+		return dx+dz == 1;
+	}
+
+	private static long getKey(TileEntityPowerBus bus) {
+		return PackedCoordinateMap.pack(bus.xCoord, bus.yCoord, bus.zCoord);
 	}
 
 	public TileEntityBusController getController() {
@@ -100,15 +204,12 @@ public class ShaftPowerBus {
 		return hub.torque;
 	}
 
+	/** Rereads the output sides of every block; they are otherwise kept current by {@link #updateOutputs}. */
 	public void recalcTotalOutputSides() {
 		sides = 0;
-		for (int i = 0; i < blocks.size(); i++) {
-			TileEntityPowerBus te = blocks.get(i);
-			for (int k = 2; k < 6; k++) {
-				ForgeDirection dir = ForgeDirection.VALID_DIRECTIONS[k];
-				if (te.canOutputToSide(dir))
-					sides++;
-			}
+		for (BusNode n : nodes.values()) {
+			n.outputs = n.tile.getOutputMask();
+			sides += Integer.bitCount(n.outputs);
 		}
 	}
 
@@ -126,6 +227,8 @@ public class ShaftPowerBus {
 			te.clearBus();
 		}
 		blocks.clear();
+		nodes.clear();
+		sides = 0;
 	}
 
 	public Collection<TileEntityPowerBus> getBlocks() {
@@ -136,4 +239,24 @@ public class ShaftPowerBus {
 		return blocks.size();
 	}
 
+	private static class BusNode {
+
+		private final long key;
+		private TileEntityPowerBus tile;
+		private int index;
+
+		/** Set while the node has a path to the controller, through its parent unless it borders the controller itself. */
+		private boolean attached;
+		private BusNode parent;
+		private final ArrayList<BusNode> children = new ArrayList(2);
+
+		private int outputs;
+
+		private BusNode(TileEntityPowerBus te, long key) {
+			tile = te;
+			this.key = key;
+		}
+
+	}
+
 }
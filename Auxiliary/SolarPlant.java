@@ -12,16 +12,25 @@ package Reika.RotaryCraft.Auxiliary;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map.Entry;
 import java.util.TreeMap;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
 
+import net.minecraft.entity.Entity;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.util.MathHelper;
 import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
 
 import Reika.DragonAPI.Instantiable.Data.BlockStruct.BlockArray;
 import Reika.DragonAPI.Instantiable.Data.Immutable.Coordinate;
 import Reika.DragonAPI.Instantiable.Data.Maps.ValueSortedMap;
+import Reika.DragonAPI.Libraries.ReikaEntityHelper;
+import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.DragonAPI.ModInteract.DeepInteract.PlanetDimensionHandler;
 import Reika.RotaryCraft.Auxiliary.Interfaces.SolarPlantBlock;
@@ -29,6 +38,9 @@ import Reika.RotaryCraft.Registry.BlockRegistry;
 import Reika.RotaryCraft.Registry.MachineRegistry;
 import Reika.RotaryCraft.TileEntities.Auxiliary.TileEntityMirror;
 
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
 
 public class SolarPlant {
 
@@ -37,10 +49,29 @@ public class SolarPlant {
 	public static int MAX_TOWER_VALUE = 96;
 
 	private static final TreeMap<Integer, Integer> towerRounding = new TreeMap();
+	private static final ForgeDirection[] dirs = ForgeDirection.VALID_DIRECTIONS;
 
 	private final ValueSortedMap<Coordinate, SolarTower> towers = new ValueSortedMap();
 	private final HashMap<Coordinate, Coordinate> mirrors = new HashMap();
 	private final HashMap<Coordinate, Integer> mirrorLevels = new HashMap();
+	private final HashSet<Coordinate> towerBlocks = new HashSet();
+	/** 2D only */
+	private final HashSet<Coordinate> towerColumns = new HashSet();
+	/** The mirrors currently functional, kept up by the mirrors themselves. */
+	private final HashSet<Coordinate> activeMirrors = new HashSet();
+
+	/** Bounds of all mirror positions, for the falling entity check. */
+	private int minX;
+	private int minY;
+	private int minZ;
+	private int maxX;
+	private int maxY;
+	private int maxZ;
+	private long lastTick = -1;
+
+	/** Client only; the sun's aiming time, direction and strength, shared by every mirror aimed in the same tick. */
+	private final float[] sunVector = new float[4];
+	private long sunVectorTime = -1;
 
 	//private final SolarSkyCache skyCache = new SolarSkyCache();
 
@@ -57,51 +88,206 @@ public class SolarPlant {
 		towerRounding.put(MAX_TOWER_HEIGHT, MAX_TOWER_HEIGHT);
 	}
 
+	/** Joins the solar block at the given position to the plant of its neighbours, if they all belong to the same one; otherwise builds the
+	 * plant from scratch, as when merging two plants or loading one whose blocks have not formed yet. */
+	public static SolarPlant join(World world, int x, int y, int z) {
+		SolarPlant p = null;
+		for (int i = 0; i < 6; i++) {
+			ForgeDirection dir = dirs[i];
+			TileEntity te = world.getTileEntity(x+dir.offsetX, y+dir.offsetY, z+dir.offsetZ);
+			if (te instanceof SolarPlantBlock) {
+				SolarPlant p2 = ((SolarPlantBlock)te).getPlant();
+				if (p2 == null || (p != null && p2 != p))
+					return build(world, x, y, z);
+				p = p2;
+			}
+		}
+		if (p == null)
+			return build(world, x, y, z);
+		Coordinate c = new Coordinate(x, y, z);
+		MachineRegistry m = MachineRegistry.getMachine(world, x, y, z);
+		if (m == MachineRegistry.MIRROR) {
+			p.addMirror(c, getClosestTower(c, p.towerColumns));
+			if (p.isNextToTowerColumn(c))
+				p.computeTowers();
+		}
+		else if (m == MachineRegistry.SOLARTOWER) {
+			p.towerBlocks.add(c);
+			p.computeTowers();
+			p.assignMirrors();
+		}
+		return p;
+	}
+
 	public static SolarPlant build(World world, int x, int y, int z) {
 		SolarPlant p = new SolarPlant();
 		BlockArray blocks = new BlockArray();
 		blocks.recursiveAdd(world, x, y, z, BlockRegistry.SOLAR.getBlockInstance());
-		HashMap<Coordinate, ImmutablePair<Integer, Integer>> towerLocations = new HashMap();
 		ArrayList<Coordinate> li = new ArrayList();
+		ArrayList<SolarPlantBlock> tiles = new ArrayList();
 		while (blocks.getSize() > 0) {
 			Coordinate c = blocks.getNextAndMoveOn();
 			SolarPlantBlock b = (SolarPlantBlock)c.getTileEntity(world);
-			b.setPlant(p);
+			tiles.add(b);
 			MachineRegistry m = MachineRegistry.getMachine(world, c.xCoord, c.yCoord, c.zCoord);
 			if (m == MachineRegistry.MIRROR) {
 				li.add(c);
 			}
 			else if (m == MachineRegistry.SOLARTOWER) {
-				ImmutablePair<Integer, Integer> get = towerLocations.get(c.to2D());
-				int val1 = get != null ? get.left.intValue() : Integer.MAX_VALUE;
-				int val2 = get != null ? get.right.intValue() : Integer.MIN_VALUE;
-				val1 = Math.min(val1, c.yCoord);
-				val2 = Math.max(val2, c.yCoord);
-				towerLocations.put(c.to2D(), new ImmutablePair(val1, val2));
+				p.towerBlocks.add(c);
 			}
 		}
+		for (Coordinate c : li) {
+			p.addMirror(c, null);
+		}
+		p.computeTowers();
+		p.assignMirrors();
+		//set last, so that mirrors see the whole plant when they first check whether they are functional
+		for (SolarPlantBlock b : tiles) {
+			b.setPlant(p);
+		}
+		//ReikaJavaLibrary.pConsole("Added mirrors "+p.mirrors.keySet(), Side.SERVER);
+		//ReikaJavaLibrary.pConsole("Added towers "+p.towers.keySet(), Side.SERVER);
+		return p;
+	}
+
+	/** Rebuilds the towers from the known tower blocks. The plant holds every mirror that can touch a tower, so this needs no world access. */
+	private void computeTowers() {
+		HashMap<Coordinate, ImmutablePair<Integer, Integer>> towerLocations = new HashMap();
+		for (Coordinate c : towerBlocks) {
+			ImmutablePair<Integer, Integer> get = towerLocations.get(c.to2D());
+			int val1 = get != null ? get.left.intValue() : Integer.MAX_VALUE;
+			int val2 = get != null ? get.right.intValue() : Integer.MIN_VALUE;
+			val1 = Math.min(val1, c.yCoord);
+			val2 = Math.max(val2, c.yCoord);
+			towerLocations.put(c.to2D(), new ImmutablePair(val1, val2));
+		}
+		towers.clear();
+		towerColumns.clear();
+		towerColumns.addAll(towerLocations.keySet());
 		for (Coordinate c : towerLocations.keySet()) {
 			ImmutablePair<Integer, Integer> ys = towerLocations.get(c);
 			int dy = ys.left;
 			int h = 0;
-			while (MachineRegistry.getMachine(world, c.xCoord, dy, c.zCoord) == MachineRegistry.SOLARTOWER && dy <= ys.left+MAX_TOWER_HEIGHT) {
+			while (towerBlocks.contains(c.offset(0, dy, 0)) && dy <= ys.left+MAX_TOWER_HEIGHT) {
 				dy++;
 
-				if (ReikaWorldHelper.checkForAdjBlock(world, c.xCoord, dy, c.zCoord, MachineRegistry.MIRROR.getBlock(), MachineRegistry.MIRROR.getBlockMetadata()) != null) {
+				if (this.isNextToMirror(c.xCoord, dy, c.zCoord)) {
 					h = 0;
 				}
 
 				h++;
 			}
-			SolarTower s = p.new SolarTower(c, h, ys.left, ys.right);
-			p.towers.put(c, s);
+			SolarTower s = new SolarTower(c, h, ys.left, ys.right);
+			towers.put(c, s);
 		}
-		for (Coordinate c : li) {
-			p.addMirror(c, getClosestTower(c, towerLocations.keySet()));
+	}
+
+	private void assignMirrors() {
+		for (Entry<Coordinate, Coordinate> e : mirrors.entrySet()) {
+			e.setValue(getClosestTower(e.getKey(), towerColumns));
+		}
+	}
+
+	private boolean isNextToMirror(int x, int y, int z) {
+		for (int i = 0; i < 6; i++) {
+			ForgeDirection dir = dirs[i];
+			if (mirrors.containsKey(new Coordinate(x+dir.offsetX, y+dir.offsetY, z+dir.offsetZ)))
+				return true;
+		}
+		return false;
+	}
+
+	/** Whether a mirror here may change the effective height of a tower. */
+	private boolean isNextToTowerColumn(Coordinate c) {
+		for (int i = 0; i < 6; i++) {
+			ForgeDirection dir = dirs[i];
+			if (towerColumns.contains(new Coordinate(c.xCoord+dir.offsetX, 0, c.zCoord+dir.offsetZ)))
+				return true;
+		}
+		return false;
+	}
+
+	private boolean isMember(int x, int y, int z) {
+		Coordinate c = new Coordinate(x, y, z);
+		return mirrors.containsKey(c) || towerBlocks.contains(c);
+	}
+
+	/** Whether the plant stays in one piece without the given block. Checks that the block's neighbours in the plant are still connected to
+	 * each other within the 3x3x3 cube around it, which is enough for the whole plant and rules out the common cases of mirror fields and
+	 * towers; anything else is rebuilt. */
+	private boolean staysConnectedWithout(Coordinate c) {
+		boolean[] member = new boolean[27];
+		for (int i = -1; i <= 1; i++) {
+			for (int j = -1; j <= 1; j++) {
+				for (int k = -1; k <= 1; k++) {
+					if (i != 0 || j != 0 || k != 0)
+						member[(i+1)*9+(j+1)*3+k+1] = this.isMember(c.xCoord+i, c.yCoord+j, c.zCoord+k);
+				}
+			}
+		}
+		int start = -1;
+		int faces = 0;
+		for (int i = 0; i < 6; i++) {
+			ForgeDirection dir = dirs[i];
+			int idx = (dir.offsetX+1)*9+(dir.offsetY+1)*3+dir.offsetZ+1;
+			if (member[idx]) {
+				faces++;
+				if (start < 0)
+					start = idx;
+			}
+		}
+		if (faces <= 1)
+			return true;
+		boolean[] seen = new boolean[27];
+		int[] stack = new int[27];
+		int n = 0;
+		stack[n++] = start;
+		seen[start] = true;
+		int reached = 0;
+		while (n > 0) {
+			int idx = stack[--n];
+			int a = idx/9;
+			int b = (idx/3)%3;
+			int d = idx%3;
+			if (Math.abs(a-1)+Math.abs(b-1)+Math.abs(d-1) == 1)
+				reached++;
+			for (int i = 0; i < 6; i++) {
+				ForgeDirection dir = dirs[i];
+				int a2 = a+dir.offsetX;
+				int b2 = b+dir.offsetY;
+				int d2 = d+dir.offsetZ;
+				if (a2 < 0 || a2 > 2 || b2 < 0 || b2 > 2 || d2 < 0 || d2 > 2)
+					continue;
+				int idx2 = a2*9+b2*3+d2;
+				if (member[idx2] && !seen[idx2]) {
+					seen[idx2] = true;
+					stack[n++] = idx2;
+				}
+			}
+		}
+		return reached == faces;
+	}
+
+	/** Called when one of the plant's blocks is broken. Updates the plant in place unless that may split it, in which case it is invalidated
+	 * and its blocks rebuild their plants. */
+	public void onBlockRemoved(World world, int x, int y, int z) {
+		Coordinate c = new Coordinate(x, y, z);
+		boolean mirror = mirrors.containsKey(c);
+		if ((!mirror && !towerBlocks.contains(c)) || !this.staysConnectedWithout(c)) {
+			this.invalidate(world);
+			return;
+		}
+		if (mirror) {
+			this.removeMirror(c);
+			if (this.isNextToTowerColumn(c))
+				this.computeTowers();
+		}
+		else {
+			towerBlocks.remove(c);
+			this.computeTowers();
+			this.assignMirrors();
 		}
-		//ReikaJavaLibrary.pConsole("Added mirrors "+p.mirrors.keySet(), Side.SERVER);
-		//ReikaJavaLibrary.pConsole("Added towers "+p.towers.keySet(), Side.SERVER);
-		return p;
 	}
 
 	private void addMirror(Coordinate c, Coordinate tower) {
@@ -110,6 +296,83 @@ public class SolarPlant {
 		int val = get != null ? get.intValue() : -1;
 		int max = Math.max(val, c.yCoord);
 		mirrorLevels.put(c.to2D(), max);
+		if (mirrors.size() == 1) {
+			minX = maxX = c.xCoord;
+			minY = maxY = c.yCoord;
+			minZ = maxZ = c.zCoord;
+		}
+		else {
+			minX = Math.min(minX, c.xCoord);
+			minY = Math.min(minY, c.yCoord);
+			minZ = Math.min(minZ, c.zCoord);
+			maxX = Math.max(maxX, c.xCoord);
+			maxY = Math.max(maxY, c.yCoord);
+			maxZ = Math.max(maxZ, c.zCoord);
+		}
+	}
+
+	/** Leaves the mirror bounds as they are; they only have to contain every mirror. */
+	private void removeMirror(Coordinate c) {
+		mirrors.remove(c);
+		activeMirrors.remove(c);
+		Coordinate c2 = c.to2D();
+		Integer get = mirrorLevels.get(c2);
+		if (get != null && get.intValue() == c.yCoord) {
+			int max = -1;
+			for (Coordinate m : mirrors.keySet()) {
+				if (m.xCoord == c.xCoord && m.zCoord == c.zCoord)
+					max = Math.max(max, m.yCoord);
+			}
+			if (max >= 0)
+				mirrorLevels.put(c2, max);
+			else
+				mirrorLevels.remove(c2);
+		}
+	}
+
+	/** Called by mirrors whenever they start or stop being functional, and whenever they join a plant. */
+	public void setMirrorFunctional(TileEntityMirror te, boolean functional) {
+		Coordinate c = new Coordinate(te);
+		if (functional && mirrors.containsKey(c))
+			activeMirrors.add(c);
+		else
+			activeMirrors.remove(c);
+	}
+
+	/** Checks once per tick, for the whole plant, for entities falling onto its mirrors hard enough to break them. */
+	public void tick(World world) {
+		long time = world.getTotalWorldTime();
+		if (time == lastTick || mirrors.isEmpty())
+			return;
+		lastTick = time;
+		AxisAlignedBB above = AxisAlignedBB.getBoundingBox(minX+0.25, minY+1, minZ+0.25, maxX+0.75, maxY+1.5, maxZ+0.75);
+		List<Entity> in = MachineEntityIndex.getEntities(world, Entity.class, above);
+		for (Entity e : in) {
+			if (ReikaEntityHelper.isSolidEntity(e)) {
+				double m = ReikaEntityHelper.getEntityMass(e);
+				if (e.motionY < -0.1 && m-e.motionY*20 > 80) {
+					this.breakMirrorsUnder(world, e);
+				}
+			}
+		}
+	}
+
+	/** Every mirror whose area above overlaps the entity, the same area each mirror used to check on its own. */
+	private void breakMirrorsUnder(World world, Entity e) {
+		AxisAlignedBB box = e.boundingBox;
+		for (int x = MathHelper.floor_double(box.minX-0.75); x <= MathHelper.floor_double(box.maxX-0.25); x++) {
+			for (int y = MathHelper.floor_double(box.minY-1.5); y <= MathHelper.floor_double(box.maxY-1); y++) {
+				for (int z = MathHelper.floor_double(box.minZ-0.75); z <= MathHelper.floor_double(box.maxZ-0.25); z++) {
+					if (x+0.75 > box.minX && x+0.25 < box.maxX && y+1.5 > box.minY && y+1 < box.maxY && z+0.75 > box.minZ && z+0.25 < box.maxZ) {
+						if (mirrors.containsKey(new Coordinate(x, y, z)) && world.blockExists(x, y, z)) {
+							TileEntity te = world.getTileEntity(x, y, z);
+							if (te instanceof TileEntityMirror && !((TileEntityMirror)te).broken)
+								((TileEntityMirror)te).breakUnder(e);
+						}
+					}
+				}
+			}
+		}
 	}
 
 	private static Coordinate getClosestTower(Coordinate c, Collection<Coordinate> locs) {
@@ -168,19 +431,39 @@ public class SolarPlant {
 	}
 
 	public float getOverallBrightness(World world) {
-		float f = 0;
-		for (Coordinate c : mirrors.keySet()) {
-			TileEntity te = c.getTileEntity(world);
-			if (te instanceof TileEntityMirror) {
-				TileEntityMirror tm = (TileEntityMirror)te;
-				if (tm.isFunctional())
-					f++;
-			}
-		}
+		float f = activeMirrors.size();
 		f /= this.mirrorCount();
 		return f*this.getLightLevel(world)/15F;
 	}
 
+	/** Time of day used for aiming, sun phi, sun theta and how far the aim leans to the sun, worked out once per tick for the whole plant
+	 * instead of by every mirror. */
+	@SideOnly(Side.CLIENT)
+	public float[] getSunVector(World world) {
+		long tot = world.getWorldTime();
+		if (tot == sunVectorTime)
+			return sunVector;
+		sunVectorTime = tot;
+
+		int time = (int)(tot%12000);
+		time = forceDuskDawnAiming(tot, time);
+
+		sunVector[0] = time;
+		sunVector[1] = time >= 6000 ? -90 : 90;
+		sunVector[2] = ReikaWorldHelper.getSunAngle(world);
+		sunVector[3] = time >= 6000 ? (float)(1-Math.cos(Math.toRadians((time-6000)*90D/6000D))) : (float)Math.cos(Math.toRadians(time*90D/6000D));
+		return sunVector;
+	}
+
+	private static int forceDuskDawnAiming(long tot, int time) {
+		int day = (int)(tot%24000);
+		if (ReikaMathLibrary.isValueInsideBoundsIncl(12000, 13000, day))
+			return 11999;
+		if (ReikaMathLibrary.isValueInsideBoundsIncl(23000, 24000, day))
+			return 0;
+		return time;
+	}
+
 	public float getLightLevel(World world) {
 		if (world.provider.dimensionId == -1 || world.provider.dimensionId == 1)
 			return 0;
@@ -236,6 +519,9 @@ public class SolarPlant {
 		}
 		towers.clear();
 		mirrors.clear();
+		towerBlocks.clear();
+		towerColumns.clear();
+		activeMirrors.clear();
 	}
 
 	private class SolarTower implements Comparable<SolarTower> {
@@ -9,8 +9,12 @@
  ******************************************************************************/
 package Reika.RotaryCraft.Auxiliary;
 
+import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
@@ -20,7 +24,6 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.Fluid;
 
-import Reika.DragonAPI.Instantiable.Data.Maps.BlockMap;
 import Reika.DragonAPI.Libraries.ReikaFluidHelper;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.Auxiliary.Interfaces.TemperatureTE;
@@ -30,22 +33,78 @@ public class TemperatureHandler {
 
 	public static final TemperatureHandler instance = new TemperatureHandler();
 
-	private final BlockMap<Integer> blockTemps = new BlockMap();
+	/** Block temperature table entries that are not temperatures. */
+	private static final int UNCHECKED = Integer.MAX_VALUE;
+	private static final int FLUID = Integer.MAX_VALUE-1;
+	private static final int NONE = Integer.MIN_VALUE;
+
+	/** Height of the bands the ambient temperature cache divides each chunk into. */
+	private static final int BAND_HEIGHT = 8;
+	/** In ticks; bounds how far a cached ambient temperature can lag behind the time of day and weather. */
+	private static final int AMBIENT_MAX_AGE = 100;
+	private static final int AMBIENT_CACHE_SIZE = 8192;
+
+	/** Indexed by block ID; either a fixed temperature, FLUID to ask the block's fluid, NONE, or UNCHECKED if not yet looked up. */
+	private final int[] blockTemps = new int[4096];
+	private final Fluid[] blockFluids = new Fluid[4096];
+
+	private final WeakHashMap<World, HashMap<Long, AmbientEntry>> serverAmbient = new WeakHashMap();
+	private final WeakHashMap<World, HashMap<Long, AmbientEntry>> clientAmbient = new WeakHashMap();
 
 	private TemperatureHandler() {
-		blockTemps.put(Blocks.lava, 600);
-		blockTemps.put(Blocks.flowing_lava, 600);
-		blockTemps.put(Blocks.fire, 200);
-		blockTemps.put(Blocks.water, 12);
-		blockTemps.put(Blocks.flowing_water, 12);
-		blockTemps.put(Blocks.ice, -3);
-		blockTemps.put(Blocks.packed_ice, -10);
-		blockTemps.put(Blocks.snow, -2);
-		blockTemps.put(Blocks.snow_layer, 0);
+		Arrays.fill(blockTemps, UNCHECKED);
+		this.setBlockTemperature(Blocks.lava, 600);
+		this.setBlockTemperature(Blocks.flowing_lava, 600);
+		this.setBlockTemperature(Blocks.fire, 200);
+		this.setBlockTemperature(Blocks.water, 12);
+		this.setBlockTemperature(Blocks.flowing_water, 12);
+		this.setBlockTemperature(Blocks.ice, -3);
+		this.setBlockTemperature(Blocks.packed_ice, -10);
+		this.setBlockTemperature(Blocks.snow, -2);
+		this.setBlockTemperature(Blocks.snow_layer, 0);
+	}
+
+	private void setBlockTemperature(Block b, int temp) {
+		blockTemps[Block.getIdFromBlock(b)] = temp;
 	}
 
 	public int getAmbientTemperature(World world, int x, int y, int z, int minAmb, int maxAmb) {
-		return MathHelper.clamp_int(ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z), minAmb, maxAmb);
+		return MathHelper.clamp_int(this.getAmbientTemperature(world, x, y, z), minAmb, maxAmb);
+	}
+
+	/** A cached {@link ReikaWorldHelper#getAmbientTemperatureAt}, shared by everything in the same chunk, biome and height band. Entries
+	 * are recomputed once they are a few seconds old, or as soon as the time of day is set. */
+	public int getAmbientTemperature(World world, int x, int y, int z) {
+		WeakHashMap<World, HashMap<Long, AmbientEntry>> maps = world.isRemote ? clientAmbient : serverAmbient;
+		HashMap<Long, AmbientEntry> map = maps.get(world);
+		if (map == null) {
+			map = new HashMap();
+			maps.put(world, map);
+		}
+		int biome = world.getBiomeGenForCoords(x, z).biomeID;
+		int band = Math.max(0, Math.min(255, y))/BAND_HEIGHT;
+		long key = ((long)(x >> 4) & 0x3FFFFFL) << 42 | ((long)(z >> 4) & 0x3FFFFFL) << 20 | (band & 0xFFFL) << 8 | (biome & 0xFF);
+		long time = world.getTotalWorldTime();
+		long day = world.getWorldTime();
+		AmbientEntry e = map.get(key);
+		if (e == null || !e.isValid(time, day)) {
+			if (e == null && map.size() >= AMBIENT_CACHE_SIZE)
+				this.pruneAmbientCache(map, time, day);
+			int y0 = band*BAND_HEIGHT+BAND_HEIGHT/2;
+			e = new AmbientEntry(ReikaWorldHelper.getAmbientTemperatureAt(world, x, y0, z), time, day);
+			map.put(key, e);
+		}
+		return e.temperature;
+	}
+
+	private void pruneAmbientCache(HashMap<Long, AmbientEntry> map, long time, long day) {
+		Iterator<AmbientEntry> it = map.values().iterator();
+		while (it.hasNext()) {
+			if (!it.next().isValid(time, day))
+				it.remove();
+		}
+		if (map.size() >= AMBIENT_CACHE_SIZE)
+			map.clear();
 	}
 
 	public int getAmbientTemperatureOffset(World world, int x, int y, int z, int temp, boolean allowHeating, boolean allowCooling) {
@@ -78,16 +137,22 @@ public class TemperatureHandler {
 
 	private int getBlockTemperature(World world, int x, int y, int z) {
 		Block b = world.getBlock(x, y, z);
-		int meta = world.getBlockMetadata(x, y, z);
-		Integer base = blockTemps.get(b, meta);
-		if (base != null) {
-			return base.intValue();
+		int id = Block.getIdFromBlock(b);
+		if (id < 0 || id >= blockTemps.length) {
+			Fluid f = ReikaFluidHelper.lookupFluidForBlock(b);
+			return f != null ? f.getTemperature(world, x, y, z) : NONE;
+		}
+		int temp = blockTemps[id];
+		if (temp == UNCHECKED) {
+			Fluid f = ReikaFluidHelper.lookupFluidForBlock(b);
+			blockFluids[id] = f;
+			temp = f != null ? FLUID : NONE;
+			blockTemps[id] = temp;
 		}
-		Fluid f = ReikaFluidHelper.lookupFluidForBlock(b);
-		if (f != null) {
-			return f.getTemperature(world, x, y, z);
+		if (temp == FLUID) {
+			return blockFluids[id].getTemperature(world, x, y, z);
 		}
-		return Integer.MIN_VALUE;
+		return temp;
 	}
 
 	public void applyTemperature(TemperatureTE te) {
@@ -99,4 +164,24 @@ public class TemperatureHandler {
 
 	}
 
+	private static final class AmbientEntry {
+
+		private final int temperature;
+		private final long totalTime;
+		private final long worldTime;
+
+		private AmbientEntry(int temp, long time, long day) {
+			temperature = temp;
+			totalTime = time;
+			worldTime = day;
+		}
+
+		private boolean isValid(long time, long day) {
+			long age = time-totalTime;
+			//the time of day can stand still, but any jump means it was set
+			return age >= 0 && age <= AMBIENT_MAX_AGE && day >= worldTime && day-worldTime <= age;
+		}
+
+	}
+
 }
@@ -39,10 +39,10 @@ import Reika.DragonAPI.Interfaces.TileEntity.ToggleTile;
 import Reika.DragonAPI.Libraries.MathSci.ReikaEngLibrary;
 import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.DragonAPI.Libraries.Registry.ReikaItemHelper;
-import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.API.Power.PowerGenerator;
 import Reika.RotaryCraft.API.Power.ShaftMerger;
 import Reika.RotaryCraft.Auxiliary.PowerSourceList;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Auxiliary.Interfaces.IntegratedGearboxable;
 import Reika.RotaryCraft.Auxiliary.Interfaces.NBTMachine;
 import Reika.RotaryCraft.Auxiliary.Interfaces.PipeConnector;
@@ -620,7 +620,7 @@ IFluidHandler, PipeConnector, TemperatureTE, ToggleTile, NBTMachine, IntegratedG
 
 	@Override
 	public final void updateTemperature(World world, int x, int y, int z, int meta) {
-		int Tamb = tank.isEmpty() ? ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z) : 25;
+		int Tamb = tank.isEmpty() ? TemperatureHandler.instance.getAmbientTemperature(world, x, y, z) : 25;
 		if (power > 0) {
 			double d = tank.getLevel() >= 50 ? 0.00275 : 0.14;
 			double inc = d*Math.sqrt(power)+ReikaMathLibrary.logbase(tier+1, 2);
@@ -31,6 +31,7 @@ public abstract class InventoriedPowerLiquidInOut extends PoweredLiquidInOut imp
 
 	public final void setInventorySlotContents(int par1, ItemStack is) {
 		inv[par1] = is;
+		this.wake();
 	}
 
 	public final String getInventoryName() {
@@ -50,6 +51,7 @@ public abstract class InventoriedPowerLiquidInOut extends PoweredLiquidInOut imp
 	public final void markDirty() {
 		blockMetadata = worldObj.getBlockMetadata(xCoord, yCoord, zCoord);
 		worldObj.markTileEntityChunkModified(xCoord, yCoord, zCoord, this);
+		this.wake();
 
 		if (this.getBlockType() != Blocks.air)
 		{
@@ -65,10 +67,12 @@ public abstract class InventoriedPowerLiquidInOut extends PoweredLiquidInOut imp
 	public abstract boolean isItemValidForSlot(int slot, ItemStack is);
 
 	public final ItemStack decrStackSize(int par1, int par2) {
+		this.wake();
 		return ReikaInventoryHelper.decrStackSize(this, par1, par2);
 	}
 
 	public final ItemStack getStackInSlotOnClosing(int par1) {
+		this.wake();
 		return ReikaInventoryHelper.getStackInSlotOnClosing(this, par1);
 	}
 
@@ -111,6 +115,7 @@ public abstract class InventoriedPowerLiquidInOut extends PoweredLiquidInOut imp
 	public void readFromNBT(NBTTagCompound NBT)
 	{
 		super.readFromNBT(NBT);
+		this.wake();
 
 		NBTTagList nbttaglist = NBT.getTagList("Items", NBTTypes.COMPOUND.ID);
 		inv = new ItemStack[this.getSizeInventory()];
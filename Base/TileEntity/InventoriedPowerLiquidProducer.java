@@ -31,6 +31,7 @@ public abstract class InventoriedPowerLiquidProducer extends PoweredLiquidProduc
 
 	public final void setInventorySlotContents(int par1, ItemStack is) {
 		inv[par1] = is;
+		this.wake();
 	}
 
 	public void openInventory() {}
@@ -46,6 +47,7 @@ public abstract class InventoriedPowerLiquidProducer extends PoweredLiquidProduc
 	public final void markDirty() {
 		blockMetadata = worldObj.getBlockMetadata(xCoord, yCoord, zCoord);
 		worldObj.markTileEntityChunkModified(xCoord, yCoord, zCoord, this);
+		this.wake();
 
 		if (this.getBlockType() != Blocks.air)
 		{
@@ -60,10 +62,12 @@ public abstract class InventoriedPowerLiquidProducer extends PoweredLiquidProduc
 	public abstract boolean isItemValidForSlot(int slot, ItemStack is);
 
 	public final ItemStack decrStackSize(int par1, int par2) {
+		this.wake();
 		return ReikaInventoryHelper.decrStackSize(this, par1, par2);
 	}
 
 	public final ItemStack getStackInSlotOnClosing(int par1) {
+		this.wake();
 		return ReikaInventoryHelper.getStackInSlotOnClosing(this, par1);
 	}
 
@@ -110,6 +114,7 @@ public abstract class InventoriedPowerLiquidProducer extends PoweredLiquidProduc
 	public void readFromNBT(NBTTagCompound NBT)
 	{
 		super.readFromNBT(NBT);
+		this.wake();
 
 		NBTTagList nbttaglist = NBT.getTagList("Items", NBTTypes.COMPOUND.ID);
 		inv = new ItemStack[this.getSizeInventory()];
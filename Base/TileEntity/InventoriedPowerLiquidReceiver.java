@@ -33,6 +33,7 @@ public abstract class InventoriedPowerLiquidReceiver extends PoweredLiquidReceiv
 
 	public final void setInventorySlotContents(int par1, ItemStack is) {
 		inv[par1] = is;
+		this.wake();
 
 		this.onItemSet(par1, is);
 	}
@@ -62,6 +63,7 @@ public abstract class InventoriedPowerLiquidReceiver extends PoweredLiquidReceiv
 	public final void markDirty() {
 		blockMetadata = worldObj.getBlockMetadata(xCoord, yCoord, zCoord);
 		worldObj.markTileEntityChunkModified(xCoord, yCoord, zCoord, this);
+		this.wake();
 
 		if (this.getBlockType() != Blocks.air)
 		{
@@ -77,10 +79,12 @@ public abstract class InventoriedPowerLiquidReceiver extends PoweredLiquidReceiv
 	public abstract boolean isItemValidForSlot(int slot, ItemStack is);
 
 	public final ItemStack decrStackSize(int par1, int par2) {
+		this.wake();
 		return ReikaInventoryHelper.decrStackSize(this, par1, par2);
 	}
 
 	public final ItemStack getStackInSlotOnClosing(int par1) {
+		this.wake();
 		return ReikaInventoryHelper.getStackInSlotOnClosing(this, par1);
 	}
 
@@ -125,6 +129,7 @@ public abstract class InventoriedPowerLiquidReceiver extends PoweredLiquidReceiv
 	public void readFromNBT(NBTTagCompound NBT)
 	{
 		super.readFromNBT(NBT);
+		this.wake();
 
 		NBTTagList nbttaglist = NBT.getTagList("Items", NBTTypes.COMPOUND.ID);
 		inv = new ItemStack[this.getSizeInventory()];
@@ -36,6 +36,7 @@ public abstract class InventoriedPowerReceiver extends TileEntityPowerReceiver i
 
 	public final void setInventorySlotContents(int par1, ItemStack is) {
 		inv[par1] = is;
+		this.wake();
 		this.onInventoryChanged(par1);
 	}
 
@@ -56,6 +57,7 @@ public abstract class InventoriedPowerReceiver extends TileEntityPowerReceiver i
 	public final void markDirty() {
 		blockMetadata = worldObj.getBlockMetadata(xCoord, yCoord, zCoord);
 		worldObj.markTileEntityChunkModified(xCoord, yCoord, zCoord, this);
+		this.wake();
 
 		if (this.getBlockType() != Blocks.air)
 		{
@@ -71,12 +73,14 @@ public abstract class InventoriedPowerReceiver extends TileEntityPowerReceiver i
 
 	public final ItemStack decrStackSize(int par1, int par2) {
 		ItemStack ret = ReikaInventoryHelper.decrStackSize(this, par1, par2);
+		this.wake();
 		this.onInventoryChanged(par1);
 		return ret;
 	}
 
 	public final ItemStack getStackInSlotOnClosing(int par1) {
 		ItemStack ret = ReikaInventoryHelper.getStackInSlotOnClosing(this, par1);
+		this.wake();
 		this.onInventoryChanged(par1);
 		return ret;
 	}
@@ -121,6 +125,7 @@ public abstract class InventoriedPowerReceiver extends TileEntityPowerReceiver i
 	public void readFromNBT(NBTTagCompound NBT)
 	{
 		super.readFromNBT(NBT);
+		this.wake();
 
 		NBTTagList nbttaglist = NBT.getTagList("Items", NBTTypes.COMPOUND.ID);
 		inv = new ItemStack[this.getSizeInventory()];
@@ -43,6 +43,7 @@ public abstract class InventoriedRCTileEntity extends RotaryCraftTileEntity impl
 
 	public final void setInventorySlotContents(int par1, ItemStack is) {
 		inv[par1] = is;
+		this.wake();
 	}
 
 	public boolean isUseableByPlayer(EntityPlayer var1) {
@@ -51,11 +52,13 @@ public abstract class InventoriedRCTileEntity extends RotaryCraftTileEntity impl
 
 	public final ItemStack decrStackSize(int par1, int par2)
 	{
+		this.wake();
 		return ReikaInventoryHelper.decrStackSize(this, par1, par2);
 	}
 
 	public final ItemStack getStackInSlotOnClosing(int par1)
 	{
+		this.wake();
 		return ReikaInventoryHelper.getStackInSlotOnClosing(this, par1);
 	}
 
@@ -76,6 +79,7 @@ public abstract class InventoriedRCTileEntity extends RotaryCraftTileEntity impl
 	public void markDirty() {
 		blockMetadata = worldObj.getBlockMetadata(xCoord, yCoord, zCoord);
 		worldObj.markTileEntityChunkModified(xCoord, yCoord, zCoord, this);
+		this.wake();
 
 		if (this.getBlockType() != Blocks.air)
 		{
@@ -106,6 +110,7 @@ public abstract class InventoriedRCTileEntity extends RotaryCraftTileEntity impl
 	public void readFromNBT(NBTTagCompound NBT)
 	{
 		super.readFromNBT(NBT);
+		this.wake();
 
 		NBTTagList nbttaglist = NBT.getTagList("Items", NBTTypes.COMPOUND.ID);
 		inv = new ItemStack[this.getSizeInventory()];
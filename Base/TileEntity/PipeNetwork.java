@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * @author Reika Kalseki
+ *
+ * Copyright 2017
+ *
+ * All rights reserved.
+ * Distribution of the software in any form is only allowed with
+ * explicit, prior permission from the owner.
+ ******************************************************************************/
+package Reika.RotaryCraft.Base.TileEntity;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+
+import net.minecraft.world.World;
+
+/** A connected group of pipes, flowed together once per flow cycle on a single timer instead of each pipe running its own. Membership is
+ * kept up incrementally: a pipe joins and merges with its neighbours' networks as its connections are computed, and any lost link or
+ * removed pipe only marks its own network to be split up again on the next tick, which leaves out any pipe broken or unloaded since. Each
+ * pipe keeps the neighbouring pipes and fluid endpoints it flows with, so a flow cycle does not have to look them up again.
+ * <br><br>
+ * The network does not solve levels or pressure as a whole: each member still moves a quarter of the level difference per cycle, with its
+ * own intake and output rules, exactly as when pipes ticked on their own. Fluid therefore still takes many cycles to cross a long run, but
+ * throughput and pressure are unchanged. */
+final class PipeNetwork {
+
+	private final ArrayList<TileEntityPiping> members = new ArrayList();
+
+	private long lastTick = -1;
+	private int timer;
+	private boolean needsSplit;
+
+	private PipeNetwork() {
+
+	}
+
+	/** Puts the pipe into a network of its own, then merges with every neighbouring pipe's network. */
+	static void join(TileEntityPiping te) {
+		PipeNetwork net = new PipeNetwork();
+		net.add(te);
+		net.mergeNeighbours(te);
+	}
+
+	/** Called once the pipe's flow neighbours have been recomputed. New links merge networks; lost ones mark this one to be split. */
+	void onLinksChanged(TileEntityPiping te, boolean lostLink) {
+		if (lostLink)
+			needsSplit = true;
+		this.mergeNeighbours(te);
+	}
+
+	void remove(TileEntityPiping te) {
+		if (te.network == this) {
+			te.network = null;
+			needsSplit = true;
+		}
+	}
+
+	int getSize() {
+		return members.size();
+	}
+
+	private void add(TileEntityPiping te) {
+		te.network = this;
+		members.add(te);
+	}
+
+	private PipeNetwork mergeNeighbours(TileEntityPiping te) {
+		PipeNetwork net = this;
+		for (int i = 0; i < 6; i++) {
+			TileEntityPiping tp = te.getLinkedPipe(i);
+			if (tp != null && tp.network != null && tp.network != net) {
+				net = net.merge(tp.network);
+			}
+		}
+		return net;
+	}
+
+	/** Moves the members of the smaller network into the larger, and returns the larger. */
+	private PipeNetwork merge(PipeNetwork net) {
+		if (net.members.size() > members.size())
+			return net.merge(this);
+		for (TileEntityPiping te : net.members) {
+			if (te.network == net)
+				this.add(te);
+		}
+		needsSplit = needsSplit || net.needsSplit;
+		net.members.clear();
+		return this;
+	}
+
+	/** Runs at most once per world tick, whichever member calls it first. */
+	void tick(World world) {
+		long time = world.getTotalWorldTime();
+		if (time == lastTick)
+			return;
+		lastTick = time;
+		if (needsSplit) {
+			this.split();
+			return;
+		}
+		timer++;
+		if (timer >= TileEntityPiping.getTickDelay()) {
+			timer = 0;
+			for (int i = 0; i < members.size(); i++) {
+				TileEntityPiping te = members.get(i);
+				if (te.network == this && !te.isRemoved()) {
+					te.flow(te.worldObj, te.xCoord, te.yCoord, te.zCoord);
+				}
+			}
+		}
+	}
+
+	/** Regroups the members by what is still linked; each group becomes a network of its own. */
+	private void split() {
+		ArrayList<TileEntityPiping> li = new ArrayList(members);
+		members.clear();
+		needsSplit = false;
+		for (TileEntityPiping te : li) {
+			if (te.network == this)
+				te.network = null;
+		}
+		for (TileEntityPiping te : li) {
+			if (te.network == null && !te.isRemoved())
+				flood(te);
+		}
+	}
+
+	private static void flood(TileEntityPiping start) {
+		PipeNetwork net = new PipeNetwork();
+		LinkedList<TileEntityPiping> queue = new LinkedList();
+		net.add(start);
+		queue.add(start);
+		while (!queue.isEmpty()) {
+			TileEntityPiping te = queue.removeFirst();
+			for (int i = 0; i < 6; i++) {
+				TileEntityPiping tp = te.getLinkedPipe(i);
+				if (tp == null || tp.isRemoved())
+					continue;
+				if (tp.network == null) {
+					net.add(tp);
+					queue.add(tp);
+				}
+				else if (tp.network != net) {
+					//a one-sided link to a group already rebuilt
+					net = net.merge(tp.network);
+				}
+			}
+		}
+	}
+
+}
@@ -79,7 +79,10 @@ public abstract class PoweredLiquidReceiver extends PoweredLiquidBase implements
 	public final int fill(ForgeDirection from, FluidStack resource, boolean doFill) {
 		if (!this.canFill(from, resource.getFluid()))
 			return 0;
-		return tank.fill(resource, doFill);
+		int ret = tank.fill(resource, doFill);
+		if (doFill && ret > 0)
+			this.wake();
+		return ret;
 	}
 
 	public abstract boolean canReceiveFrom(ForgeDirection from);
@@ -30,6 +30,7 @@ import Reika.DragonAPI.Libraries.MathSci.ReikaThermoHelper;
 import Reika.DragonAPI.Libraries.World.ReikaBlockHelper;
 import Reika.RotaryCraft.RotaryCraft;
 import Reika.RotaryCraft.API.Interfaces.BasicMachine;
+import Reika.RotaryCraft.Auxiliary.MachineSleepTracker;
 import Reika.RotaryCraft.Auxiliary.RotaryRenderList;
 import Reika.RotaryCraft.Base.RotaryModelBase;
 import Reika.RotaryCraft.Base.RotaryTERenderer;
@@ -58,6 +59,9 @@ public abstract class RotaryCraftTileEntity extends TileEntityRegistryBase<Machi
 
 	public boolean isFlipped = false;
 
+	private boolean sleeping;
+	private long sleepState;
+
 	@Override
 	public final boolean canUpdate() {
 		return !RotaryCraft.instance.isLocked();
@@ -187,6 +191,45 @@ public abstract class RotaryCraftTileEntity extends TileEntityRegistryBase<Machi
 		return disabled;
 	}
 
+	/** Stops the machine's work until its inventory, its power or an adjacent block changes, or until {@link #getSleepState} does. Call this
+	 * once the machine has found nothing to do, and check {@link #isSleeping} before looking again. Server only; the client keeps ticking. */
+	protected final void sleep() {
+		if (sleeping || worldObj.isRemote)
+			return;
+		sleeping = true;
+		sleepState = this.getSleepState();
+		MachineSleepTracker.onSleep(this.getTile());
+	}
+
+	public final void wake() {
+		if (sleeping) {
+			sleeping = false;
+			MachineSleepTracker.onWake(this.getTile());
+		}
+	}
+
+	protected final boolean isSleeping() {
+		if (sleeping && this.getSleepState() != sleepState)
+			this.wake();
+		return sleeping;
+	}
+
+	/** Any state outside the inventory that decides whether the machine has work; a sleeping machine wakes as soon as this changes. */
+	protected long getSleepState() {
+		return 0;
+	}
+
+	@Override
+	protected void onAdjacentBlockUpdate() {
+		this.wake();
+	}
+
+	@Override
+	protected void onInvalidateOrUnload(World world, int x, int y, int z, boolean invalid) {
+		super.onInvalidateOrUnload(world, x, y, z, invalid);
+		this.wake();
+	}
+
 	public void onEMP() {
 		disabled = true;
 		if (this instanceof TileEntityIOMachine) {
@@ -26,6 +26,7 @@ import Reika.DragonAPI.Libraries.ReikaPlayerAPI;
 import Reika.DragonAPI.Libraries.IO.ReikaChatHelper;
 import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.DragonAPI.Libraries.MathSci.ReikaPhysicsHelper;
+import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.RotaryCraft;
 import Reika.RotaryCraft.Auxiliary.Interfaces.ConditionalOperation;
 import Reika.RotaryCraft.Auxiliary.Interfaces.DiscreteFunction;
@@ -37,6 +38,17 @@ import cpw.mods.fml.relauncher.Side;
 
 public abstract class TileEntityAimedCannon extends TileEntityPowerReceiver implements RangedEffect, DiscreteFunction, ConditionalOperation {
 
+	/** In ticks; how often a turret without a target scans its range for one, and how often one with a target rechecks its line of sight.
+	 * Each turret's scans are offset by its position, so that a group of turrets does not scan all on the same tick. */
+	private static final int SCAN_INTERVAL = 10;
+	/** In ticks; how often the aim point on the current target is recomputed, rather than extrapolated from the target's motion. */
+	private static final int SOLVE_INTERVAL = 4;
+	/** Full range scans allowed per tick on each side, across all turrets; any others wait their turn in request order. */
+	private static final int MAX_SCANS_PER_TICK = 8;
+
+	private static final ScanBudget serverScans = new ScanBudget();
+	private static final ScanBudget clientScans = new ScanBudget();
+
 	private List<String> safePlayers = new ArrayList<String>();
 
 	public boolean targetPlayers = true;
@@ -54,6 +66,11 @@ public abstract class TileEntityAimedCannon extends TileEntityPowerReceiver impl
 
 	public boolean isCustomAim;
 
+	private boolean scanPending;
+	private long scanTicket = -1;
+	private int solveAge;
+	private final double[] targetMotion = new double[3];
+
 	public final double[] getTarget() {
 		return target;
 	}
@@ -131,11 +148,92 @@ public abstract class TileEntityAimedCannon extends TileEntityPowerReceiver impl
 			return;
 		}
 		else {
-			target = this.getTarget(worldObj, xCoord, yCoord, zCoord);
+			this.updateTarget(worldObj, xCoord, yCoord, zCoord);
 			this.adjustAim(worldObj, xCoord, yCoord, zCoord, target);
 		}
 	}
 
+	/** Keeps the current target until it dies, leaves range or is lost from sight, and only then scans for a new one. Between solves the aim
+	 * point follows the target's last known motion. */
+	private void updateTarget(World world, int x, int y, int z) {
+		long time = world.getTotalWorldTime();
+		boolean scanTick = scanPending || (time+x*31+y+z*17)%SCAN_INTERVAL == 0;
+		if (closestMob != null && !this.isTargetStillValid(world, x, y, z, closestMob, scanTick)) {
+			closestMob = null;
+			target = new double[4];
+			scanTick = true;
+		}
+		if (closestMob == null) {
+			if (scanTick) {
+				ScanBudget budget = world.isRemote ? clientScans : serverScans;
+				if (scanTicket < 0)
+					scanTicket = budget.issue();
+				scanPending = !budget.admits(scanTicket, time);
+				if (!scanPending) {
+					scanTicket = -1;
+					this.scanForTarget(world, x, y, z);
+				}
+			}
+			return;
+		}
+		solveAge++;
+		if (solveAge >= SOLVE_INTERVAL) {
+			this.solveTarget();
+		}
+		else {
+			for (int i = 0; i < 3; i++)
+				target[i] += targetMotion[i];
+		}
+	}
+
+	private void scanForTarget(World world, int x, int y, int z) {
+		closestMob = null;
+		target = this.getTarget(world, x, y, z);
+		if (target[3] == 1 && closestMob != null)
+			this.recordMotion();
+		else
+			closestMob = null;
+	}
+
+	private void solveTarget() {
+		target = this.getAimPoint(closestMob);
+		this.recordMotion();
+	}
+
+	private void recordMotion() {
+		solveAge = 0;
+		targetMotion[0] = closestMob.posX-closestMob.lastTickPosX;
+		targetMotion[1] = closestMob.posY-closestMob.lastTickPosY;
+		targetMotion[2] = closestMob.posZ-closestMob.lastTickPosZ;
+	}
+
+	private boolean isTargetStillValid(World world, int x, int y, int z, Entity e, boolean checkSight) {
+		if (e.isDead || e.worldObj != world || !this.isValidTarget(e))
+			return false;
+		double dist = ReikaMathLibrary.py3d(e.posX-x-0.5, e.posY-y-0.5, e.posZ-z-0.5);
+		if (!this.isInTargetRange(dist))
+			return false;
+		double reqtheta = -90+Math.toDegrees(Math.abs(Math.acos(-(e.posY-y)/dist)));
+		if (dir == 1 ? reqtheta < MAXLOWANGLE : reqtheta > -MAXLOWANGLE)
+			return false;
+		return !checkSight || ReikaWorldHelper.canBlockSee(world, x, y, z, e.posX, e.posY, e.posZ, this.getRange());
+	}
+
+	/** Whether a target this far away may still be kept; should agree with the range used by {@link #getTarget}. */
+	protected boolean isInTargetRange(double dist) {
+		return dist < this.getRange()+2;
+	}
+
+	/** The point to aim at on the given target, including the turret's random spread; the last element is 1 if there is a target. */
+	protected final double[] getAimPoint(Entity e) {
+		double[] xyzb = new double[4];
+		xyzb[0] = e.posX+this.randomOffset();
+		xyzb[1] = e.posY+e.getEyeHeight()*0.25+this.randomOffset();
+		xyzb[2] = e.posZ+this.randomOffset();
+		xyzb[3] = 1;
+		return xyzb;
+	}
+
 	public boolean isAimingAtTarget(World world, int x, int y, int z, double[] t) {
 		double[] tg = ReikaPhysicsHelper.cartesianToPolar(x-t[0], y-t[1], z-t[2]);
 		tg[1] = Math.abs(tg[1])-90;
@@ -196,6 +294,7 @@ public abstract class TileEntityAimedCannon extends TileEntityPowerReceiver impl
 
 	public abstract boolean hasAmmo();
 
+	/** Scans the whole range for the best target, setting {@link #closestMob} if one is found. Rate-limited by the caller. */
 	protected abstract double[] getTarget(World world, int x, int y, int z);
 
 	public abstract void fire(World world, double[] xyz);
@@ -323,4 +422,28 @@ public abstract class TileEntityAimedCannon extends TileEntityPowerReceiver impl
 		return this.areConditionsMet() ? "Operational" : "No Ammunition";
 	}
 
+	/** Each turret that wants to scan takes a ticket, and the tickets are admitted in order, a window of {@link #MAX_SCANS_PER_TICK} per tick,
+	 * so a turret late in the tile tick order waits a bounded number of ticks rather than losing to the same early turrets every tick. */
+	private static final class ScanBudget {
+
+		private long tick = -1;
+		private long nextTicket;
+		/** Tickets below this may scan. */
+		private long windowEnd;
+
+		private long issue() {
+			return nextTicket++;
+		}
+
+		private boolean admits(long ticket, long time) {
+			if (time != tick) {
+				tick = time;
+				//unused capacity is not carried over, so idle ticks cannot build up a burst
+				windowEnd = Math.min(windowEnd, nextTicket)+MAX_SCANS_PER_TICK;
+			}
+			return ticket < windowEnd;
+		}
+
+	}
+
 }
@@ -42,9 +42,11 @@ import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.DragonAPI.ModInteract.AtmosphereHandler;
 import Reika.RotaryCraft.API.Power.PowerGenerator;
 import Reika.RotaryCraft.API.Power.ShaftMerger;
+import Reika.RotaryCraft.Auxiliary.DrivetrainGraph;
 import Reika.RotaryCraft.Auxiliary.ItemStacks;
 import Reika.RotaryCraft.Auxiliary.PowerSourceList;
 import Reika.RotaryCraft.Auxiliary.RotaryAux;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Auxiliary.Interfaces.IntegratedGearboxable;
 import Reika.RotaryCraft.Auxiliary.Interfaces.PipeConnector;
 import Reika.RotaryCraft.Auxiliary.Interfaces.PowerSourceTracker;
@@ -184,7 +186,7 @@ PipeConnector, PowerGenerator, IFluidHandler, PartialInventory, PartialTank, Int
 
 	public void updateTemperature(World world, int x, int y, int z, int meta) {
 		//BiomeGenBase biome = world.getBiomeGenForCoords(x, z);
-		int Tamb = ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z);
+		int Tamb = TemperatureHandler.instance.getAmbientTemperature(world, x, y, z);
 		temperature = Math.max(temperature, Tamb);
 		//ReikaChatHelper.writeInt(temperature);
 		if (temperature > Tamb && !isOn) {
@@ -345,7 +347,10 @@ PipeConnector, PowerGenerator, IFluidHandler, PartialInventory, PartialTank, Int
 	@Override
 	public final void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 
 		timer.updateTicker("temperature");
 		if (this.isShutdown()) {
@@ -418,6 +423,8 @@ PipeConnector, PowerGenerator, IFluidHandler, PartialInventory, PartialTank, Int
 		else if (soundtick < this.getSoundLength(soundfactor))
 			soundtick = 2000;
 
+		if (!world.isRemote && (power > 0) != (lastpower > 0))
+			DrivetrainGraph.markDirty(world, x, y, z);
 		lastpower = power;
 	}
 
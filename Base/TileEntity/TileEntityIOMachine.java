@@ -9,20 +9,29 @@
  ******************************************************************************/
 package Reika.RotaryCraft.Base.TileEntity;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 
 import Reika.ChromatiCraft.API.Interfaces.WorldRift;
+import Reika.DragonAPI.DragonOptions;
 import Reika.DragonAPI.Instantiable.Data.Immutable.WorldLocation;
+import Reika.RotaryCraft.RotaryCraft;
 import Reika.RotaryCraft.API.IOMachine;
 import Reika.RotaryCraft.API.Power.AdvancedShaftPowerReceiver;
 import Reika.RotaryCraft.API.Power.ShaftPowerReceiver;
 import Reika.RotaryCraft.API.Power.SimpleShaftPowerReceiver;
+import Reika.RotaryCraft.Auxiliary.DrivetrainSyncBatcher;
+import Reika.RotaryCraft.Auxiliary.DrivetrainSyncBatcher.SyncEntry;
 import Reika.RotaryCraft.Auxiliary.RotaryAux;
 import Reika.RotaryCraft.Auxiliary.ShaftPowerEmitter;
 import Reika.RotaryCraft.Auxiliary.Interfaces.PowerSourceTracker;
+import Reika.RotaryCraft.Registry.ConfigRegistry;
 import Reika.RotaryCraft.TileEntities.Transmission.TileEntityShaft;
 
 public abstract class TileEntityIOMachine extends RotaryCraftTileEntity implements IOMachine, PowerSourceTracker {
@@ -53,11 +62,121 @@ public abstract class TileEntityIOMachine extends RotaryCraftTileEntity implemen
 
 	private boolean superCalled = false;
 
+	private SyncEntry syncEntry;
+
+	/** Receivers that read this machine's output from a cached slot instead of looking it up each tick; they are sent the output whenever it
+	 * changes, and dropped if the output direction changes or this machine goes away. */
+	private ArrayList<TileEntityPowerReceiver> pushTargets;
+	private int pushedTorque;
+	private int pushedOmega;
+	private ForgeDirection pushedWrite;
+	private ForgeDirection pushedWrite2;
+
+	/** The metadata and flip state the IO sides were last computed for, or -1 if they must be computed again. */
+	private int ioSidesKey = -1;
+	/** The cached IO sides, kept in debug mode to compare with the fresh computation that is then always done. */
+	private ForgeDirection[] ioSidesCheck;
+
 	public void updateTileEntity() {
 		if (iotick > 0)
 			iotick -= 8;
 		superCalled = true;
+		this.publishOutput();
+		if (!worldObj.isRemote && ConfigRegistry.COMPACTSYNC.getState() && (syncEntry == null || syncEntry.isRemoved())) {
+			syncEntry = DrivetrainSyncBatcher.instance.track(this);
+		}
 	}
+
+	/** Returns true if the IO sides need to be computed: they never were for this metadata and flip state, or they were invalidated by a
+	 * redirect or rotation. Use as<br>
+	 * <code>if (this.ioSidesChanged(meta)) { this.getIOSides(...); this.onIOSidesComputed(); }</code><br>
+	 * and only in machines whose sides depend on nothing but the metadata, and are set nowhere else. In debug mode this always returns true,
+	 * and the fresh sides are checked against the cached ones. */
+	protected final boolean ioSidesChanged(int meta) {
+		int key = isFlipped ? meta | 0x10000 : meta;
+		if (key == ioSidesKey) {
+			if (!DragonOptions.DEBUGMODE.getState())
+				return false;
+			ioSidesCheck = this.getIOSideState();
+			return true;
+		}
+		ioSidesKey = key;
+		ioSidesCheck = null;
+		return true;
+	}
+
+	protected final void onIOSidesComputed() {
+		if (ioSidesCheck != null) {
+			ForgeDirection[] fresh = this.getIOSideState();
+			if (!Arrays.equals(fresh, ioSidesCheck))
+				RotaryCraft.logger.logError(this.getName()+" at "+xCoord+", "+yCoord+", "+zCoord+" had cached IO sides "+Arrays.toString(ioSidesCheck)+" but computes "+Arrays.toString(fresh));
+			ioSidesCheck = null;
+		}
+	}
+
+	public final void invalidateIOSides() {
+		ioSidesKey = -1;
+	}
+
+	private ForgeDirection[] getIOSideState() {
+		return new ForgeDirection[]{read, read2, read3, read4, write, write2};
+	}
+
+	final void addPushTarget(TileEntityPowerReceiver te) {
+		if (pushTargets == null)
+			pushTargets = new ArrayList(2);
+		if (pushTargets.isEmpty()) {
+			pushedTorque = torque;
+			pushedOmega = omega;
+			pushedWrite = write;
+			pushedWrite2 = write2;
+		}
+		if (!pushTargets.contains(te))
+			pushTargets.add(te);
+	}
+
+	final void removePushTarget(TileEntityPowerReceiver te) {
+		if (pushTargets != null)
+			pushTargets.remove(te);
+	}
+
+	/** Sends the output as of the end of the last tick to the receivers reading it, if it has changed since it was last sent. */
+	private void publishOutput() {
+		if (pushTargets == null || pushTargets.isEmpty())
+			return;
+		if (write != pushedWrite || write2 != pushedWrite2) {
+			this.dropPushTargets();
+			return;
+		}
+		if (torque != pushedTorque || omega != pushedOmega) {
+			pushedTorque = torque;
+			pushedOmega = omega;
+			Iterator<TileEntityPowerReceiver> it = pushTargets.iterator();
+			while (it.hasNext()) {
+				if (!it.next().receivePush(this, torque, omega))
+					it.remove();
+			}
+		}
+	}
+
+	private void dropPushTargets() {
+		if (pushTargets == null)
+			return;
+		for (TileEntityPowerReceiver te : pushTargets)
+			te.dropPush(this);
+		pushTargets.clear();
+	}
+
+	@Override
+	protected void onInvalidateOrUnload(World world, int x, int y, int z, boolean invalid) {
+		super.onInvalidateOrUnload(world, x, y, z, invalid);
+		this.dropPushTargets();
+		if (syncEntry != null) {
+			DrivetrainSyncBatcher.instance.untrack(syncEntry);
+			syncEntry = null;
+		}
+	}
+
 	/*
 	@Override
 	protected void onDataSync(boolean fullNBT) {
@@ -98,10 +217,12 @@ public abstract class TileEntityIOMachine extends RotaryCraftTileEntity implemen
 	protected void writeSyncTag(NBTTagCompound NBT)
 	{
 		super.writeSyncTag(NBT);
-		NBT.setInteger("torque", torque);
-		NBT.setInteger("omega", omega);
-		NBT.setLong("power", power);
-		NBT.setInteger("io", iotick);
+		if (!ConfigRegistry.COMPACTSYNC.getState()) {
+			NBT.setInteger("torque", torque);
+			NBT.setInteger("omega", omega);
+			NBT.setLong("power", power);
+			NBT.setInteger("io", iotick);
+		}
 
 		NBT.setInteger("read1", read != null ? read.ordinal() : -1);
 		NBT.setInteger("read2", read2 != null ? read2.ordinal() : -1);
@@ -122,15 +243,17 @@ public abstract class TileEntityIOMachine extends RotaryCraftTileEntity implemen
 	protected void readSyncTag(NBTTagCompound NBT)
 	{
 		super.readSyncTag(NBT);
-		torque = NBT.getInteger("torque");
-		omega = NBT.getInteger("omega");
-		power = NBT.getLong("power");
-		iotick = NBT.getInteger("io");
-
-		if (torque < 0 || torque == Double.POSITIVE_INFINITY || torque == Double.NaN)
-			torque = 0;
-		if (omega < 0 || omega == Double.POSITIVE_INFINITY || omega == Double.NaN)
-			omega = 0;
+		if (NBT.hasKey("torque")) {
+			torque = NBT.getInteger("torque");
+			omega = NBT.getInteger("omega");
+			power = NBT.getLong("power");
+			iotick = NBT.getInteger("io");
+
+			if (torque < 0 || torque == Double.POSITIVE_INFINITY || torque == Double.NaN)
+				torque = 0;
+			if (omega < 0 || omega == Double.POSITIVE_INFINITY || omega == Double.NaN)
+				omega = 0;
+		}
 
 		int r1 = NBT.getInteger("read1");
 		int r2 = NBT.getInteger("read2");
@@ -592,6 +715,6 @@ public abstract class TileEntityIOMachine extends RotaryCraftTileEntity implemen
 	}*/
 
 	public void onRotate() {
-
+		this.invalidateIOSides();
 	}
 }
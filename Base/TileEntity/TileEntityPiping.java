@@ -29,7 +29,6 @@ import net.minecraftforge.fluids.IFluidHandler;
 import Reika.ChromatiCraft.API.Interfaces.WorldRift;
 import Reika.DragonAPI.APIPacketHandler.PacketIDs;
 import Reika.DragonAPI.DragonAPIInit;
-import Reika.DragonAPI.Instantiable.StepTimer;
 import Reika.DragonAPI.Instantiable.Data.Immutable.WorldLocation;
 import Reika.DragonAPI.Instantiable.IO.PacketTarget;
 import Reika.DragonAPI.Interfaces.TileEntity.BreakAction;
@@ -64,6 +63,19 @@ public abstract class TileEntityPiping extends RotaryCraftTileEntity implements
 
 	private int connectionDelay = 0;
 
+	PipeNetwork network;
+	/** Set when the pipe is unloaded with its chunk, which, unlike breaking it, does not invalidate it. */
+	private boolean unloaded;
+
+	/** What this pipe flows with on each side: a pipe, a fluid tile, the tile a rift leads to, or nothing. Filled in by {@link
+	 * #recomputeConnections} and rechecked only after a neighbour change or a chunk load or unload, so a flow cycle never has to look anything up. */
+	private final TileEntity[] neighbours = new TileEntity[6];
+	private final WorldRift[] rifts = new WorldRift[6];
+	private final WorldLocation[] riftLinks = new WorldLocation[6];
+	private boolean neighboursChanged;
+	/** Set when a chunk next to this pipe's own has loaded or unloaded, so that the neighbours held across the border are rechecked. */
+	private boolean borderChanged;
+
 	public final int getPressure() {
 		Fluid f = this.getFluidType();
 		int amt = this.getFluidLevel();
@@ -122,8 +134,6 @@ public abstract class TileEntityPiping extends RotaryCraftTileEntity implements
 
 	public abstract boolean isValidFluid(Fluid f);
 
-	private StepTimer flowTimer = new StepTimer(this.getTickDelay());
-
 	public static int getTickDelay() {
 		int cfg = Math.max(ConfigRegistry.FLOWSPEED.getValue(), 1);
 		if (cfg > 5)
@@ -138,13 +148,9 @@ public abstract class TileEntityPiping extends RotaryCraftTileEntity implements
 			world.markBlockForUpdate(x, y, z);
 		}
 		Fluid f = this.getFluidType();
-		//if (!world.isRemote) {
-		flowTimer.update();
-		if (flowTimer.checkCap()) {
-			this.intakeFluid(world, x, y, z);
-			this.dumpContents(world, x, y, z);
-		}
-		//}
+		if (network == null)
+			PipeNetwork.join(this);
+		network.tick(world);
 		if (this.getFluidLevel() <= 0) {
 			this.setLevel(0);
 			this.setFluid(null);
@@ -179,6 +185,141 @@ public abstract class TileEntityPiping extends RotaryCraftTileEntity implements
 		this.recomputeConnections(world, x, y, z);
 	}
 
+	@Override
+	protected void onInvalidateOrUnload(World world, int x, int y, int z, boolean invalid) {
+		super.onInvalidateOrUnload(world, x, y, z, invalid);
+		unloaded = true;
+		if (network != null)
+			network.remove(this);
+		for (int i = 0; i < 6; i++) {
+			TileEntityPiping tp = this.getLinkedPipe(i);
+			if (tp != null)
+				tp.neighboursChanged = true;
+			neighbours[i] = null;
+			rifts[i] = null;
+			riftLinks[i] = null;
+		}
+	}
+
+	/** True once the pipe has been broken or unloaded; such a pipe must not be flowed or kept in a network. */
+	final boolean isRemoved() {
+		return unloaded || this.isInvalid();
+	}
+
+	@Override
+	protected void onAdjacentBlockUpdate() {
+		super.onAdjacentBlockUpdate();
+		neighboursChanged = true;
+	}
+
+	/** Flags the pipes along the borders of the four chunks around the one that loaded or unloaded. */
+	public static void onChunkChange(World world, int cx, int cz) {
+		for (int i = 0; i < 4; i++) {
+			ForgeDirection dir = dirs[i+2];
+			int ax = cx+dir.offsetX;
+			int az = cz+dir.offsetZ;
+			if (!world.getChunkProvider().chunkExists(ax, az))
+				continue;
+			for (Object o : world.getChunkFromChunkCoords(ax, az).chunkTileEntityMap.values()) {
+				if (o instanceof TileEntityPiping) {
+					TileEntityPiping te = (TileEntityPiping)o;
+					//only the row of pipes facing the changed chunk
+					if ((te.xCoord-dir.offsetX) >> 4 == cx && (te.zCoord-dir.offsetZ) >> 4 == cz)
+						te.borderChanged = true;
+				}
+			}
+		}
+	}
+
+	/** Run by the pipe network once per flow cycle. */
+	final void flow(World world, int x, int y, int z) {
+		if (unloaded)
+			return;
+		this.validateNeighbours(world, x, y, z);
+		this.intakeFluid(world, x, y, z);
+		this.dumpContents(world, x, y, z);
+	}
+
+	final TileEntityPiping getLinkedPipe(int side) {
+		TileEntity te = neighbours[side];
+		return te instanceof TileEntityPiping ? (TileEntityPiping)te : null;
+	}
+
+	private void validateNeighbours(World world, int x, int y, int z) {
+		if (neighboursChanged) {
+			neighboursChanged = false;
+			borderChanged = false;
+			this.updateNeighbours(world, x, y, z);
+			return;
+		}
+		boolean crossBorder = borderChanged;
+		borderChanged = false;
+		boolean lost = false;
+		boolean changed = false;
+		for (int i = 0; i < 6; i++) {
+			TileEntity te = neighbours[i];
+			boolean stale = false;
+			if (rifts[i] != null) {
+				//rifts can be relinked at any time, and the far end may be unloaded or not loaded yet
+				WorldLocation loc = rifts[i].getLinkTarget();
+				stale = te == null || (loc == null ? riftLinks[i] != null : !loc.equals(riftLinks[i]));
+				if (!stale)
+					stale = !te.worldObj.getChunkProvider().chunkExists(te.xCoord >> 4, te.zCoord >> 4);
+			}
+			if (te == null && !stale) {
+				//a neighbour whose chunk was not loaded when last read
+				stale = crossBorder && interaction[i];
+			}
+			else if (!stale) {
+				stale = te instanceof TileEntityPiping ? ((TileEntityPiping)te).isRemoved() : te.isInvalid();
+				if (!stale && crossBorder && (te.xCoord >> 4 != x >> 4 || te.zCoord >> 4 != z >> 4))
+					stale = !te.worldObj.getChunkProvider().chunkExists(te.xCoord >> 4, te.zCoord >> 4);
+			}
+			if (stale) {
+				lost |= this.updateNeighbour(world, x, y, z, i);
+				changed = true;
+			}
+		}
+		if (changed && network != null)
+			network.onLinksChanged(this, lost);
+	}
+
+	/** Re-reads the flow neighbours on every side, and tells the network if any pipe link came or went. */
+	private void updateNeighbours(World world, int x, int y, int z) {
+		boolean lost = false;
+		for (int i = 0; i < 6; i++) {
+			lost |= this.updateNeighbour(world, x, y, z, i);
+		}
+		if (network != null)
+			network.onLinksChanged(this, lost);
+	}
+
+	/** Returns true if this side lost a pipe link. */
+	private boolean updateNeighbour(World world, int x, int y, int z, int i) {
+		TileEntityPiping old = this.getLinkedPipe(i);
+		neighbours[i] = null;
+		rifts[i] = null;
+		riftLinks[i] = null;
+		if (interaction[i]) {
+			ForgeDirection dir = dirs[i];
+			int dx = x+dir.offsetX;
+			int dz = z+dir.offsetZ;
+			if (world.getChunkProvider().chunkExists(dx >> 4, dz >> 4)) {
+				TileEntity te = world.getTileEntity(dx, y+dir.offsetY, dz);
+				if (te instanceof WorldRift) {
+					//the rift itself is only the target while unlinked
+					WorldRift wr = (WorldRift)te;
+					rifts[i] = wr;
+					riftLinks[i] = wr.getLinkTarget();
+					if (riftLinks[i] != null && !world.isRemote)
+						te = wr.getTileEntityFrom(dir);
+				}
+				neighbours[i] = te;
+			}
+		}
+		return old != null && old != this.getLinkedPipe(i);
+	}
+
 	@Override
 	public int getPacketDelay() {
 		return 4*super.getPacketDelay();
@@ -256,24 +397,12 @@ public abstract class TileEntityPiping extends RotaryCraftTileEntity implements
 			}
 			ForgeDirection dir = dirs[i];
 			if (interaction[i]) {
-				int dx = x+dir.offsetX;
-				int dy = y+dir.offsetY;
-				int dz = z+dir.offsetZ;
-				TileEntity te = world.getTileEntity(dx, dy, dz);
-
-				if (te instanceof WorldRift) {
+				TileEntity te = neighbours[i];
+				if (rifts[i] != null) {
 					if (world.isRemote)
 						continue;
-					WorldLocation loc = ((WorldRift)te).getLinkTarget();
-					if (loc != null) {
-						te = ((WorldRift)te).getTileEntityFrom(dir);
-						if (te == null)
-							continue;
-						dx = te.xCoord;
-						dy = te.yCoord;
-						dz = te.zCoord;
-						world = te.worldObj;
-					}
+					if (te == null)
+						continue;
 				}
 
 				if (te instanceof TileEntityPiping) {
@@ -348,24 +477,12 @@ public abstract class TileEntityPiping extends RotaryCraftTileEntity implements
 		for (int i = 0; i < 6; i++) {
 			ForgeDirection dir = dirs[i];
 			if (interaction[i]) {
-				int dx = x+dir.offsetX;
-				int dy = y+dir.offsetY;
-				int dz = z+dir.offsetZ;
-				TileEntity te = world.getTileEntity(dx, dy, dz);
-
-				if (te instanceof WorldRift) {
+				TileEntity te = neighbours[i];
+				if (rifts[i] != null) {
 					if (world.isRemote)
 						continue;
-					WorldLocation loc = ((WorldRift)te).getLinkTarget();
-					if (loc != null) {
-						te = ((WorldRift)te).getTileEntityFrom(dir);
-						if (te == null)
-							continue;
-						dx = te.xCoord;
-						dy = te.yCoord;
-						dz = te.zCoord;
-						world = te.worldObj;
-					}
+					if (te == null)
+						continue;
 				}
 
 				if (te instanceof TileEntityPiping) {
@@ -469,6 +586,9 @@ public abstract class TileEntityPiping extends RotaryCraftTileEntity implements
 			interaction[i] = this.canInteractWith(world, x, y, z, dirs[i]);
 			world.func_147479_m(x+dirs[i].offsetX, y+dirs[i].offsetY, z+dirs[i].offsetZ);
 		}
+		neighboursChanged = false;
+		borderChanged = false;
+		this.updateNeighbours(world, x, y, z);
 		this.syncAllData(true);
 		world.markBlockForUpdate(x, y, z);
 		world.func_147479_m(x, y, z);
@@ -478,8 +598,8 @@ public abstract class TileEntityPiping extends RotaryCraftTileEntity implements
 		for (int i = 0; i < 6; i++) {
 			ForgeDirection dir = dirs[i];
 			int dx = x+dir.offsetX;
-			int dy = x+dir.offsetY;
-			int dz = x+dir.offsetZ;
+			int dy = y+dir.offsetY;
+			int dz = z+dir.offsetZ;
 			MachineRegistry m = MachineRegistry.getMachine(world, dx, dy, dz);
 			if (m == this.getTile()) {
 				TileEntityPiping te = (TileEntityPiping)world.getTileEntity(dx, dy, dz);
@@ -493,8 +613,8 @@ public abstract class TileEntityPiping extends RotaryCraftTileEntity implements
 		for (int i = 0; i < 6; i++) {
 			ForgeDirection dir = dirs[i];
 			int dx = x+dir.offsetX;
-			int dy = x+dir.offsetY;
-			int dz = x+dir.offsetZ;
+			int dy = y+dir.offsetY;
+			int dz = z+dir.offsetZ;
 			MachineRegistry m = MachineRegistry.getMachine(world, dx, dy, dz);
 			if (m == this.getTile()) {
 				TileEntityPiping te = (TileEntityPiping)world.getTileEntity(dx, dy, dz);
@@ -9,6 +9,7 @@
  ******************************************************************************/
 package Reika.RotaryCraft.Base.TileEntity;
 
+import java.util.ArrayList;
 import java.util.Collection;
 
 import net.minecraft.tileentity.TileEntity;
@@ -45,6 +46,23 @@ public abstract class TileEntityPowerReceiver extends TileEntityIOMachine {
 
 	private long[][] powerin = new long[6][3]; //stores P, T, omega
 
+	/** In ticks; how long a pushed input is trusted before it is looked up again, in case its source has stopped ticking. */
+	private static final int PUSH_REVALIDATE = 20;
+
+	/** Indexed by read direction; the machine whose output was last read there, if it sends changes to it instead of being looked up. */
+	private final TileEntityIOMachine[] pushSources = new TileEntityIOMachine[6];
+	private final int[] pushTorque = new int[6];
+	private final int[] pushOmega = new int[6];
+	private final long[] pushTime = new long[6];
+
+	private static long pulls;
+	private static long pullsAvoided;
+	private static long statTick = -1;
+	private static int tickPulls;
+	private static int tickPullsAvoided;
+	private static int lastTickPulls;
+	private static int lastTickPullsAvoided;
+
 	public TileEntityPowerReceiver() {
 		//ReikaJavaLibrary.pConsole(this.getClass()+" goes to "+this.getMachineIndex());
 		machine = PowerReceivers.getEnumFromMachineIndex(this.getIndex());
@@ -87,6 +105,137 @@ public abstract class TileEntityPowerReceiver extends TileEntityIOMachine {
 		}
 	}
 
+	/** Torque and speed, as read from the input this tick; power follows from them. */
+	@Override
+	protected long getSleepState() {
+		return ((long)torque << 32) | (omega & 0xFFFFFFFFL);
+	}
+
+	@Override
+	protected void onAdjacentBlockUpdate() {
+		super.onAdjacentBlockUpdate();
+		this.clearPushSources();
+	}
+
+	@Override
+	protected void onInvalidateOrUnload(World world, int x, int y, int z, boolean invalid) {
+		super.onInvalidateOrUnload(world, x, y, z, invalid);
+		this.clearPushSources();
+	}
+
+	/** Empties the push slots and unregisters from their sources, so that no source keeps this machine in its target list. */
+	private void clearPushSources() {
+		for (int i = 0; i < 6; i++) {
+			TileEntityIOMachine src = pushSources[i];
+			if (src != null) {
+				pushSources[i] = null;
+				src.removePushTarget(this);
+			}
+		}
+	}
+
+	/** Called by a push source when its output changes; returns false if this no longer reads from it. */
+	final boolean receivePush(TileEntityIOMachine src, int tq, int om) {
+		if (this.isInvalid())
+			return false;
+		boolean ret = false;
+		for (int i = 0; i < 6; i++) {
+			if (pushSources[i] == src) {
+				pushTorque[i] = tq;
+				pushOmega[i] = om;
+				ret = true;
+			}
+		}
+		return ret;
+	}
+
+	final void dropPush(TileEntityIOMachine src) {
+		for (int i = 0; i < 6; i++) {
+			if (pushSources[i] == src)
+				pushSources[i] = null;
+		}
+	}
+
+	/** Takes this tick's input on the read side from its push slot, if there is a valid one. */
+	private boolean readPushedPower() {
+		int i = read.ordinal();
+		if (i >= 6)
+			return false;
+		TileEntityIOMachine src = pushSources[i];
+		if (src == null)
+			return false;
+		long age = worldObj.getTotalWorldTime()-pushTime[i];
+		if (src.isInvalid() || age < 0 || age >= PUSH_REVALIDATE) {
+			pushSources[i] = null;
+			return false;
+		}
+		torquein = pushTorque[i];
+		omegain = pushOmega[i];
+		powerin[0][0] = (long)torquein*(long)omegain;
+		powerin[0][1] = torquein;
+		powerin[0][2] = omegain;
+		torque = torquein;
+		omega = omegain;
+		power = (long)omega*(long)torque;
+		prevpower = power;
+		return true;
+	}
+
+	/** After a full lookup on the read side, keeps the source in the push slot if its output reaches this machine unchanged, as it does
+	 * for plain shafts and other simple providers; splitting, cross and multi-output machines are still looked up each tick. */
+	private void cachePushSource(TileEntity te, MachineRegistry m) {
+		int i = read.ordinal();
+		if (i >= 6)
+			return;
+		pushSources[i] = null;
+		if (!this.isProvider(te) || !(te instanceof TileEntityIOMachine) || te instanceof ComplexIO || te instanceof ShaftPowerEmitter)
+			return;
+		if (m == MachineRegistry.SPLITTER)
+			return;
+		TileEntityIOMachine src = (TileEntityIOMachine)te;
+		if (m == MachineRegistry.SHAFT) {
+			if (((TileEntityShaft)te).isCross() || !src.isWritingTo(this))
+				return;
+		}
+		else if (!(te instanceof SimpleProvider) || !(src.isWritingTo(this) || src.isWritingTo2(this))) {
+			return;
+		}
+		pushSources[i] = src;
+		pushTorque[i] = torque;
+		pushOmega[i] = omega;
+		pushTime[i] = worldObj.getTotalWorldTime();
+		src.addPushTarget(this);
+	}
+
+	private void countRead(boolean pushed) {
+		if (worldObj.isRemote)
+			return;
+		long time = worldObj.getTotalWorldTime();
+		if (time != statTick) {
+			if (tickPulls+tickPullsAvoided > 0) {
+				lastTickPulls = tickPulls;
+				lastTickPullsAvoided = tickPullsAvoided;
+			}
+			tickPulls = tickPullsAvoided = 0;
+			statTick = time;
+		}
+		if (pushed) {
+			tickPullsAvoided++;
+			pullsAvoided++;
+		}
+		else {
+			tickPulls++;
+			pulls++;
+		}
+	}
+
+	public static ArrayList<String> getPushMessages() {
+		ArrayList<String> li = new ArrayList();
+		li.add("Last tick: "+lastTickPulls+" input lookups, "+lastTickPullsAvoided+" avoided by pushed power");
+		li.add("Total: "+pulls+" input lookups, "+pullsAvoided+" avoided by pushed power");
+		return li;
+	}
+
 	private void clear() {
 		for (int i = 0; i < powerin.length; i++)
 			for (int j = 0; j < 3; j++)
@@ -201,6 +350,12 @@ public abstract class TileEntityPowerReceiver extends TileEntityIOMachine {
 			return;
 		this.clear();
 		boolean isCentered = x == xCoord && y == yCoord && z == zCoord;
+		if (isCentered) {
+			boolean pushed = !doubleSided && this.readPushedPower();
+			this.countRead(pushed);
+			if (pushed)
+				return;
+		}
 		//ModLoader.getMinecraftInstance().ingameGUI.addChatMessage(String.format("%d %d %d", this.readx, this.ready, this.readz));
 		int dx = x+read.offsetX;
 		int dy = y+read.offsetY;
@@ -279,6 +434,8 @@ public abstract class TileEntityPowerReceiver extends TileEntityIOMachine {
 				//worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
 				prevpower = power;
 			}
+			if (isCentered)
+				this.cachePushSource(te, m);
 			return;
 		}
 		torquein = 0;
@@ -23,10 +23,10 @@ import net.minecraft.world.World;
 
 import Reika.DragonAPI.Libraries.IO.ReikaChatHelper;
 import Reika.DragonAPI.Libraries.Registry.ReikaItemHelper;
-import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.RotaryCraft;
 import Reika.RotaryCraft.Auxiliary.ItemStacks;
 import Reika.RotaryCraft.Auxiliary.RotaryAux;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Base.BlockModelledMachine;
 import Reika.RotaryCraft.Base.TileEntity.RotaryCraftTileEntity;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityEngine;
@@ -332,7 +332,7 @@ public class BlockEngine extends BlockModelledMachine {
 	public void onBlockAdded(World world, int x, int y, int z) {
 		TileEntityEngine te = (TileEntityEngine)world.getTileEntity(x, y, z);
 		if (te != null) {
-			te.temperature = ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z);
+			te.temperature = TemperatureHandler.instance.getAmbientTemperature(world, x, y, z);
 		}
 	}
 
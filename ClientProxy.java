@@ -16,6 +16,7 @@ import java.util.HashMap;
 import net.minecraft.client.renderer.entity.RenderTNTPrimed;
 import net.minecraft.item.Item;
 import net.minecraft.world.World;
+import net.minecraftforge.client.ClientCommandHandler;
 import net.minecraftforge.client.MinecraftForgeClient;
 
 import Reika.DragonAPI.DragonOptions;
@@ -32,6 +33,7 @@ import Reika.DragonAPI.Instantiable.Rendering.ItemSpriteSheetRenderer;
 import Reika.DragonAPI.Instantiable.Rendering.MultiSheetItemRenderer;
 import Reika.DragonAPI.Instantiable.Rendering.SpawnerRenderer;
 import Reika.DragonAPI.Libraries.Java.ReikaJavaLibrary;
+import Reika.RotaryCraft.Auxiliary.CaveScanCommand;
 import Reika.RotaryCraft.Auxiliary.DonatorGearRender;
 import Reika.RotaryCraft.Auxiliary.RotaryRenderList;
 import Reika.RotaryCraft.Base.RotaryTERenderer;
@@ -282,6 +284,7 @@ public class ClientProxy extends CommonProxy {
 		ReikaJavaLibrary.initClass(HandbookRegistry.class, true);
 		ReikaJavaLibrary.initClass(SoundRegistry.class, true);
 		SettingInterferenceTracker.instance.registerSettingHandler(SettingInterferenceTracker.muteInterference);
+		ClientCommandHandler.instance.registerCommand(new CaveScanCommand());
 	}
 
 	// Override any other methods that need to be handled differently client side.
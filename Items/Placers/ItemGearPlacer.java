@@ -31,6 +31,7 @@ import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.RotaryCraft;
 import Reika.RotaryCraft.Auxiliary.RotaryAux;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Auxiliary.Interfaces.TemperatureTE;
 import Reika.RotaryCraft.Base.ItemBlockPlacer;
 import Reika.RotaryCraft.Registry.GearboxTypes;
@@ -95,7 +96,7 @@ public class ItemGearPlacer extends ItemBlockPlacer {
 			if (RotaryAux.shouldSetFlipped(world, x, y, z)) {
 				((TileEntityGearbox)tile).isFlipped = true;
 			}
-			int Tb = ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z);
+			int Tb = TemperatureHandler.instance.getAmbientTemperature(world, x, y, z);
 			((TemperatureTE)tile).setTemperature(Tb);
 		}
 		return true;
@@ -36,6 +36,7 @@ import Reika.RotaryCraft.ClientProxy;
 import Reika.RotaryCraft.ItemMachineRenderer;
 import Reika.RotaryCraft.RotaryCraft;
 import Reika.RotaryCraft.Auxiliary.RotaryAux;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Auxiliary.TutorialTracker;
 import Reika.RotaryCraft.Auxiliary.Interfaces.EnchantableMachine;
 import Reika.RotaryCraft.Auxiliary.Interfaces.NBTMachine;
@@ -110,7 +111,7 @@ public class ItemMachinePlacer extends ItemBlockPlacer {
 		if (/*ConfigRegistry.TUTORIAL.getState()*/false)
 			TutorialTracker.instance.placeMachine(m, ep);
 		if (te instanceof TemperatureTE) {
-			int Tb = ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z);
+			int Tb = TemperatureHandler.instance.getAmbientTemperature(world, x, y, z);
 			((TemperatureTE)te).setTemperature(Tb);
 		}
 		if (te instanceof PressureTE) {
@@ -35,6 +35,8 @@ import Reika.RotaryCraft.API.Interfaces.PressureTile;
 import Reika.RotaryCraft.API.Interfaces.Transducerable;
 import Reika.RotaryCraft.API.Power.ShaftMachine;
 import Reika.RotaryCraft.API.Power.ShaftPowerReceiver;
+import Reika.RotaryCraft.Auxiliary.DrivetrainLoopFinder;
+import Reika.RotaryCraft.Auxiliary.DrivetrainLoopFinder.DrivetrainLoop;
 import Reika.RotaryCraft.Auxiliary.RotaryAux;
 import Reika.RotaryCraft.Auxiliary.ShaftPowerEmitter;
 import Reika.RotaryCraft.Auxiliary.Variables;
@@ -144,7 +146,13 @@ public class ItemMeter extends ItemRotaryTool
 			}
 		}
 
-		if (tile instanceof PowerSourceTracker) {
+		ArrayList<DrivetrainLoop> loops = tile instanceof TileEntityIOMachine ? DrivetrainLoopFinder.getFinder(world).findLoops((TileEntityIOMachine)tile) : null;
+		if (loops != null && !loops.isEmpty()) {
+			this.sendMessage(ep, "Power is looped:");
+			for (DrivetrainLoop loop : loops)
+				this.sendMessage(ep, "  "+loop.toString());
+		}
+		else if (tile instanceof PowerSourceTracker) {
 			this.sendMessage(ep, "Power is being received from:");
 			this.sendMessages(ep, ((PowerSourceTracker)tile).getPowerSources((PowerSourceTracker)tile, null).getMessages());
 		}
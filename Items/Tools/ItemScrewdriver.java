@@ -30,6 +30,8 @@ import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.DragonAPI.ModRegistry.InterfaceCache;
 import Reika.RotaryCraft.API.Interfaces.Screwdriverable;
 import Reika.RotaryCraft.API.Power.ShaftMachine;
+import Reika.RotaryCraft.Auxiliary.DrivetrainGraph;
+import Reika.RotaryCraft.Auxiliary.Interfaces.PowerSourceTracker;
 import Reika.RotaryCraft.Base.ItemRotaryTool;
 import Reika.RotaryCraft.Base.TileEntity.RotaryCraftTileEntity;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityAimedCannon;
@@ -143,8 +145,12 @@ IMFRHammer, IWrench, ICarpentersHammer, com.bluepowermod.api.misc.IScrewdriver
 			RotaryCraftTileEntity t = (RotaryCraftTileEntity)te;
 			damage = t.getBlockMetadata();
 		}
+		if (te instanceof PowerSourceTracker) {
+			DrivetrainGraph.onBlockChange(world, x, y, z);
+		}
 		if (te instanceof TileEntityIOMachine) {
 			((TileEntityIOMachine)te).iotick = 512;
+			((TileEntityIOMachine)te).invalidateIOSides();
 			world.markBlockForUpdate(x, y, z);
 		}
 		if (te instanceof ShaftMachine) {
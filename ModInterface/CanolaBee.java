@@ -19,7 +19,6 @@ import Reika.DragonAPI.Auxiliary.ModularLogger;
 import Reika.DragonAPI.Instantiable.Event.BlockTickEvent;
 import Reika.DragonAPI.Instantiable.Event.BlockTickEvent.UpdateFlags;
 import Reika.DragonAPI.Libraries.Java.ReikaRandomHelper;
-import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.DragonAPI.ModInteract.Bees.BasicFlowerProvider;
 import Reika.DragonAPI.ModInteract.Bees.BasicGene;
 import Reika.DragonAPI.ModInteract.Bees.BeeAlleleRegistry.Effect;
@@ -34,6 +33,7 @@ import Reika.DragonAPI.ModInteract.ItemHandlers.AgriCraftHandler;
 import Reika.DragonAPI.ModInteract.ItemHandlers.ForestryHandler;
 import Reika.RotaryCraft.RotaryCraft;
 import Reika.RotaryCraft.Auxiliary.ItemStacks;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Registry.BlockRegistry;
 import Reika.RotaryCraft.Registry.ConfigRegistry;
 import Reika.RotaryCraft.Registry.ItemRegistry;
@@ -200,7 +200,7 @@ public class CanolaBee extends BeeSpecies {
 	public boolean isJubilant(IBeeGenome ibg, IBeeHousing ibh) {
 		World world = ibh.getWorld();
 		ChunkCoordinates c = ibh.getCoordinates();
-		int Tamb = ReikaWorldHelper.getAmbientTemperatureAt(world, c.posX, c.posY, c.posZ);
+		int Tamb = TemperatureHandler.instance.getAmbientTemperature(world, c.posX, c.posY, c.posZ);
 		return Tamb > 15 && Tamb < 35;
 	}
 
@@ -124,7 +124,10 @@ public class TileEntityAirCompressor extends TileEntityPowerReceiver implements
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
 		tickcount++;
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.getPower(false);
 
 		if (power > 0 && ModList.PNEUMATICRAFT.isLoaded()) {
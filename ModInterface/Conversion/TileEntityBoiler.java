@@ -22,6 +22,7 @@ import Reika.DragonAPI.Instantiable.StepTimer;
 import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.DragonAPI.ModInteract.Power.ReikaRailCraftHelper;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Auxiliary.Interfaces.RCToModConverter;
 import Reika.RotaryCraft.Auxiliary.Interfaces.TemperatureTE;
 import Reika.RotaryCraft.Base.TileEntity.PoweredLiquidIO;
@@ -115,7 +116,7 @@ public class TileEntityBoiler extends PoweredLiquidIO implements TemperatureTE,
 	}
 
 	private int getInitTemp() {
-		return ReikaWorldHelper.getAmbientTemperatureAt(worldObj, xCoord, yCoord, zCoord);
+		return TemperatureHandler.instance.getAmbientTemperature(worldObj, xCoord, yCoord, zCoord);
 	}
 
 	public int getSteam() {
@@ -128,7 +129,7 @@ public class TileEntityBoiler extends PoweredLiquidIO implements TemperatureTE,
 
 	@Override
 	public void updateTemperature(World world, int x, int y, int z, int meta) {
-		int Tamb = ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z);
+		int Tamb = TemperatureHandler.instance.getAmbientTemperature(world, x, y, z);
 		if (power > 0) {
 			temperature += 0.3125*ReikaMathLibrary.logbase(power, 2);
 		}
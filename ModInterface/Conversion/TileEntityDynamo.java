@@ -73,7 +73,10 @@ public class TileEntityDynamo extends TileEntityPowerReceiver implements IEnergy
 	@Override
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.getPower(false);
 
 		if ((world.getWorldTime()&31) == 0)
@@ -196,6 +196,7 @@ public class TileEntityElectricMotor extends EnergyToPowerBase implements PowerG
 
 	@Override
 	protected void onInvalidateOrUnload(World world, int x, int y, int z, boolean invalidate) {
+		super.onInvalidateOrUnload(world, x, y, z, invalidate);
 		if (!world.isRemote && ModList.IC2.isLoaded())
 			this.removeTileFromNet();
 	}
@@ -81,7 +81,10 @@ public class TileEntityGenerator extends PoweredLiquidReceiver implements IEnerg
 	@Override
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		if (hardModeEU) {
 			if (tank.isEmpty()) {
 				omega = torque = 0;
@@ -166,6 +169,7 @@ public class TileEntityGenerator extends PoweredLiquidReceiver implements IEnerg
 
 	@Override
 	protected void onInvalidateOrUnload(World world, int x, int y, int z, boolean invalidate) {
+		super.onInvalidateOrUnload(world, x, y, z, invalidate);
 		if (!world.isRemote && ModList.IC2.isLoaded())
 			this.removeTileFromNet();
 	}
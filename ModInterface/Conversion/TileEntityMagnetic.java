@@ -30,7 +30,10 @@ public class TileEntityMagnetic extends EnergyToPowerBase implements IEnergyHand
 	@Override
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 
 		if ((world.getWorldTime()&31) == 0)
 			ReikaWorldHelper.causeAdjacentUpdates(world, x, y, z);
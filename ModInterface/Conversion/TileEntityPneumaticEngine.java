@@ -103,7 +103,10 @@ public class TileEntityPneumaticEngine extends EnergyToPowerBase implements IPne
 		if (DragonAPICore.debugtest) {
 			air.addAir(5, this.getConnection());
 		}
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 
 		air.updateEntityI();
 
@@ -35,6 +35,7 @@ import Reika.DragonAPI.Libraries.IO.ReikaPacketHelper.PacketObj;
 import Reika.DragonAPI.Libraries.Java.ReikaJavaLibrary;
 import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.DragonAPI.Libraries.Registry.ReikaParticleHelper;
+import Reika.RotaryCraft.Auxiliary.DrivetrainSyncBatcher;
 import Reika.RotaryCraft.Auxiliary.EMPSparkRenderer;
 import Reika.RotaryCraft.Base.TileEntity.EnergyToPowerBase;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityAimedCannon;
@@ -567,6 +568,9 @@ public class PacketHandlerCore implements PacketHandler {
 				case FRIDGEBREAK:
 					TileEntityRefrigerator.doBreakFX(world, x, y, z);
 					break;
+				case DRIVETRAINSYNC:
+					DrivetrainSyncBatcher.receive(world, data);
+					break;
 			}
 		}
 		catch (NullPointerException e) {
@@ -124,7 +124,9 @@ public enum ConfigRegistry implements SegmentedConfigList, SelectiveConfig, Inte
 	TINKERFLAKES("TiC Smeltery Flake Yield Amount In Ingots", 1.5F),
 	IC2BLAZECOMPRESS("Increase Blaze Powder To Rod Cost In IC2 Compressor (Exploit Fix)", true), //Normally the ic2 compressor requires 5 powder per rod, but as the grinder makes six powder per rod this is a feedback exploit. This option increases the ic2 cost to 8.
 	FREEWATER("Free Water Production Factor", 1F), //How much if any free water can be produced by things like the pump power surplus, spillway "scraping" (ie back to a waterfall) and rain in reservoirs
-	SNEAKWINGS("Jetpack wings enable with sneak vs disable", false);
+	SNEAKWINGS("Jetpack wings enable with sneak vs disable", false),
+	COMPACTSYNC("Compact Batched Drivetrain Sync Packets", true), //Whether to send shaft torque and speed to clients as batched per-chunk binary deltas instead of in the NBT sync tag
+	BORERGENBUDGET("Borer Chunk Generation Time Budget (ms per tick)", 10); //How long per tick, shared by all borers, may be spent generating the terrain ahead of them
 
 	private String label;
 	private boolean defaultState;
@@ -82,6 +82,7 @@ public enum PacketRegistry {
 	DISTRIBCLUTCH(2),
 	DISTRIBCLUTCHPOWER(4),
 	FRIDGEBREAK(),
+	DRIVETRAINSYNC(),
 	;
 
 	private static final PacketRegistry[] list = values();
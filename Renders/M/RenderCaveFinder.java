@@ -119,15 +119,15 @@ public class RenderCaveFinder extends RotaryTERenderer {
 		int cx = te.getSourceX();
 		int cy = te.getSourceY();
 		int cz = te.getSourceZ();
-		int dx = te.getSourceX()-te.xCoord;
-		int dy = te.getSourceY()-te.yCoord;
-		int dz = te.getSourceZ()-te.zCoord;
+		int dx = te.getScannedSourceX()-te.xCoord;
+		int dy = te.getScannedSourceY()-te.yCoord;
+		int dz = te.getScannedSourceZ()-te.zCoord;
 		GL11.glBegin(GL11.GL_POINTS);
-		int range = te.getRange();
-		for (int i = -range; i <= range; i++) {
-			for (int j = -range; j <= range; j++) {
-				for (int k = -range; k <= range; k++) {
-					if (te.hasPointAt(i+range, j+range, k+range)) {
+		int sr = te.getScannedRange();
+		for (int i = -sr; i <= sr; i++) {
+			for (int j = -sr; j <= sr; j++) {
+				for (int k = -sr; k <= sr; k++) {
+					if (te.hasPointAt(i+sr, j+sr, k+sr)) {
 						int y = te.yCoord+j+dy;
 						if (y >= 0 && y < 256) {
 							double[] color = this.getColorForDepth(te.yCoord+j+dy);
@@ -140,6 +140,7 @@ public class RenderCaveFinder extends RotaryTERenderer {
 		}
 		GL11.glEnd();
 		GL11.glColor3d(1, 1, 1);
+		int range = te.getRange();
 		GL11.glBegin(GL11.GL_LINE_LOOP);
 		GL11.glVertex3d(cx-range, cy-range, cz-range);
 		GL11.glVertex3d(cx+1+range, cy-range, cz-range);
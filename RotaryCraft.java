@@ -79,7 +79,10 @@ import Reika.DragonAPI.ModInteract.ItemHandlers.TinkerBlockHandler.Pulses;
 import Reika.DragonAPI.ModInteract.ItemHandlers.TinkerToolHandler.ToolParts;
 import Reika.DragonAPI.ModRegistry.ModCropList;
 import Reika.RotaryCraft.Auxiliary.BlockColorMapper;
+import Reika.RotaryCraft.Auxiliary.BorerChunkPrefetcher;
+import Reika.RotaryCraft.Auxiliary.BorerPrefetchCommand;
 import Reika.RotaryCraft.Auxiliary.CustomExtractLoader;
+import Reika.RotaryCraft.Auxiliary.DrivetrainGraphCommand;
 import Reika.RotaryCraft.Auxiliary.FindMachinesCommand;
 import Reika.RotaryCraft.Auxiliary.FreezePotion;
 import Reika.RotaryCraft.Auxiliary.HandbookNotifications.HandbookConfigVerifier;
@@ -88,8 +91,11 @@ import Reika.RotaryCraft.Auxiliary.ItemStacks;
 import Reika.RotaryCraft.Auxiliary.JetpackFuelOverlay;
 import Reika.RotaryCraft.Auxiliary.LockNotification;
 import Reika.RotaryCraft.Auxiliary.MachineDamage;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndexCommand;
+import Reika.RotaryCraft.Auxiliary.MachineSleepCommand;
 import Reika.RotaryCraft.Auxiliary.OldTextureLoader;
 import Reika.RotaryCraft.Auxiliary.PotionDeafness;
+import Reika.RotaryCraft.Auxiliary.RecipeCacheCommand;
 import Reika.RotaryCraft.Auxiliary.RotaryASMHandler;
 import Reika.RotaryCraft.Auxiliary.RotaryDescriptions;
 import Reika.RotaryCraft.Auxiliary.RotaryIntegrationManager;
@@ -134,6 +140,7 @@ import cpw.mods.fml.common.event.FMLPostInitializationEvent;
 import cpw.mods.fml.common.event.FMLPreInitializationEvent;
 import cpw.mods.fml.common.event.FMLServerStartedEvent;
 import cpw.mods.fml.common.event.FMLServerStartingEvent;
+import cpw.mods.fml.common.event.FMLServerStoppedEvent;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 import cpw.mods.fml.common.network.NetworkRegistry;
 import cpw.mods.fml.common.registry.GameRegistry;
@@ -667,6 +674,11 @@ public class RotaryCraft extends DragonAPIMod {
 	@EventHandler
 	public void registerCommands(FMLServerStartingEvent evt) {
 		evt.registerServerCommand(new FindMachinesCommand());
+		evt.registerServerCommand(new DrivetrainGraphCommand());
+		evt.registerServerCommand(new MachineSleepCommand());
+		evt.registerServerCommand(new MachineEntityIndexCommand());
+		evt.registerServerCommand(new RecipeCacheCommand());
+		evt.registerServerCommand(new BorerPrefetchCommand());
 	}
 
 	@EventHandler
@@ -674,6 +686,11 @@ public class RotaryCraft extends DragonAPIMod {
 		this.reinitRecipes();
 	}
 
+	@EventHandler
+	public void clearServerCaches(FMLServerStoppedEvent evt) {
+		BorerChunkPrefetcher.instance.clear();
+	}
+
 	public void reinitRecipes() {
 		if (!this.isLocked()) {
 			if (!ReikaRecipeHelper.isCraftable(MachineRegistry.BLASTFURNACE.getCraftedProduct())) {
@@ -44,6 +44,9 @@ import net.minecraftforge.event.entity.player.BonemealEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent.Action;
 import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.ChunkWatchEvent;
+import net.minecraftforge.event.world.WorldEvent;
 
 import Reika.DragonAPI.ModList;
 import Reika.DragonAPI.ASM.DependentMethodStripper.ClassDependent;
@@ -75,14 +78,21 @@ import Reika.DragonAPI.ModInteract.AtmosphereHandler;
 import Reika.DragonAPI.ModInteract.ItemHandlers.TinkerToolHandler;
 import Reika.DragonAPI.ModRegistry.InterfaceCache;
 import Reika.RotaryCraft.API.Power.ShaftMachine;
+import Reika.RotaryCraft.Auxiliary.BorerChunkPrefetcher;
+import Reika.RotaryCraft.Auxiliary.DrivetrainGraph;
+import Reika.RotaryCraft.Auxiliary.DrivetrainSyncBatcher;
 import Reika.RotaryCraft.Auxiliary.EMPSparkRenderer;
+import Reika.RotaryCraft.Auxiliary.GPRColumnCache;
 import Reika.RotaryCraft.Auxiliary.HarvesterDamage;
 import Reika.RotaryCraft.Auxiliary.ItemStacks;
 import Reika.RotaryCraft.Auxiliary.MachineDamage;
 import Reika.RotaryCraft.Auxiliary.MachineEnchantmentHandler;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.ReservoirComboRecipe;
+import Reika.RotaryCraft.Auxiliary.ReservoirThermalField;
 import Reika.RotaryCraft.Auxiliary.RotaryAux;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityIOMachine;
+import Reika.RotaryCraft.Base.TileEntity.TileEntityPiping;
 import Reika.RotaryCraft.Items.Tools.Bedrock.ItemBedrockArmor;
 import Reika.RotaryCraft.Items.Tools.Charged.ItemSpringBoots;
 import Reika.RotaryCraft.Registry.BlockRegistry;
@@ -104,6 +114,7 @@ import cpw.mods.fml.common.eventhandler.Event.Result;
 import cpw.mods.fml.common.eventhandler.EventPriority;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 import cpw.mods.fml.common.gameevent.PlayerEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
 import cpw.mods.fml.common.gameevent.TickEvent.Phase;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -274,6 +285,105 @@ public class RotaryEventManager {
 			TileEntityEMP.resetCoordinate(evt.world, evt.xCoord, evt.yCoord, evt.zCoord);
 	}
 
+	@SubscribeEvent
+	public void updateDrivetrainGraph(SetBlockEvent.Post evt) {
+		if (!evt.isWorldgen)
+			DrivetrainGraph.onBlockChange(evt.world, evt.xCoord, evt.yCoord, evt.zCoord);
+	}
+
+	@SubscribeEvent
+	public void sendDrivetrainSync(TickEvent.ServerTickEvent evt) {
+		if (evt.phase == Phase.END)
+			DrivetrainSyncBatcher.instance.tick();
+	}
+
+	@SubscribeEvent
+	public void sendDrivetrainState(ChunkWatchEvent.Watch evt) {
+		DrivetrainSyncBatcher.instance.onChunkWatched(evt.player, evt.chunk.chunkXPos, evt.chunk.chunkZPos);
+	}
+
+	@SubscribeEvent
+	public void prefetchBorerChunks(TickEvent.ServerTickEvent evt) {
+		if (evt.phase == Phase.END)
+			BorerChunkPrefetcher.instance.tick();
+	}
+
+	@SubscribeEvent
+	public void applyReservoirHeat(TickEvent.ServerTickEvent evt) {
+		if (evt.phase == Phase.END)
+			ReservoirThermalField.instance.tick();
+	}
+
+	@SubscribeEvent
+	public void updateDrivetrainGraph(ChunkEvent.Unload evt) {
+		DrivetrainGraph.onChunkUnload(evt.world, evt.getChunk().xPosition, evt.getChunk().zPosition);
+	}
+
+	@SubscribeEvent
+	public void updateGPRColumns(SetBlockEvent.Post evt) {
+		GPRColumnCache.onBlockChange(evt.world, evt.xCoord, evt.yCoord, evt.zCoord);
+	}
+
+	@SubscribeEvent
+	public void updateGPRColumns(ChunkEvent.Load evt) {
+		GPRColumnCache.onChunkChange(evt.world, evt.getChunk().xPosition, evt.getChunk().zPosition);
+	}
+
+	@SubscribeEvent
+	public void updateGPRColumns(ChunkEvent.Unload evt) {
+		GPRColumnCache.onChunkChange(evt.world, evt.getChunk().xPosition, evt.getChunk().zPosition);
+	}
+
+	@SubscribeEvent
+	public void updatePipeNeighbours(ChunkEvent.Load evt) {
+		TileEntityPiping.onChunkChange(evt.world, evt.getChunk().xPosition, evt.getChunk().zPosition);
+	}
+
+	@SubscribeEvent
+	public void updatePipeNeighbours(ChunkEvent.Unload evt) {
+		TileEntityPiping.onChunkChange(evt.world, evt.getChunk().xPosition, evt.getChunk().zPosition);
+	}
+
+	@SubscribeEvent
+	public void loadEMPShutdowns(WorldEvent.Load evt) {
+		if (!evt.world.isRemote)
+			TileEntityEMP.loadShutdownData(evt.world);
+	}
+
+	@SubscribeEvent
+	public void unloadEMPShutdowns(WorldEvent.Unload evt) {
+		if (!evt.world.isRemote)
+			TileEntityEMP.unloadShutdownData(evt.world);
+	}
+
+	@SubscribeEvent
+	public void unloadEntityIndex(WorldEvent.Unload evt) {
+		MachineEntityIndex.onWorldUnload(evt.world);
+	}
+
+	@SubscribeEvent
+	public void unloadDrivetrainGraph(WorldEvent.Unload evt) {
+		DrivetrainGraph.onWorldUnload(evt.world);
+	}
+
+	@SubscribeEvent
+	public void unloadDrivetrainSync(WorldEvent.Unload evt) {
+		if (!evt.world.isRemote)
+			DrivetrainSyncBatcher.instance.onWorldUnload(evt.world);
+	}
+
+	@SubscribeEvent
+	public void unloadBorerPrefetch(WorldEvent.Unload evt) {
+		if (!evt.world.isRemote)
+			BorerChunkPrefetcher.instance.onWorldUnload(evt.world);
+	}
+
+	@SubscribeEvent
+	public void unloadReservoirHeat(WorldEvent.Unload evt) {
+		if (!evt.world.isRemote)
+			ReservoirThermalField.instance.onWorldUnload(evt.world);
+	}
+
 	/*
 	@SubscribeEvent
 	public void cleanUpDecoTankCrafting(PlayerEvent.ItemCraftedEvent evt) {
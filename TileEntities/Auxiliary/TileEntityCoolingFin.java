@@ -18,6 +18,7 @@ import Reika.DragonAPI.ModList;
 import Reika.DragonAPI.ASM.DependentMethodStripper.ModDependent;
 import Reika.DragonAPI.Instantiable.Interpolation;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Auxiliary.Interfaces.TemperatureTE;
 import Reika.RotaryCraft.Base.TileEntity.RotaryCraftTileEntity;
 import Reika.RotaryCraft.Registry.MachineRegistry;
@@ -76,7 +77,7 @@ public class TileEntityCoolingFin extends RotaryCraftTileEntity implements Tempe
 
 	@Override
 	public void updateTemperature(World world, int x, int y, int z, int meta) {
-		int Tamb = ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z);
+		int Tamb = TemperatureHandler.instance.getAmbientTemperature(world, x, y, z);
 		if (ReikaWorldHelper.checkForAdjMaterial(world, x, y, z, Material.water) != null)
 			Tamb -= 5;
 		if (ReikaWorldHelper.checkForAdjMaterial(world, x, y, z, Material.lava) != null)
@@ -171,7 +172,7 @@ public class TileEntityCoolingFin extends RotaryCraftTileEntity implements Tempe
 				if (f > 0) {
 					float rem = eng.heat*f*dfT*5;
 					eng.heat -= rem;
-					int Tamb = ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z);
+					int Tamb = TemperatureHandler.instance.getAmbientTemperature(world, x, y, z);
 					temperature = (int)(Tamb*0.2+0.8*eng.heat);
 				}
 			}
@@ -33,6 +33,7 @@ import Reika.DragonAPI.ModInteract.DeepInteract.TinkerSmelteryHandler.SmelteryWr
 import Reika.DragonAPI.ModInteract.DeepInteract.TransvectorHandler;
 import Reika.RotaryCraft.API.Interfaces.ThermalMachine;
 import Reika.RotaryCraft.Auxiliary.RotaryAux;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Auxiliary.Interfaces.ConditionalOperation;
 import Reika.RotaryCraft.Auxiliary.Interfaces.TemperatureTE;
 import Reika.RotaryCraft.Auxiliary.RecipeManagers.RecipesFrictionHeater;
@@ -59,7 +60,7 @@ public class TileEntityFurnaceHeater extends TileEntityPowerReceiver implements
 		if (torque >= MINTORQUE && power >= MINPOWER && omega > 0 && this.hasHeatableMachine(world)) {
 			temperature += 3*ReikaMathLibrary.logbase(omega, 2)*ReikaMathLibrary.logbase(torque, 2);
 		}
-		int Tamb = power > MINPOWER && torque > MINTORQUE ? 30 : ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z); //prevent nether exploit
+		int Tamb = power > MINPOWER && torque > MINTORQUE ? 30 : TemperatureHandler.instance.getAmbientTemperature(world, x, y, z); //prevent nether exploit
 		if (temperature > Tamb) {
 			temperature -= (temperature-Tamb)/5;
 		}
@@ -29,6 +29,8 @@ import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.RotaryCraft;
 import Reika.RotaryCraft.API.Interfaces.ThermalMachine;
 import Reika.RotaryCraft.Auxiliary.ItemStacks;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Auxiliary.Interfaces.DiscreteFunction;
 import Reika.RotaryCraft.Auxiliary.Interfaces.TemperatureTE;
 import Reika.RotaryCraft.Base.TileEntity.InventoriedPowerReceiver;
@@ -48,7 +50,7 @@ public class TileEntityHeater extends InventoriedPowerReceiver implements Temper
 	public boolean idle = false;
 
 	public void testIdle() {
-		int Tamb = ReikaWorldHelper.getAmbientTemperatureAt(worldObj, xCoord, yCoord, zCoord);
+		int Tamb = TemperatureHandler.instance.getAmbientTemperature(worldObj, xCoord, yCoord, zCoord);
 		if (setTemperature <= Tamb) {
 			idle = true;
 			return;
@@ -95,14 +97,14 @@ public class TileEntityHeater extends InventoriedPowerReceiver implements Temper
 
 	private void ignite(World world, int x, int y, int z) {
 		AxisAlignedBB box = AxisAlignedBB.getBoundingBox(x, y, z, x+1, y+2, z+1);
-		List<EntityLivingBase> inbox = world.getEntitiesWithinAABB(EntityLivingBase.class, box);
+		List<EntityLivingBase> inbox = MachineEntityIndex.getEntities(world, EntityLivingBase.class, box);
 		for (EntityLivingBase hot : inbox) {
 			hot.setFire(temperature/50);
 		}
 	}
 
 	public void updateTemperature(World world, int x, int y, int z, int meta) {
-		int Tamb = ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z);
+		int Tamb = TemperatureHandler.instance.getAmbientTemperature(world, x, y, z);
 		if (temperature > Tamb)
 			temperature -= Math.max((temperature-Tamb)/200, 1);
 		if (temperature < Tamb)
@@ -9,26 +9,21 @@
  ******************************************************************************/
 package Reika.RotaryCraft.TileEntities.Auxiliary;
 
-import java.util.List;
-
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.Entity;
 import net.minecraft.init.Blocks;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.util.DamageSource;
 import net.minecraft.world.World;
 
 import Reika.DragonAPI.Instantiable.Data.Immutable.Coordinate;
 import Reika.DragonAPI.Instantiable.IO.PacketTarget;
-import Reika.DragonAPI.Libraries.ReikaEntityHelper;
 import Reika.DragonAPI.Libraries.IO.ReikaPacketHelper;
 import Reika.DragonAPI.Libraries.IO.ReikaSoundHelper;
 import Reika.DragonAPI.Libraries.Java.ReikaJavaLibrary;
 import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.DragonAPI.Libraries.MathSci.ReikaPhysicsHelper;
 import Reika.DragonAPI.Libraries.Rendering.ReikaRenderHelper;
-import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.RotaryCraft;
 import Reika.RotaryCraft.Auxiliary.SolarPlant;
 import Reika.RotaryCraft.Auxiliary.Interfaces.SolarPlantBlock;
@@ -52,6 +47,11 @@ public class TileEntityMirror extends RotaryCraftTileEntity implements SolarPlan
 	@SideOnly(Side.CLIENT)
 	private float targetPhi;
 
+	/** The tower top last aimed at, and its direction from this mirror; only changes when the plant does. */
+	private Coordinate aimTarget;
+	private float aimTargetPhi;
+	private float aimTargetTheta;
+
 	public boolean broken;
 	private boolean rotatingLarge;
 
@@ -59,11 +59,16 @@ public class TileEntityMirror extends RotaryCraftTileEntity implements SolarPlan
 	private float lastAimFactor;
 
 	private SolarPlant plant;
+	/** As last reported to the plant. */
+	private boolean functional;
+
+	/** In ticks; how often a mirror rechecks for changes with no block update of its own, such as the sky being covered. */
+	private static final int FUNCTION_CHECK_INTERVAL = 20;
 
 	public void searchForPlant(World world, int x, int y, int z) {
 		if (plant != null)
 			return;
-		plant = SolarPlant.build(world, x, y, z);
+		this.setPlant(SolarPlant.join(world, x, y, z));
 	}
 
 	public SolarPlant getPlant() {
@@ -72,6 +77,25 @@ public class TileEntityMirror extends RotaryCraftTileEntity implements SolarPlan
 
 	public void setPlant(SolarPlant p) {
 		plant = p;
+		if (p != null) {
+			functional = this.isFunctional();
+			p.setMirrorFunctional(this, functional);
+		}
+	}
+
+	private void updateFunctional() {
+		boolean flag = this.isFunctional();
+		if (flag != functional) {
+			functional = flag;
+			if (plant != null)
+				plant.setMirrorFunctional(this, flag);
+		}
+	}
+
+	@Override
+	protected void onAdjacentBlockUpdate() {
+		super.onAdjacentBlockUpdate();
+		this.updateFunctional();
 	}
 
 	@Override
@@ -99,24 +123,22 @@ public class TileEntityMirror extends RotaryCraftTileEntity implements SolarPlan
 			this.adjustAim(world, x, y, z, meta);
 		}
 
+		if (Math.abs(world.getTotalWorldTime()%FUNCTION_CHECK_INTERVAL) == Math.abs(System.identityHashCode(this)%FUNCTION_CHECK_INTERVAL)) {
+			this.updateFunctional();
+		}
+
 		if (!world.isRemote) {
-			AxisAlignedBB above = AxisAlignedBB.getBoundingBox(x+0.25, y+1, z+0.25, x+0.75, y+1.5, z+0.75);
-			List<Entity> in = world.getEntitiesWithinAABB(Entity.class, above);
-			for (Entity e : in) {
-				if (ReikaEntityHelper.isSolidEntity(e)) {
-					double m = ReikaEntityHelper.getEntityMass(e);
-					//ReikaJavaLibrary.pConsole(m+" kg moving at "+e.motionY+" b/s, E: "+(m-e.motionY*20));
-					if (e.motionY < -0.1 && m-e.motionY*20 > 80) {
-						ReikaPacketHelper.sendUpdatePacket(RotaryCraft.packetChannel, PacketRegistry.MIRROR.ordinal(), this, new PacketTarget.RadiusTarget(this, 32));
-						e.attackEntityFrom(DamageSource.cactus, 1);
-						this.breakMirror(world, x, y, z);
-						break;
-					}
-				}
-			}
+			plant.tick(world);
 		}
 	}
 
+	/** Called by the plant when a solid entity falls onto this mirror hard enough to break it. */
+	public void breakUnder(Entity e) {
+		ReikaPacketHelper.sendUpdatePacket(RotaryCraft.packetChannel, PacketRegistry.MIRROR.ordinal(), this, new PacketTarget.RadiusTarget(this, 32));
+		e.attackEntityFrom(DamageSource.cactus, 1);
+		this.breakMirror(worldObj, xCoord, yCoord, zCoord);
+	}
+
 	@Override
 	public boolean hasModelTransparency() {
 		return false;
@@ -153,23 +175,23 @@ public class TileEntityMirror extends RotaryCraftTileEntity implements SolarPlan
 		float finalphi;
 		float finaltheta;
 
-		long tot = world.getWorldTime();
-		int time = (int)(tot%12000);
+		float[] sun = plant.getSunVector(world);
+		int time = (int)sun[0];
 
-		time = this.forceDuskDawnAiming(tot, time);
-
-		float sunphi = time >= 6000 ? -90 : 90;
-		float suntheta = ReikaWorldHelper.getSunAngle(world);
+		float sunphi = sun[1];
+		float suntheta = sun[2];
 
 		//rises in +90 sets in 270 (+x, -x)
 		float movespeed = 0.5F;
 
-		double[] angs = ReikaPhysicsHelper.cartesianToPolar(x-target.xCoord, y-target.yCoord, z-target.zCoord);
-		float targetphi = (float)angs[2];
-		float targettheta = (float)angs[1];
-
-		targettheta = Math.abs(targettheta)-90;
-		targettheta *= 0.5;
+		if (!target.equals(aimTarget)) {
+			double[] angs = ReikaPhysicsHelper.cartesianToPolar(x-target.xCoord, y-target.yCoord, z-target.zCoord);
+			aimTargetPhi = (float)angs[2];
+			aimTargetTheta = (Math.abs((float)angs[1])-90)*0.5F;
+			aimTarget = target;
+		}
+		float targetphi = aimTargetPhi;
+		float targettheta = aimTargetTheta;
 
 		sunphi = this.clampPhi(sunphi, time);
 		boolean bool = time >= 6000 || targetphi > 270;
@@ -185,7 +207,7 @@ public class TileEntityMirror extends RotaryCraftTileEntity implements SolarPlan
 			finalphi = sunphi + (targetphi-sunphi)/2F; //These are mathematically equivalent...
 		}
 
-		float sunangle = time >= 6000 ? (float)(1-Math.cos(Math.toRadians((time-6000)*90D/6000D))) : (float)Math.cos(Math.toRadians(time*90D/6000D));
+		float sunangle = sun[3];
 
 
 		finalphi = (finalphi*sunangle + (1-sunangle)*targetphi);
@@ -240,25 +262,18 @@ public class TileEntityMirror extends RotaryCraftTileEntity implements SolarPlan
 		}
 	}
 
-	private int forceDuskDawnAiming(long tot, int time) {
-		int day = (int)(tot%24000);
-		if (ReikaMathLibrary.isValueInsideBoundsIncl(12000, 13000, day))
-			return 11999;
-		if (ReikaMathLibrary.isValueInsideBoundsIncl(23000, 24000, day))
-			return 0;
-		return time;
-	}
-
 	public void breakMirror(World world, int x, int y, int z) {
 		broken = true;
 		if (FMLCommonHandler.instance().getEffectiveSide() == Side.CLIENT) {
 			ReikaRenderHelper.addModelledBlockParticles("/Reika/RotaryCraft/Textures/TileEntityTex/", world, x, y, z, this.getTile().getBlock(), Minecraft.getMinecraft().effectRenderer, ReikaJavaLibrary.makeListFrom(new double[]{0,0,1,1}), RotaryCraft.class);
 		}
 		ReikaSoundHelper.playBreakSound(world, x, y, z, Blocks.glass);
+		this.updateFunctional();
 	}
 
 	public void repair(World world, int x, int y, int z) {
 		broken = false;
+		this.updateFunctional();
 	}
 
 	@Override
@@ -316,7 +331,7 @@ public class TileEntityMirror extends RotaryCraftTileEntity implements SolarPlan
 	@Override
 	public void breakBlock() {
 		if (plant != null)
-			plant.invalidate(worldObj);
+			plant.onBlockRemoved(worldObj, xCoord, yCoord, zCoord);
 	}
 
 }
@@ -47,7 +47,10 @@ public class TileEntityProjector extends InventoriedPowerReceiver implements Ran
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
 		tickcount++;
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.getPower(false);
 		if (power < MINPOWER) {
 			on = false;
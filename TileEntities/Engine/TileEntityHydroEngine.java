@@ -40,6 +40,7 @@ import Reika.DragonAPI.ModInteract.DeepInteract.PlanetDimensionHandler;
 import Reika.DragonAPI.ModRegistry.InterfaceCache;
 import Reika.RotaryCraft.RotaryCraft;
 import Reika.RotaryCraft.API.Power.ShaftMerger;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.PowerSourceList;
 import Reika.RotaryCraft.Auxiliary.Interfaces.PowerSourceTracker;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityEngine;
@@ -383,7 +384,7 @@ public class TileEntityHydroEngine extends TileEntityEngine {
 		else
 			a = 1;
 		AxisAlignedBB box = AxisAlignedBB.getBoundingBox(x, y, z, x+1, y+1, z+1).expand(a, 1, b);
-		List<EntityLivingBase> in = world.getEntitiesWithinAABB(EntityLivingBase.class, box);
+		List<EntityLivingBase> in = MachineEntityIndex.getEntities(world, EntityLivingBase.class, box);
 		RotaryCraft.hydrokinetic.lastMachine = this;
 		for (EntityLivingBase ent : in) {
 			ent.attackEntityFrom(RotaryCraft.hydrokinetic, 1);
@@ -65,6 +65,8 @@ import Reika.RotaryCraft.API.Event.JetEngineEnterFailureEvent;
 import Reika.RotaryCraft.API.Event.JetEngineExplosionEvent;
 import Reika.RotaryCraft.API.Interfaces.ThermalMachine;
 import Reika.RotaryCraft.Auxiliary.ItemStacks;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Auxiliary.Interfaces.NBTMachine;
 import Reika.RotaryCraft.Auxiliary.Interfaces.TemperatureTE;
 import Reika.RotaryCraft.Auxiliary.Interfaces.UpgradeableMachine;
@@ -252,7 +254,7 @@ public class TileEntityJetEngine extends TileEntityEngine implements NBTMachine,
 		int z1 = write.offsetZ != 0 ? write.offsetZ > 0 ? z : z-4 : z;
 		int z2 = write.offsetZ != 0 ? write.offsetZ > 0 ? z+5 : z+1 : z+1;
 		AxisAlignedBB box = AxisAlignedBB.getBoundingBox(x1, y, z1, x2, y+1, z2);
-		List<EntityLivingBase> li = world.getEntitiesWithinAABB(EntityLivingBase.class, box);
+		List<EntityLivingBase> li = MachineEntityIndex.getEntities(world, EntityLivingBase.class, box);
 		for (EntityLivingBase e : li) {
 			RotaryCraft.heatDamage.lastMachine = this;
 			e.attackEntityFrom(RotaryCraft.heatDamage, this.isAfterburning() ? 4 : 1);
@@ -280,7 +282,7 @@ public class TileEntityJetEngine extends TileEntityEngine implements NBTMachine,
 		double pz = z+0.5+dir.offsetZ*0.49;
 		for (int step = 0; step < 8; step++) {
 			AxisAlignedBB zone = this.getSuctionZone(world, x, y, z, meta, step);
-			List<Entity> inzone = world.getEntitiesWithinAABB(Entity.class, zone);
+			List<Entity> inzone = MachineEntityIndex.getEntities(world, Entity.class, zone);
 			for (Entity caught : inzone) {
 				if (this.canSuckTowards(world, x, y, z, caught, px, pz)) {
 					float mult = this.getSuctionMultiplier(caught);
@@ -466,14 +468,14 @@ public class TileEntityJetEngine extends TileEntityEngine implements NBTMachine,
 		SoundRegistry.INGESTION.playSoundAtBlock(this, 0.5F, 1);
 
 		AxisAlignedBB box = ReikaAABBHelper.getBlockAABB(x, y, z).addCoord(write.offsetX*8, y, write.offsetZ*8).expand(3, 3, 3);
-		List<EntityLivingBase> li = world.getEntitiesWithinAABB(EntityLivingBase.class, box);
+		List<EntityLivingBase> li = MachineEntityIndex.getEntities(world, EntityLivingBase.class, box);
 		HashSet<Integer> idSet = new HashSet();
 		for (EntityLivingBase e : li) {
 			e.attackEntityFrom(DamageSource.generic, 8);
 			idSet.add(e.getEntityId());
 		}
 		box = ReikaAABBHelper.getBlockAABB(x, y, z).expand(4, 4, 4);
-		li = world.getEntitiesWithinAABB(EntityLivingBase.class, box);
+		li = MachineEntityIndex.getEntities(world, EntityLivingBase.class, box);
 		for (EntityLivingBase e : li) {
 			if (!idSet.contains(e.getEntityId()))
 				e.attackEntityFrom(DamageSource.generic, 4);
@@ -612,7 +614,7 @@ public class TileEntityJetEngine extends TileEntityEngine implements NBTMachine,
 	public void repairJet() {
 		FOD = 0;
 		isJetFailing = false;
-		temperature = Math.max(ReikaWorldHelper.getAmbientTemperatureAt(worldObj, xCoord, yCoord, zCoord), temperature/2);
+		temperature = Math.max(TemperatureHandler.instance.getAmbientTemperature(worldObj, xCoord, yCoord, zCoord), temperature/2);
 	}
 
 	public void repairJetPartial() {
@@ -629,7 +631,7 @@ public class TileEntityJetEngine extends TileEntityEngine implements NBTMachine,
 
 	private void jetEngineDetonation(World world, int x, int y, int z, int meta) {
 		AxisAlignedBB zone = this.getFlameZone(world, x, y, z, meta);
-		List<EntityLivingBase> in = world.getEntitiesWithinAABB(EntityLivingBase.class, zone);
+		List<EntityLivingBase> in = MachineEntityIndex.getEntities(world, EntityLivingBase.class, zone);
 		for (EntityLivingBase e : in) {
 			e.setFire(2);
 		}
@@ -727,7 +729,7 @@ public class TileEntityJetEngine extends TileEntityEngine implements NBTMachine,
 
 	private void launchEntities(World world, int x, int y, int z) {
 		AxisAlignedBB box = AxisAlignedBB.getBoundingBox(x, y, z, x+1, y+1, z+1).expand(8, 8, 8);
-		List<Entity> inbox = world.getEntitiesWithinAABB(Entity.class, box);
+		List<Entity> inbox = MachineEntityIndex.getEntities(world, Entity.class, box);
 		for (Entity e : inbox) {
 			double dx = e.posX-x-0.5;
 			double dy = e.posY-y-0.5;
@@ -1070,7 +1072,7 @@ public class TileEntityJetEngine extends TileEntityEngine implements NBTMachine,
 		burnerActive = burn;
 		/*
 		if (!burn && !isJetFailing) {
-			temperature = ReikaWorldHelper.getAmbientTemperatureAt(worldObj, xCoord, yCoord, zCoord);
+			temperature = TemperatureHandler.instance.getAmbientTemperature(worldObj, xCoord, yCoord, zCoord);
 		}*/
 	}
 
@@ -19,6 +19,7 @@ import Reika.DragonAPI.Libraries.ReikaInventoryHelper;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.RotaryCraft;
 import Reika.RotaryCraft.Auxiliary.ItemStacks;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityEngine;
 import Reika.RotaryCraft.Registry.ConfigRegistry;
 import Reika.RotaryCraft.Registry.EngineType;
@@ -106,7 +107,7 @@ public class TileEntityPerformanceEngine extends TileEntityEngine {
 	public void updateTemperature(World world, int x, int y, int z, int meta) {
 		super.updateTemperature(world, x, y, z, meta);
 
-		int Tamb = ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z);
+		int Tamb = TemperatureHandler.instance.getAmbientTemperature(world, x, y, z);
 		if (temperature < Tamb)
 			temperature += Math.max((Tamb-temperature)/40, 1);
 		if (omega > 0 && torque > 0) { //If engine is on
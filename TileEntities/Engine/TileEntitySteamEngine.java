@@ -17,6 +17,7 @@ import net.minecraft.world.biome.BiomeGenBase;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.Auxiliary.ItemStacks;
 import Reika.RotaryCraft.Auxiliary.RotaryAux;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityEngine;
 import Reika.RotaryCraft.Registry.RotaryAchievements;
 import Reika.RotaryCraft.Registry.SoundRegistry;
@@ -108,7 +109,7 @@ public class TileEntitySteamEngine extends TileEntityEngine {
 	public void updateTemperature(World world, int x, int y, int z, int meta) {
 		super.updateTemperature(world, x, y, z, meta);
 
-		int Tamb = ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z);
+		int Tamb = TemperatureHandler.instance.getAmbientTemperature(world, x, y, z);
 		BiomeGenBase biome = world.getBiomeGenForCoords(x, z);
 
 		boolean fire = RotaryAux.isAboveFire(world, x, y, z);
@@ -23,6 +23,7 @@ import Reika.DragonAPI.Libraries.ReikaDirectionHelper;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.DragonAPI.ModInteract.AtmosphereHandler;
 import Reika.DragonAPI.ModInteract.DeepInteract.PlanetDimensionHandler;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityEngine;
 import Reika.RotaryCraft.Registry.EngineType;
 import Reika.RotaryCraft.Registry.SoundRegistry;
@@ -56,7 +57,7 @@ public class TileEntityWindEngine extends TileEntityEngine {
 				break;
 		}
 		AxisAlignedBB box = AxisAlignedBB.getBoundingBox(x+c, y, z+d, x+1+c, y+1, z+1+d).expand(a, 1, b);
-		List<EntityLivingBase> in = world.getEntitiesWithinAABB(EntityLivingBase.class, box);
+		List<EntityLivingBase> in = MachineEntityIndex.getEntities(world, EntityLivingBase.class, box);
 		for (EntityLivingBase ent : in) {
 			ent.attackEntityFrom(DamageSource.generic, 1);
 		}
@@ -190,6 +191,7 @@ public class TileEntityWindEngine extends TileEntityEngine {
 
 	@Override
 	public void onRotate() {
+		super.onRotate();
 		clearance = null;
 	}
 
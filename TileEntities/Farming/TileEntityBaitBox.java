@@ -46,6 +46,7 @@ import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.DragonAPI.ModInteract.Bees.ReikaBeeHelper;
 import Reika.DragonAPI.ModInteract.ItemHandlers.ForestryHandler;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.Interfaces.ConditionalOperation;
 import Reika.RotaryCraft.Auxiliary.Interfaces.RangedEffect;
 import Reika.RotaryCraft.Base.TileEntity.InventoriedPowerReceiver;
@@ -90,7 +91,7 @@ public class TileEntityBaitBox extends InventoriedPowerReceiver implements Range
 			return;
 		int range = this.getRange();
 		AxisAlignedBB box = this.getBox(x, y, z, range);
-		List<EntityLiving> inbox = world.getEntitiesWithinAABB(EntityLiving.class, box);
+		List<EntityLiving> inbox = MachineEntityIndex.getEntities(world, EntityLiving.class, box);
 		if (!inbox.isEmpty() && (world.getTotalWorldTime()&3) == 0) {
 			for (EntityLiving ent : inbox) {
 				if (this.canRepel(ent)) {
@@ -41,7 +41,9 @@ import Reika.DragonAPI.ModRegistry.ModCropList;
 import Reika.RotaryCraft.API.Event.FanHarvestEvent;
 import Reika.RotaryCraft.API.Interfaces.CustomFanEntity;
 import Reika.RotaryCraft.Auxiliary.ItemStacks;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.RotaryAux;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Auxiliary.Interfaces.RangedEffect;
 import Reika.RotaryCraft.Auxiliary.Interfaces.UpgradeableMachine;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityBeamMachine;
@@ -76,7 +78,10 @@ public class TileEntityFan extends TileEntityBeamMachine implements RangedEffect
 	@Override
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.getPower(false);
 		power = (long)omega*(long)torque;
 		if (AtmosphereHandler.isNoAtmo(world, x-this.getReadDirection().offsetX, y, z-this.getReadDirection().offsetZ, blockType, false))
@@ -173,7 +178,7 @@ public class TileEntityFan extends TileEntityBeamMachine implements RangedEffect
 			}
 		}
 		AxisAlignedBB zone = wideAreaBlow ? this.getWideBlowZone(meta, range) : this.getBlowZone(meta, range);
-		List<Entity> inzone = world.getEntitiesWithinAABB(Entity.class, zone);
+		List<Entity> inzone = MachineEntityIndex.getEntities(world, Entity.class, zone);
 		//ModLoader.getMinecraftInstance().thePlayer.addChatMessage(String.format("%d", inzone.size()));
 		for (Entity caught : inzone) {
 			if (this.canBlowEntity(caught)) {
@@ -289,7 +294,7 @@ public class TileEntityFan extends TileEntityBeamMachine implements RangedEffect
 			//if (te2 instanceof TemperatureTE && world.getTotalWorldTime()%20 == 0) {
 			ReikaParticleHelper.CLOUD.spawnAroundBlock(world, x, y, z, 1);
 			if (world.getTotalWorldTime()%20 == 0) {
-				int Tamb = ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z);
+				int Tamb = TemperatureHandler.instance.getAmbientTemperature(world, x, y, z);
 				if (te.getTemperature() > Tamb)
 					te.addTemperature(-(int)Math.min(10, 1+power/32768));
 				//if (((TemperatureTE) te2).getTemperature() > Tamb)
@@ -38,6 +38,7 @@ import Reika.DragonAPI.Libraries.Registry.ReikaPlantHelper;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.DragonAPI.ModRegistry.ModCropList;
 import Reika.ReactorCraft.Entities.EntityRadiation;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.Interfaces.Wettable;
 import Reika.RotaryCraft.Base.TileEntity.SprinklerBlock;
 import Reika.RotaryCraft.Registry.ConfigRegistry;
@@ -121,7 +122,7 @@ public class TileEntityLawnSprinkler extends SprinklerBlock {
 	private void clearRadiation(World world, int x, int y, int z) {
 		int r = this.getRange();
 		AxisAlignedBB box = ReikaAABBHelper.getBlockAABB(x, y, z).offset(0, 2, 0).expand(r, 2, r);
-		List<EntityRadiation> li = world.getEntitiesWithinAABB(EntityRadiation.class, box);
+		List<EntityRadiation> li = MachineEntityIndex.getEntities(world, EntityRadiation.class, box);
 		for (EntityRadiation e : li) {
 			e.clean();
 			if (rand.nextBoolean())
@@ -220,7 +221,7 @@ public class TileEntityLawnSprinkler extends SprinklerBlock {
 	private void damageMobs(World world, int x, int y, int z, int dmg) {
 		int r = this.getRange();
 		AxisAlignedBB box = ReikaAABBHelper.getBlockAABB(x, y, z).offset(0, 1, 0).expand(r, 1, r);
-		List<EntityLivingBase> li = world.getEntitiesWithinAABB(EntityLivingBase.class, box);
+		List<EntityLivingBase> li = MachineEntityIndex.getEntities(world, EntityLivingBase.class, box);
 		for (EntityLivingBase e : li) {
 			RayTracer rt = new RayTracer(x+0.5, y+0.5, z+0.5, e.posX, e.posY+0.5, e.posZ);
 			rt.airOnly = true;
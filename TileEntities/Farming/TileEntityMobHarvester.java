@@ -25,6 +25,7 @@ import Reika.DragonAPI.Libraries.ReikaNBTHelper.NBTTypes;
 import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.RotaryCraft.Auxiliary.HarvesterDamage;
 import Reika.RotaryCraft.Auxiliary.MachineEnchantmentHandler;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.Interfaces.EnchantableMachine;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityPowerReceiver;
 import Reika.RotaryCraft.Registry.MachineRegistry;
@@ -50,7 +51,7 @@ public class TileEntityMobHarvester extends TileEntityPowerReceiver implements E
 		//this.tickcount = 0;
 		boolean oneplus = false;
 		AxisAlignedBB box = this.getBox();
-		List<EntityLiving> inbox = world.getEntitiesWithinAABB(EntityLiving.class, box);
+		List<EntityLiving> inbox = MachineEntityIndex.getEntities(world, EntityLiving.class, box);
 		for (EntityLiving ent : inbox) {
 			if (!(ent instanceof EntityVillager)) {
 				oneplus = true;
@@ -47,6 +47,7 @@ import Reika.DragonAPI.ModRegistry.ModCropList;
 import Reika.DragonAPI.ModRegistry.ModWoodList;
 import Reika.ReactorCraft.Entities.EntityRadiation;
 import Reika.RotaryCraft.RotaryCraft;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.Interfaces.Wettable;
 import Reika.RotaryCraft.Base.TileEntity.SprinklerBlock;
 import Reika.RotaryCraft.Registry.ConfigRegistry;
@@ -84,7 +85,7 @@ public class TileEntitySprinkler extends SprinklerBlock {
 	private void clearRadiation(World world, int x, int y, int z) {
 		int r = this.getRange();
 		AxisAlignedBB box = ReikaAABBHelper.getBlockAABB(x, y, z).offset(0, -4, 0).expand(r, 4, r);
-		List<EntityRadiation> li = world.getEntitiesWithinAABB(EntityRadiation.class, box);
+		List<EntityRadiation> li = MachineEntityIndex.getEntities(world, EntityRadiation.class, box);
 		for (EntityRadiation e : li) {
 			e.clean();
 			if (rand.nextBoolean())
@@ -11,7 +11,7 @@ package Reika.RotaryCraft.TileEntities.Farming;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
+import java.util.PriorityQueue;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockSand;
@@ -32,7 +32,6 @@ import net.minecraftforge.event.world.BlockEvent.HarvestDropsEvent;
 
 import Reika.ChromatiCraft.API.ChromatiAPI;
 import Reika.DragonAPI.ModList;
-import Reika.DragonAPI.Instantiable.Data.BlockStruct.BlockArray.BlockTypePrioritizer;
 import Reika.DragonAPI.Instantiable.Data.BlockStruct.TreeReader;
 import Reika.DragonAPI.Instantiable.Data.Immutable.BlockKey;
 import Reika.DragonAPI.Instantiable.Data.Immutable.Coordinate;
@@ -76,12 +75,11 @@ Wettable, MultiOperational {
 	public int stepz;
 
 	private TreeReader tree = new TreeReader();
-	private TreeReader treeCopy = new TreeReader();
+	/** The blocks of the current tree still to be cut, best first; built from the tree once it has been read. */
+	private final PriorityQueue<CutTarget> cutPlan = new PriorityQueue();
 
 	private boolean cuttingTree;
 
-	private Comparator<Coordinate> leafPriority;
-
 	private static final int MAX_JAM = 20;
 
 	private int jam = 0;
@@ -105,20 +103,17 @@ Wettable, MultiOperational {
 		return jam > MAX_JAM;
 	}
 
-	@Override
-	protected void onFirstTick(World world, int x, int y, int z) {
-		leafPriority = new LeafPrioritizer(world);
-	}
-
 	@Override
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
 		tickcount++;
 
 		tree.setWorld(world);
-		treeCopy.setWorld(world);
 
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.getPower(false);
 
 		if (power < MINPOWER || torque < MINTORQUE) {
@@ -131,50 +126,8 @@ Wettable, MultiOperational {
 		if (world.isRemote)
 			return;
 
-		if (tree.isEmpty() && this.hasWood()) {
-			tree.reset();
-			int editx = x-read.offsetX;
-			int editz = z-read.offsetZ;
-			TreeType type = this.lookupTree(world, editx, y, editz);
-			if (type == null) {
-				TreeType type2 = this.lookupTree(world, editx-read.offsetX, y, editz-read.offsetZ);
-				if (type2 != null) {
-					//if (this.lookupTree(world, editx, y+1, editz) == type2)
-					type = type2;
-				}
-			}
-
-			if (type != null) {
-				tree.setTree(type);
-				for (int i = -1; i <= 1; i++) {
-					for (int j = -1; j <= 1; j++) {
-						tree.addTree(world, editx+i, y, editz+j);
-					}
-				}
-			}
-
-			if (!tree.isEmpty()) {
-				cuttingTree = true;
-			}
-
-			this.checkAndMatchInventory();
-
-			tree.sortBlocksByHeight(false);
-			tree.reverseBlockOrder();
-			Coordinate center = new Coordinate(this);/*
-			if (type != null) {
-				int mx = (tree.getMaxX()+tree.getMinX())/2;
-				int mz = (tree.getMaxZ()+tree.getMinZ())/2;
-				Block at2 = world.getBlock(mx, y, mz);
-				int meta2 = world.getBlockMetadata(mx, y, mz);
-				if (type.getLogID() == at2 && type.getLeafMetadatas().contains(meta2)) {
-					center = new Coordinate(mx, y, mz);
-					//ReikaJavaLibrary.pConsole(new Coordinate(this)+" > "+center);
-				}
-			}*/
-			tree.sortBlocksByDistance(center);
-			tree.sort(leafPriority);
-			treeCopy = (TreeReader)tree.copy();
+		if (cutPlan.isEmpty() && this.hasWood()) {
+			this.readTree(world, x, y, z);
 		}
 
 		Block b = world.getBlock(x, y+1, z);
@@ -187,7 +140,7 @@ Wettable, MultiOperational {
 
 		//RotaryCraft.logger.debug(tree);
 
-		if (tree.isEmpty()) {
+		if (cutPlan.isEmpty()) {
 			return;
 		}
 
@@ -198,17 +151,56 @@ Wettable, MultiOperational {
 		if (!cuttingTree && !tree.isValidTree()) {
 			tree.reset();
 			tree.clear();
+			cutPlan.clear();
 			return;
 		}
 
 		for (int i = 0; i < this.getNumberConsecutiveOperations(); i++) {
-			Coordinate c = tree.getNextAndMoveOn();
+			Coordinate c = cutPlan.poll().location;
 			this.cutCoord(world, x, y, z, c);
-			if (tree.isEmpty())
+			if (cutPlan.isEmpty())
 				break;
 		}
 	}
 
+	/** Reads the tree from the nine starting positions, then gives each block found its place in the cutting order. Keys are worked out once
+	 * per block, instead of reading the world on every comparison of a sort. */
+	private void readTree(World world, int x, int y, int z) {
+		tree.reset();
+		tree.clear();
+		int editx = x-read.offsetX;
+		int editz = z-read.offsetZ;
+		TreeType type = this.lookupTree(world, editx, y, editz);
+		if (type == null) {
+			TreeType type2 = this.lookupTree(world, editx-read.offsetX, y, editz-read.offsetZ);
+			if (type2 != null) {
+				//if (this.lookupTree(world, editx, y+1, editz) == type2)
+				type = type2;
+			}
+		}
+
+		if (type != null) {
+			tree.setTree(type);
+			for (int i = -1; i <= 1; i++) {
+				for (int j = -1; j <= 1; j++) {
+					tree.addTree(world, editx+i, y, editz+j);
+				}
+			}
+		}
+
+		if (!tree.isEmpty()) {
+			cuttingTree = true;
+		}
+
+		this.checkAndMatchInventory();
+
+		Coordinate center = new Coordinate(this);
+		for (int n = 0; n < tree.getSize(); n++) {
+			Coordinate c = tree.getNthBlock(n);
+			cutPlan.add(new CutTarget(c, n, isLeaf(c.getBlock(world), c.getBlockMetadata(world)), c.getDistanceTo(center)));
+		}
+	}
+
 	private TreeType lookupTree(World world, int x, int y, int z) {
 		TreeType type = ReikaTreeHelper.getTree(world.getBlock(x, y, z), world.getBlockMetadata(x, y, z));
 		if (type == null)
@@ -453,12 +445,12 @@ Wettable, MultiOperational {
 	public BlockKey getPlantedSapling() {
 		if (!this.shouldPlantSapling())
 			return null;
-		if (treeCopy.isDyeTree())
-			return new BlockKey(ChromatiAPI.getAPI().trees().getDyeSapling(), treeCopy.getDyeTreeMeta());
-		else if (treeCopy.isRainbowTree())
+		if (tree.isDyeTree())
+			return new BlockKey(ChromatiAPI.getAPI().trees().getDyeSapling(), tree.getDyeTreeMeta());
+		else if (tree.isRainbowTree())
 			return new BlockKey(ChromatiAPI.getAPI().trees().getRainbowSapling());
-		else if (treeCopy.getTreeType() != null)
-			return treeCopy.getSapling();
+		else if (tree.getTreeType() != null)
+			return tree.getSapling();
 		else
 			return null;
 	}
@@ -466,11 +458,11 @@ Wettable, MultiOperational {
 	private boolean shouldPlantSapling() {
 		if (enchantments.hasEnchantment(Enchantment.infinity))
 			return true;
-		if (treeCopy.isDyeTree()) {
-			return inv[0] != null && inv[0].stackSize > 0 && ReikaItemHelper.matchStackWithBlock(inv[0], ChromatiAPI.getAPI().trees().getDyeSapling()) && inv[0].getItemDamage() == treeCopy.getDyeTreeMeta();
+		if (tree.isDyeTree()) {
+			return inv[0] != null && inv[0].stackSize > 0 && ReikaItemHelper.matchStackWithBlock(inv[0], ChromatiAPI.getAPI().trees().getDyeSapling()) && inv[0].getItemDamage() == tree.getDyeTreeMeta();
 		}
-		else if (treeCopy.getTreeType() != null) {
-			return inv[0] != null && inv[0].stackSize > 0 && ReikaItemHelper.matchStacks(inv[0], treeCopy.getSapling());
+		else if (tree.getTreeType() != null) {
+			return inv[0] != null && inv[0].stackSize > 0 && ReikaItemHelper.matchStacks(inv[0], tree.getSapling());
 		}
 		else
 			return false;
@@ -652,38 +644,41 @@ Wettable, MultiOperational {
 		return enchantments;
 	}
 
-	private static class LeafPrioritizer extends BlockTypePrioritizer {
+	private static boolean isLeaf(Block b, int meta) {
+		if (b.getMaterial() == Material.leaves)
+			return true;
+		if (b == Blocks.leaves || b == Blocks.leaves2)
+			return true;
+		if (ModWoodList.isModLeaf(b, meta))
+			return true;
+		return false;
+	}
 
-		private LeafPrioritizer(World world) {
-			super(world);
-		}
+	/** Leaves first, then nearest to the woodcutter, then highest; the order the tree used to be sorted into. */
+	private static final class CutTarget implements Comparable<CutTarget> {
 
-		@Override
-		protected int compare(BlockKey b1, BlockKey b2) {
-			boolean l1 = this.isLeaf(b1);
-			boolean l2 = this.isLeaf(b2);
-			if (l1 && l2) {
-				return 0;
-			}
-			else if (l1) {
-				return -1;
-			}
-			else if (l2) {
-				return 1;
-			}
-			else {
-				return 0;
-			}
+		private final Coordinate location;
+		/** Order found in; ties go to the block found last, as the tree was reversed after sorting by height. */
+		private final int index;
+		private final boolean isLeaf;
+		private final double distance;
+
+		private CutTarget(Coordinate c, int idx, boolean leaf, double dist) {
+			location = c;
+			index = idx;
+			isLeaf = leaf;
+			distance = dist;
 		}
 
-		private boolean isLeaf(BlockKey bk) {
-			if (bk.blockID.getMaterial() == Material.leaves)
-				return true;
-			if (bk.blockID == Blocks.leaves || bk.blockID == Blocks.leaves2)
-				return true;
-			if (ModWoodList.isModLeaf(bk.blockID, bk.metadata))
-				return true;
-			return false;
+		@Override
+		public int compareTo(CutTarget o) {
+			if (isLeaf != o.isLeaf)
+				return isLeaf ? -1 : 1;
+			int ret = Double.compare(distance, o.distance);
+			if (ret != 0)
+				return ret;
+			ret = Integer.compare(o.location.yCoord, location.yCoord);
+			return ret != 0 ? ret : Integer.compare(o.index, index);
 		}
 
 	}
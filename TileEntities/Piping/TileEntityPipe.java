@@ -24,6 +24,7 @@ import Reika.DragonAPI.Instantiable.Data.Immutable.Coordinate;
 import Reika.DragonAPI.Libraries.IO.ReikaSoundHelper;
 import Reika.DragonAPI.Libraries.Registry.ReikaParticleHelper;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Auxiliary.Interfaces.TemperatureTE;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityPiping;
 import Reika.RotaryCraft.Registry.BlockRegistry;
@@ -77,7 +78,7 @@ public class TileEntityPipe extends TileEntityPiping implements TemperatureTE {
 			}
 		}
 		else {
-			temperature = ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z);
+			temperature = TemperatureHandler.instance.getAmbientTemperature(world, x, y, z);
 		}
 	}
 
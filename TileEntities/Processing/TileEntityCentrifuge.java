@@ -96,23 +96,30 @@ public class TileEntityCentrifuge extends InventoriedPowerReceiver implements Mu
 			this.getPowerAbove();
 		else
 			this.getPowerBelow();
+		if (this.isSleeping())
+			return;
 
 		if (power >= MINPOWER && omega >= MINSPEED) {
+			boolean flag = false;
 			int n = this.getNumberConsecutiveOperations();
 			for (int i = 0; i < n; i++)
-				this.doOperation(n > 1);
+				flag |= this.doOperation(n > 1);
+			if (!flag)
+				this.sleep();
 		}
 		else {
 			progressTime = 0;
 		}
 	}
 
-	private void doOperation(boolean multiple) {
+	/** Returns false if the input is invalid or the output is full. */
+	private boolean doOperation(boolean multiple) {
 		ItemStack in = inv[0];
 		if (in != null && RecipesCentrifuge.getRecipes().isCentrifugable(in)) {
 			progressTime++;
 
 			if (multiple || progressTime >= this.getOperationTime()) {
+				boolean made = false;
 				CentrifugeRecipe out = RecipesCentrifuge.getRecipes().getRecipeResult(in);
 				Collection<ItemWithChance> items = out.getItems();
 				for (int i = 0; i < out.maxStack && inv[0] != null; i++) {
@@ -135,6 +142,7 @@ public class TileEntityCentrifuge extends InventoriedPowerReceiver implements Mu
 								tank.addLiquid(amt, fs.getFluid());
 							}
 							ReikaInventoryHelper.decrStack(0, inv);
+							made = true;
 						}
 						else {
 							break;
@@ -145,10 +153,13 @@ public class TileEntityCentrifuge extends InventoriedPowerReceiver implements Mu
 					}
 				}
 				progressTime = 0;
+				return made;
 			}
+			return true;
 		}
 		else {
 			progressTime = 0;
+			return false;
 		}
 	}
 
@@ -272,12 +283,20 @@ public class TileEntityCentrifuge extends InventoriedPowerReceiver implements Mu
 
 	@Override
 	public FluidStack drain(ForgeDirection from, FluidStack resource, boolean doDrain) {
-		return this.canDrain(from, resource.getFluid()) ? tank.drain(resource.amount, doDrain) : null;
+		if (!this.canDrain(from, resource.getFluid()))
+			return null;
+		if (doDrain)
+			this.wake();
+		return tank.drain(resource.amount, doDrain);
 	}
 
 	@Override
 	public FluidStack drain(ForgeDirection from, int maxDrain, boolean doDrain) {
-		return this.canDrain(from, null) ? tank.drain(maxDrain, doDrain) : null;
+		if (!this.canDrain(from, null))
+			return null;
+		if (doDrain)
+			this.wake();
+		return tank.drain(maxDrain, doDrain);
 	}
 
 	@Override
@@ -73,6 +73,7 @@ public class TileEntityExtractor extends InventoriedPowerLiquidReceiver implemen
 		if (inv[9] != null)
 			ReikaItemHelper.dropItem(worldObj, xCoord+0.5, yCoord+0.5, zCoord+0.5, inv[9]);
 		inv[9] = ItemStacks.bedrockdrill.copy();
+		this.wake();
 		return true;
 	}
 
@@ -142,12 +143,14 @@ public class TileEntityExtractor extends InventoriedPowerLiquidReceiver implemen
 		return ReikaRandomHelper.doWithChance(oreCopy/100D) ? 2 : 1;
 	}
 
-	private void throughPut() {
+	private boolean throughPut() {
+		boolean moved = false;
 		for (int i = 1; i < 4; i++) {
 			if (inv[i+3] != null) {
 				if (inv[i] == null) {
 					inv[i] = inv[i+3];
 					inv[i+3] = null;
+					moved = true;
 				}
 				else if (inv[i].stackSize < inv[i].getMaxStackSize()) {
 					if (ReikaItemHelper.matchStacks(inv[i], inv[i+3])) {
@@ -156,11 +159,13 @@ public class TileEntityExtractor extends InventoriedPowerLiquidReceiver implemen
 						if (amt > 0) {
 							inv[i].stackSize += amt;
 							ReikaInventoryHelper.decrStack(i+3, inv, amt);
+							moved = true;
 						}
 					}
 				}
 			}
 		}
+		return moved;
 	}
 
 	public int getSizeInventory() {
@@ -222,15 +227,18 @@ public class TileEntityExtractor extends InventoriedPowerLiquidReceiver implemen
 		this.getPowerBelow();
 		if (DragonAPICore.debugtest)
 			tank.addLiquid(1000, FluidRegistry.WATER);
+		if (this.isSleeping())
+			return;
 		this.testIdle();
 		if (world.isRemote)
 			return;
-		this.throughPut();
+		boolean active = this.throughPut();
 		if (!bedrock) {
 			if (ConfigRegistry.EXTRACTORMAINTAIN.getState()) {
 				if (drillTime <= 0 && inv[9] != null && ReikaItemHelper.matchStacks(inv[9], ItemStacks.drill)) {
 					ReikaInventoryHelper.decrStack(9, inv);
 					drillTime = DRILL_LIFE;
+					active = true;
 				}
 			}
 			else {
@@ -248,9 +256,12 @@ public class TileEntityExtractor extends InventoriedPowerLiquidReceiver implemen
 
 			if (flag1)
 				this.markDirty();
+			active |= flag1;
 		}
 		if (ReikaArrayHelper.isAllTrue(tickPer))
 			RotaryAchievements.INSANITY.triggerAchievement(this.getPlacer());
+		if (!active)
+			this.sleep();
 	}
 
 	private boolean doOperation(boolean multiple, int i, boolean[] tickPer) {
@@ -176,13 +176,17 @@ ProcessingMachine, DamagingContact, EnchantableMachine {
 	@Override
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
-		this.testIdle();
 		boolean flag1 = false;
 		tickcount++;
 
 		this.readPower();
+		if (this.isSleeping())
+			return;
+		this.testIdle();
 		if (power < MINPOWER || torque < MINTORQUE) {
 			grinderCookTime = 0;
+			if (idle)
+				this.sleep();
 			return;
 		}
 
@@ -196,8 +200,11 @@ ProcessingMachine, DamagingContact, EnchantableMachine {
 			if (inv[2].getItem() == Items.bucket && inv[2].stackSize == 1) {
 				inv[2] = ItemStacks.lubebucket.copy();
 				tank.removeLiquid(1000);
+				flag1 = true;
 			}
 		}
+		if (!flag1)
+			this.sleep();
 	}
 
 	private boolean doOperation(boolean multiple) {
@@ -331,13 +338,21 @@ ProcessingMachine, DamagingContact, EnchantableMachine {
 
 	@Override
 	public FluidStack drain(ForgeDirection from, FluidStack resource, boolean doDrain) {
-		return this.canDrain(from, resource.getFluid()) ? tank.drain(resource.amount, doDrain) : null;
+		if (this.canDrain(from, resource.getFluid())) {
+			if (doDrain)
+				this.wake();
+			return tank.drain(resource.amount, doDrain);
+		}
+		return null;
 	}
 
 	@Override
 	public FluidStack drain(ForgeDirection from, int maxDrain, boolean doDrain) {
-		if (this.canDrain(from, null))
+		if (this.canDrain(from, null)) {
+			if (doDrain)
+				this.wake();
 			return tank.drain(maxDrain, doDrain);
+		}
 		return null;
 	}
 
@@ -362,10 +377,12 @@ ProcessingMachine, DamagingContact, EnchantableMachine {
 
 	public void setLevel(int amt) {
 		tank.setContents(amt, FluidRegistry.getFluid("rc lubricant"));
+		this.wake();
 	}
 
 	public void removeLiquid(int amt) {
 		tank.removeLiquid(amt);
+		this.wake();
 	}
 
 	@Override
@@ -20,9 +20,9 @@ import net.minecraftforge.fluids.IFluidHandler;
 import Reika.DragonAPI.Instantiable.StepTimer;
 import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.DragonAPI.Libraries.World.ReikaBiomeHelper;
-import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.DragonAPI.ModInteract.AtmosphereHandler;
 import Reika.RotaryCraft.API.Interfaces.BasicTemperatureMachine;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Auxiliary.Interfaces.TemperatureTE;
 import Reika.RotaryCraft.Base.TileEntity.PoweredLiquidProducer;
 import Reika.RotaryCraft.Registry.MachineRegistry;
@@ -60,7 +60,7 @@ public class TileEntityAggregator extends PoweredLiquidProducer implements Basic
 		if (AtmosphereHandler.isNoAtmo(world, x, y+1, z, blockType, false))
 			return;
 
-		int Tamb = ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z);
+		int Tamb = TemperatureHandler.instance.getAmbientTemperature(world, x, y, z);
 		if (temperature < Tamb) {
 			BiomeGenBase biome = world.getBiomeGenForCoords(x, z);
 			//float h = biome.rainfall; //Not used by any biome
@@ -154,7 +154,7 @@ public class TileEntityAggregator extends PoweredLiquidProducer implements Basic
 
 	@Override
 	public void updateTemperature(World world, int x, int y, int z, int meta) {
-		int Tamb = ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z);
+		int Tamb = TemperatureHandler.instance.getAmbientTemperature(world, x, y, z);
 		int dT = Tamb-temperature;
 		temperature += dT/4;
 	}
@@ -9,11 +9,13 @@
  ******************************************************************************/
 package Reika.RotaryCraft.TileEntities.Production;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
 
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.MathHelper;
@@ -30,6 +32,7 @@ import Reika.DragonAPI.Libraries.Registry.ReikaItemHelper;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.Auxiliary.ItemStacks;
 import Reika.RotaryCraft.Auxiliary.RotaryAux;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Auxiliary.Interfaces.FrictionHeatable;
 import Reika.RotaryCraft.Auxiliary.Interfaces.ProcessingMachine;
 import Reika.RotaryCraft.Auxiliary.Interfaces.TemperatureTE;
@@ -73,15 +76,82 @@ public class TileEntityBlastFurnace extends InventoriedRCTileEntity implements T
 	public boolean[] lockedSlots = new boolean[inv.length];
 	public boolean leaveLastItem;
 
+	/** The inventory as of the last recipe lookup; while it and the temperature are unchanged, the cached results stand. */
+	private final Item[] lastItems = new Item[inv.length];
+	private final int[] lastMeta = new int[inv.length];
+	private final int[] lastSize = new int[inv.length];
+	private final NBTTagCompound[] lastTag = new NBTTagCompound[inv.length];
+	private boolean lastLeave;
+	private int lastRevision = -1;
+
+	private ArrayList<BlastRecipe> recipeCandidates;
+	private ArrayList<BlastCrafting> craftingCandidates;
+
+	private int cachedTemperature = Integer.MIN_VALUE;
+	private BlastRecipe cachedRecipe;
+	private BlastCrafting cachedCrafting;
+
 	@Override
 	protected int getActiveTexture() {
 		return this.getRecipe() != null || this.getCrafting() != null ? 1 : 0;
 	}
 
 	private BlastCrafting getCrafting() {
-		ItemStack[] center = new ItemStack[9];
-		System.arraycopy(inv, 1, center, 0, 9);
-		BlastCrafting c = RecipesBlastFurnace.getRecipes().getCrafting(center, temperature);
+		this.updateRecipeCache();
+		return cachedCrafting;
+	}
+
+	private BlastRecipe getRecipe() {
+		this.updateRecipeCache();
+		return cachedRecipe;
+	}
+
+	private void updateRecipeCache() {
+		boolean changed = this.checkInventoryChanged();
+		if (changed) {
+			ItemStack[] center = new ItemStack[9];
+			System.arraycopy(inv, 1, center, 0, 9);
+			RecipesBlastFurnace rb = RecipesBlastFurnace.getRecipes();
+			recipeCandidates = rb.getRecipesMatching(inv[CENTER_ADDITIVE], inv[LOWER_ADDITIVE], inv[UPPER_ADDITIVE], center);
+			craftingCandidates = rb.getCraftingMatching(center);
+		}
+		if (changed || temperature != cachedTemperature) {
+			cachedTemperature = temperature;
+			cachedRecipe = this.calculateRecipe();
+			cachedCrafting = this.calculateCrafting();
+		}
+	}
+
+	private boolean checkInventoryChanged() {
+		int rev = RecipesBlastFurnace.getRecipes().getRevision();
+		boolean changed = rev != lastRevision || leaveLastItem != lastLeave;
+		lastRevision = rev;
+		lastLeave = leaveLastItem;
+		for (int i = 0; i < inv.length; i++) {
+			ItemStack is = inv[i];
+			Item item = is != null ? is.getItem() : null;
+			int meta = is != null ? is.getItemDamage() : 0;
+			int size = is != null ? is.stackSize : 0;
+			NBTTagCompound tag = is != null ? is.stackTagCompound : null;
+			if (item != lastItems[i] || meta != lastMeta[i] || size != lastSize[i] || tag != lastTag[i]) {
+				lastItems[i] = item;
+				lastMeta[i] = meta;
+				lastSize[i] = size;
+				lastTag[i] = tag;
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	private BlastCrafting calculateCrafting() {
+		BlastCrafting c = null;
+		for (BlastCrafting bc : craftingCandidates) {
+			if (temperature >= bc.temperature) {
+				c = bc;
+				break;
+			}
+		}
 
 		if (c != null && leaveLastItem) {
 			for (int i = 1; i <= 9; i++) {
@@ -93,10 +163,14 @@ public class TileEntityBlastFurnace extends InventoriedRCTileEntity implements T
 		return c;
 	}
 
-	private BlastRecipe getRecipe() {
-		ItemStack[] center = new ItemStack[9];
-		System.arraycopy(inv, 1, center, 0, 9);
-		BlastRecipe rec = RecipesBlastFurnace.getRecipes().getRecipe(inv[CENTER_ADDITIVE], inv[LOWER_ADDITIVE], inv[UPPER_ADDITIVE], center, temperature);
+	private BlastRecipe calculateRecipe() {
+		BlastRecipe rec = null;
+		for (BlastRecipe r : recipeCandidates) {
+			if (temperature >= r.temperature) { //allows for two recipes with same items but diff temp
+				rec = r;
+				break;
+			}
+		}
 
 		if (rec == null)
 			return null;
@@ -141,6 +215,8 @@ public class TileEntityBlastFurnace extends InventoriedRCTileEntity implements T
 		if (tempTimer.checkCap()) {
 			this.updateTemperature(world, x, y, z, meta);
 		}
+		if (this.isSleeping())
+			return;
 
 		BlastRecipe rec = this.getRecipe();
 		BlastCrafting bc = this.getCrafting();
@@ -162,10 +238,17 @@ public class TileEntityBlastFurnace extends InventoriedRCTileEntity implements T
 		else {
 			pattern = null;
 			smeltTime = 0;
+			this.sleep();
 			return;
 		}
 	}
 
+	/** The recipe lookup depends on the temperature and on the recipe list, besides the inventory. */
+	@Override
+	protected long getSleepState() {
+		return ((long)RecipesBlastFurnace.getRecipes().getRevision() << 32) | (temperature & 0xFFFFFFFFL);
+	}
+
 	private void craft(BlastCrafting bc) {
 		smeltTime = 0;
 		if (worldObj.isRemote)
@@ -342,7 +425,7 @@ public class TileEntityBlastFurnace extends InventoriedRCTileEntity implements T
 	}
 
 	public void updateTemperature(World world, int x, int y, int z, int meta) {
-		int Tamb = ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z);
+		int Tamb = TemperatureHandler.instance.getAmbientTemperature(world, x, y, z);
 
 		if (RotaryAux.isNextToWater(world, x, y, z)) {
 			Tamb /= 2;
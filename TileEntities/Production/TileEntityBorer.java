@@ -10,6 +10,7 @@
 package Reika.RotaryCraft.TileEntities.Production;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -55,6 +56,7 @@ import Reika.DragonAPI.ModInteract.ItemHandlers.TwilightForestHandler;
 import Reika.RotaryCraft.RotaryCraft;
 import Reika.RotaryCraft.API.Event.BorerDigEvent;
 import Reika.RotaryCraft.API.Interfaces.IgnoredByBorer;
+import Reika.RotaryCraft.Auxiliary.BorerChunkPrefetcher;
 import Reika.RotaryCraft.Auxiliary.ItemStacks;
 import Reika.RotaryCraft.Auxiliary.MachineEnchantmentHandler;
 import Reika.RotaryCraft.Auxiliary.Interfaces.DiscreteFunction;
@@ -107,6 +109,8 @@ public class TileEntityBorer extends TileEntityBeamMachine implements Enchantabl
 
 	private int soundtick = 0;
 
+	private final SliceSnapshot slice = new SliceSnapshot();
+
 	@Override
 	protected void onFirstTick(World world, int x, int y, int z) {
 		if (anticipationDistance < 0)
@@ -181,7 +185,10 @@ public class TileEntityBorer extends TileEntityBeamMachine implements Enchantabl
 		super.updateTileEntity();
 
 		tickcount++;
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.getPower(false);
 
 		if (enchantments.hasEnchantments()) {
@@ -245,7 +252,9 @@ public class TileEntityBorer extends TileEntityBeamMachine implements Enchantabl
 			return;
 
 		if (tickcount == 1 || step == 1) {
-			isMiningAir = this.checkMiningAir(world, x, y, z, meta);
+			//reading an ungenerated slice would generate it on the spot
+			if (world.isRemote || BorerChunkPrefetcher.instance.isReady(world, x+step*facing.offsetX, z+step*facing.offsetZ, genRange))
+				isMiningAir = this.checkMiningAir(world, x, y, z, meta);
 		}
 
 		//ReikaJavaLibrary.pConsole(isMiningAir+":"+tickcount+"/"+this.getOperationTime(), Side.SERVER);
@@ -254,14 +263,23 @@ public class TileEntityBorer extends TileEntityBeamMachine implements Enchantabl
 			soundtick--;
 
 		if (!world.isRemote && tickcount >= this.getOperationTime() || (isMiningAir && tickcount%5 == 0)) {
+			if (!world.isRemote) {
+				BorerChunkPrefetcher pf = BorerChunkPrefetcher.instance;
+				for (int i = 1; i <= anticipationDistance; i++) {
+					pf.request(world, x+(step+16*i)*facing.offsetX, z+(step+16*i)*facing.offsetZ, genRange);
+				}
+				//wait for the terrain rather than generate it mid-tick by reading the slice; the cycle is retried next tick
+				if (!pf.prepare(world, x+step*facing.offsetX, z+step*facing.offsetZ, genRange))
+					return;
+			}
 			this.skipMiningPipes(world, x, y, z, meta, 0, 128);
 			this.calcReqPowerSafe(world, x, y, z, meta);
 			if (power >= reqpow && reqpow != -1) {
 				this.setJammed(false);
 				if (!world.isRemote) {
-					for (int i = 0; i <= anticipationDistance; i++) {
-						ReikaWorldHelper.forceGenAndPopulate(world, x+(step+16*i)*facing.offsetX, z+(step+16*i)*facing.offsetZ, genRange);
-					}
+					//skipping pipes may have moved the head on
+					if (!BorerChunkPrefetcher.instance.prepare(world, x+step*facing.offsetX, z+step*facing.offsetZ, genRange))
+						return;
 					this.safeDig(world, x, y, z, meta);
 					if (!isMiningAir) {
 						if (soundtick == 0) {
@@ -301,17 +319,11 @@ public class TileEntityBorer extends TileEntityBeamMachine implements Enchantabl
 	}
 
 	private boolean checkMiningAir(World world, int x, int y, int z, int meta) {
-		int a = 0;
-		if (meta > 1)
-			a = 1;
-		int b = 1-a;
+		slice.update(world, x, y, z, meta);
 		for (int i = 0; i < 7; i++) {
 			for (int j = 0; j < 5; j++) {
 				if (cutShape[i][j] || step == 1) {
-					int xread = x+step*facing.offsetX+a*(i-3);
-					int yread = y+step*facing.offsetY+(4-j);
-					int zread = z+step*facing.offsetZ+b*(i-3);
-					if (world.getBlock(xread, yread, zread) != Blocks.air) {
+					if (slice.getBlock(i, j) != Blocks.air) {
 						return false;
 					}
 				}
@@ -323,22 +335,15 @@ public class TileEntityBorer extends TileEntityBeamMachine implements Enchantabl
 	private void skipMiningPipes(World world, int x, int y, int z, int meta, int stepped, int max) {
 		if (stepped >= max)
 			return;
-		int a = 0;
-		if (meta > 1)
-			a = 1;
-		int b = 1-a;
+		slice.update(world, x, y, z, meta);
 		boolean allpipe = true;
 		boolean haspipe = false;
 		for (int i = 0; i < 7; i++) {
 			for (int j = 0; j < 5; j++) {
 				if (cutShape[i][j] || step == 1) {
-					int xread = x+step*facing.offsetX+a*(i-3);
-					int yread = y+step*facing.offsetY+(4-j);
-					int zread = z+step*facing.offsetZ+b*(i-3);
-					//ReikaJavaLibrary.pConsole(xread+","+yread+","+zread);
-					if (world.getBlock(xread, yread, zread) == BlockRegistry.MININGPIPE.getBlockInstance()) {
+					if (slice.getBlock(i, j) == BlockRegistry.MININGPIPE.getBlockInstance()) {
 						haspipe = true;
-						int meta2 = world.getBlockMetadata(xread, yread, zread);
+						int meta2 = slice.getMeta(i, j);
 						ForgeDirection dir = BlockMiningPipe.getDirectionFromMeta(meta2);
 						if (meta2 == 3 || Math.abs(dir.offsetX) == Math.abs(facing.offsetX) && Math.abs(dir.offsetZ) == Math.abs(facing.offsetZ)) {
 
@@ -356,8 +361,7 @@ public class TileEntityBorer extends TileEntityBeamMachine implements Enchantabl
 		}
 	}
 
-	private boolean ignoreBlockExistence(World world, int x, int y, int z) {
-		Block b = world.getBlock(x, y, z);
+	private boolean ignoreBlockExistence(World world, int x, int y, int z, Block b, int meta) {
 		if (b == Blocks.air)
 			return true;
 		if (b.isAir(world, x, y, z))
@@ -365,7 +369,7 @@ public class TileEntityBorer extends TileEntityBeamMachine implements Enchantabl
 		if (ReikaBlockHelper.isLiquid(b))
 			return true;
 		if (b instanceof IgnoredByBorer)
-			return ((IgnoredByBorer)b).ignoreHardness(world, world.provider.dimensionId, x, y, z, world.getBlockMetadata(x, y, z));
+			return ((IgnoredByBorer)b).ignoreHardness(world, world.provider.dimensionId, x, y, z, meta);
 		return false;
 	}
 
@@ -384,17 +388,11 @@ public class TileEntityBorer extends TileEntityBeamMachine implements Enchantabl
 		reqpow = 0;
 		mintorque = 0;
 		int lowtorque = -1;
-		int a = 0;
-		if (metadata > 1)
-			a = 1;
-		int b = 1-a;
+		slice.update(world, x, y, z, metadata);
 		for (int i = 0; i < 7; i++) {
 			for (int j = 0; j < 5; j++) {
 				if (cutShape[i][j] || step == 1) {
-					int xread = x+step*facing.offsetX+a*(i-3);
-					int yread = y+step*facing.offsetY+(4-j);
-					int zread = z+step*facing.offsetZ+b*(i-3);
-					this.reqPowAdd(world, xread, yread, zread);
+					this.reqPowAdd(world, i, j);
 					if (reqpow == -1)
 						return;
 				}
@@ -410,15 +408,18 @@ public class TileEntityBorer extends TileEntityBeamMachine implements Enchantabl
 	}
 
 
-	private void reqPowAdd(World world, int xread, int yread, int zread) {
+	private void reqPowAdd(World world, int i, int j) {
 		if (step > 30000000) {
 			reqpow = -1;
 			return;
 		}
-		if (!this.ignoreBlockExistence(world, xread, yread, zread)) {
-			Block id = world.getBlock(xread, yread, zread);
-			int meta = world.getBlockMetadata(xread, yread, zread);
-			float hard = id.getBlockHardness(world, xread, yread, zread);
+		int xread = slice.getX(i);
+		int yread = slice.getY(j);
+		int zread = slice.getZ(i);
+		Block id = slice.getBlock(i, j);
+		int meta = slice.getMeta(i, j);
+		if (!this.ignoreBlockExistence(world, xread, yread, zread, id, meta)) {
+			float hard = slice.getHardness(i, j);
 			/*
 			if (this.isMineableBedrock(world, xread, yread, zread)) {
 				mintorque += PowerReceivers.BEDROCKBREAKER.getMinTorque();
@@ -467,26 +468,22 @@ public class TileEntityBorer extends TileEntityBeamMachine implements Enchantabl
 	}
 
 	private void support(World world, int x, int y, int z, int metadata) {
-		int a = 0;
-		if (metadata > 1)
-			a = 1;
-		int b = 1-a;
+		slice.update(world, x, y, z, metadata);
 		int xread;
 		int yread;
 		int zread;
 		for (int i = 0; i < 7; i++) {
 			for (int j = 0; j < 5; j++) {
 				if (cutShape[i][j] || step == 1) {
-					xread = x+step*facing.offsetX+a*(i-3);
-					yread = y+step*facing.offsetY+(4-j);
-					zread = z+step*facing.offsetZ+b*(i-3);
-					Block id = world.getBlock(xread, yread+1, zread);
+					xread = slice.getX(i);
+					yread = slice.getY(j);
+					zread = slice.getZ(i);
+					Block id = slice.getBlock(i, j-1);
 					if (id == Blocks.sand || id == Blocks.gravel)
 						if (this.checkTop(i, j)) {
-							if (id == Blocks.sand)
-								world.setBlock(xread, yread+1, zread, Blocks.sandstone);
-							else
-								world.setBlock(xread, yread+1, zread, Blocks.stone);
+							Block put = id == Blocks.sand ? Blocks.sandstone : Blocks.stone;
+							world.setBlock(xread, yread+1, zread, put);
+							slice.setBlock(i, j-1, put, 0);
 						}
 				}
 			}
@@ -640,10 +637,6 @@ public class TileEntityBorer extends TileEntityBeamMachine implements Enchantabl
 		if (step == 1)
 			RotaryAchievements.BORER.triggerAchievement(this.getPlacer());
 		this.support(world, x, y, z, metadata);
-		int a = 0;
-		if (metadata > 1)
-			a = 1;
-		int b = 1-a;
 		int xread;
 		int yread;
 		int zread;
@@ -658,11 +651,13 @@ public class TileEntityBorer extends TileEntityBeamMachine implements Enchantabl
 		for (int i = 0; i < 7; i++) {
 			for (int j = 0; j < 5; j++) {
 				if (cutShape[i][j] || step == 1) {
-					xread = x+step*facing.offsetX+a*(i-3);
-					yread = y+step*facing.offsetY+(4-j);
-					zread = z+step*facing.offsetZ+b*(i-3);
+					xread = slice.getX(i);
+					yread = slice.getY(j);
+					zread = slice.getZ(i);
+					//breaking a block can knock out ones attached to it elsewhere in the slice, so confirm the block is still there
 					Block bk = world.getBlock(xread, yread, zread);
-					if (this.dropBlocks(xread, yread, zread, world, x, y, z, bk, world.getBlockMetadata(xread, yread, zread))) {
+					int meta2 = bk == slice.getBlock(i, j) ? slice.getMeta(i, j) : world.getBlockMetadata(xread, yread, zread);
+					if (this.dropBlocks(xread, yread, zread, world, x, y, z, bk, meta2)) {
 						ReikaSoundHelper.playBreakSound(world, xread, yread, zread, bk);
 						world.setBlock(xread, yread, zread, BlockRegistry.MININGPIPE.getBlockInstance(), pipemeta, 3);
 					}
@@ -763,4 +758,112 @@ public class TileEntityBorer extends TileEntityBeamMachine implements Enchantabl
 	public boolean hasWork() {
 		return !nodig && !isMiningAir;
 	}
+
+	/** The blocks of the slice at the current step, each read from the world at most once per tick however many passes look at it. Row -1 is
+	 * the row above the slice, which the support pass checks for falling blocks. */
+	private final class SliceSnapshot {
+
+		private final Block[] blocks = new Block[42];
+		private final int[] metas = new int[42];
+		private final float[] hardness = new float[42];
+		private final boolean[] read = new boolean[42];
+		private final boolean[] hardnessRead = new boolean[42];
+
+		private World world;
+		private long time = -1;
+		private int sliceStep;
+		private ForgeDirection sliceFacing;
+		private int sliceMeta;
+		private int originX;
+		private int originY;
+		private int originZ;
+		private int a;
+		private int b;
+
+		private void update(World world, int x, int y, int z, int meta) {
+			long t = world.getTotalWorldTime();
+			if (t == time && world == this.world && step == sliceStep && facing == sliceFacing && meta == sliceMeta)
+				return;
+			this.world = world;
+			time = t;
+			sliceFacing = facing;
+			sliceMeta = meta;
+			originX = x;
+			originY = y;
+			originZ = z;
+			a = meta > 1 ? 1 : 0;
+			b = 1-a;
+			this.reset();
+		}
+
+		/** The step can move on between or even during passes, such as when skipping mining pipes or backing off from an unbreakable block. */
+		private void checkStep() {
+			if (step != sliceStep)
+				this.reset();
+		}
+
+		private void reset() {
+			sliceStep = step;
+			Arrays.fill(read, false);
+			Arrays.fill(hardnessRead, false);
+			Arrays.fill(blocks, null);
+		}
+
+		private int getX(int i) {
+			this.checkStep();
+			return originX+sliceStep*sliceFacing.offsetX+a*(i-3);
+		}
+
+		private int getY(int j) {
+			this.checkStep();
+			return originY+sliceStep*sliceFacing.offsetY+(4-j);
+		}
+
+		private int getZ(int i) {
+			this.checkStep();
+			return originZ+sliceStep*sliceFacing.offsetZ+b*(i-3);
+		}
+
+		private int getIndex(int i, int j) {
+			this.checkStep();
+			int idx = (j+1)*7+i;
+			if (!read[idx]) {
+				int x = this.getX(i);
+				int y = this.getY(j);
+				int z = this.getZ(i);
+				blocks[idx] = world.getBlock(x, y, z);
+				metas[idx] = world.getBlockMetadata(x, y, z);
+				read[idx] = true;
+			}
+			return idx;
+		}
+
+		private Block getBlock(int i, int j) {
+			return blocks[this.getIndex(i, j)];
+		}
+
+		private int getMeta(int i, int j) {
+			return metas[this.getIndex(i, j)];
+		}
+
+		private float getHardness(int i, int j) {
+			int idx = this.getIndex(i, j);
+			if (!hardnessRead[idx]) {
+				hardness[idx] = blocks[idx].getBlockHardness(world, this.getX(i), this.getY(j), this.getZ(i));
+				hardnessRead[idx] = true;
+			}
+			return hardness[idx];
+		}
+
+		private void setBlock(int i, int j, Block b, int meta) {
+			this.checkStep();
+			int idx = (j+1)*7+i;
+			blocks[idx] = b;
+			metas[idx] = meta;
+			read[idx] = true;
+			hardnessRead[idx] = false;
+		}
+
+	}
+
 }
@@ -35,6 +35,7 @@ import Reika.DragonAPI.Libraries.ReikaEntityHelper;
 import Reika.DragonAPI.Libraries.ReikaFluidHelper;
 import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.Interfaces.DiscreteFunction;
 import Reika.RotaryCraft.Auxiliary.Interfaces.PipeConnector;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityPiping.Flow;
@@ -66,7 +67,10 @@ public class TileEntityPump extends TileEntityPowerReceiver implements PipeConne
 		super.updateTileEntity();
 		soundtick++;
 		tickcount++;
-		this.getIOSides(world, x, y, z, this.getBlockMetadata());
+		if (this.ioSidesChanged(this.getBlockMetadata())) {
+			this.getIOSides(world, x, y, z, this.getBlockMetadata());
+			this.onIOSidesComputed();
+		}
 		this.getPower(true);
 		power = (long)omega*(long)torque;
 		Block idbelow = world.getBlock(x, y-1, z);
@@ -103,7 +107,7 @@ public class TileEntityPump extends TileEntityPowerReceiver implements PipeConne
 
 	private void suckUpMobs(World world, int x, int y, int z) {
 		AxisAlignedBB box = AxisAlignedBB.getBoundingBox(x, y-1, z, x+1, y, z+1);
-		List<EntityLivingBase> inbox = world.getEntitiesWithinAABB(EntityLivingBase.class, box);
+		List<EntityLivingBase> inbox = MachineEntityIndex.getEntities(world, EntityLivingBase.class, box);
 		for (EntityLivingBase e : inbox) {
 			e.attackEntityFrom(DamageSource.generic, 5);
 		}
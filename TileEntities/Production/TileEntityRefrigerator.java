@@ -58,7 +58,10 @@ public class TileEntityRefrigerator extends InventoriedPowerLiquidProducer imple
 	@Override
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.getPower(false);
 		timer.setCap(this.getOperationTime());
 
@@ -34,6 +34,7 @@ import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.API.Power.PowerGenerator;
 import Reika.RotaryCraft.API.Power.ShaftMerger;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.PowerSourceList;
 import Reika.RotaryCraft.Auxiliary.SolarPlant;
 import Reika.RotaryCraft.Auxiliary.Interfaces.MultiBlockMachine;
@@ -74,7 +75,7 @@ public class TileEntitySolar extends TileEntityIOMachine implements MultiBlockMa
 	public void searchForPlant(World world, int x, int y, int z) {
 		if (plant != null)
 			return;
-		plant = SolarPlant.build(world, x, y, z);
+		plant = SolarPlant.join(world, x, y, z);
 		size = -1;
 	}
 
@@ -124,7 +125,7 @@ public class TileEntitySolar extends TileEntityIOMachine implements MultiBlockMa
 			}
 			if (temp > 400) {
 				AxisAlignedBB above = AxisAlignedBB.getBoundingBox(x-3, y+1, z-3, x+4, y+2, z+4);
-				List<EntityLivingBase> in = world.getEntitiesWithinAABB(EntityLivingBase.class, above);
+				List<EntityLivingBase> in = MachineEntityIndex.getEntities(world, EntityLivingBase.class, above);
 				for (EntityLivingBase e : in) {
 					if (!e.isPotionActive(Potion.fireResistance))
 						e.setFire(3);
@@ -436,7 +437,8 @@ public class TileEntitySolar extends TileEntityIOMachine implements MultiBlockMa
 
 	@Override
 	public void breakBlock() {
-		plant.invalidate(worldObj);
+		if (plant != null)
+			plant.onBlockRemoved(worldObj, xCoord, yCoord, zCoord);
 	}
 
 }
@@ -43,10 +43,12 @@ import Reika.DragonAPI.Libraries.ReikaFluidHelper;
 import Reika.DragonAPI.Libraries.ReikaNBTHelper;
 import Reika.DragonAPI.Libraries.IO.ReikaSoundHelper;
 import Reika.DragonAPI.Libraries.Java.ReikaArrayHelper;
-import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.RotaryCraft;
 import Reika.RotaryCraft.API.ReservoirAPI.TankHandler;
+import Reika.RotaryCraft.Auxiliary.CompoundReservoir;
+import Reika.RotaryCraft.Auxiliary.ReservoirThermalField;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Auxiliary.Interfaces.NBTMachine;
 import Reika.RotaryCraft.Auxiliary.Interfaces.PipeConnector;
 import Reika.RotaryCraft.Base.TileEntity.RotaryCraftTileEntity;
@@ -78,33 +80,13 @@ AdjacentUpdateWatcher, PlaceNotification, OpenTopTank {
 
 	private boolean[] adjacent = new boolean[10];
 
-	//private CompoundReservoir network;
+	/** Server only; while set, the pool holds the contents and the tank is only written to when saving or syncing. */
+	private CompoundReservoir network;
+	private int compoundIndex = -1;
 
 	public int getLiquidScaled(int par1) {
-		return (tank.getLevel()*par1)/CAPACITY;
+		return (this.getLevel()*par1)/CAPACITY;
 	}
-	/*
-	@Override
-	protected void onFirstTick(World world, int x, int y, int z) {
-		if (!world.isRemote)
-			this.recalculateCompound();
-	}
-
-	public void recalculateCompound() {
-		network = new CompoundReservoir(worldObj).addReservoir(this);
-		for (int i = 2; i < 6; i++) {
-			TileEntity te = this.getAdjacentTileEntity(dirs[i]);
-			if (te instanceof TileEntityReservoir) {
-				TileEntityReservoir tr = (TileEntityReservoir)te;
-				if (tr.getFluid() == this.getFluid() || tr.getFluid() == null || this.getFluid() == null) {
-					if (tr.network != null) {
-						network.merge(tr.network);
-					}
-				}
-			}
-		}
-	}
-	 */
 
 	@Override
 	protected void onFirstTick(World world, int x, int y, int z) {
@@ -137,9 +119,18 @@ AdjacentUpdateWatcher, PlaceNotification, OpenTopTank {
 
 	@Override
 	public void breakBlock() {
+		if (network != null)
+			network.remove(this);
 		this.updateNeighbors();
 	}
 
+	@Override
+	protected void onInvalidateOrUnload(World world, int x, int y, int z, boolean invalid) {
+		super.onInvalidateOrUnload(world, x, y, z, invalid);
+		if (network != null)
+			network.remove(this);
+	}
+
 	private void updateNeighbors() {
 		for (int i = -1; i <= 1; i++) {
 			for (int k = -1; k <= 1; k++) {
@@ -160,14 +151,18 @@ AdjacentUpdateWatcher, PlaceNotification, OpenTopTank {
 
 	@Override
 	public void updateEntity(World world, int x, int y, int z, int meta) {
+		if (!world.isRemote && network == null)
+			CompoundReservoir.join(this);
+
 		for (TankHandler th : tankHandlers) {
-			int amt = th.onTick(this, tank.getFluid(), this.getPlacer());
+			int amt = th.onTick(this, this.getContents(), this.getPlacer());
 			if (amt > 0)
-				tank.removeLiquid(amt);
+				this.removeLiquid(amt);
 		}
 
+		//pooled reservoirs are always level with each other
 		flowTimer.update();
-		if (flowTimer.checkCap())
+		if (flowTimer.checkCap() && network == null)
 			this.transferBetween(world, x, y, z);
 		if (!isCovered) {
 			if (!world.isRemote) {
@@ -179,17 +174,19 @@ AdjacentUpdateWatcher, PlaceNotification, OpenTopTank {
 				}
 			}
 
-			if (!tank.isEmpty()) {
-				if (tank.getActualFluid().getDensity(world, x, y, z) < 0 && tank.getActualFluid().isGaseous()) {
-					tank.removeLiquid(100); //evaporate
+			if (!this.isEmpty()) {
+				if (this.getFluid().getDensity(world, x, y, z) < 0 && this.getFluid().isGaseous()) {
+					this.removeLiquid(100); //evaporate
 				}
 			}
 		}
 
-		if (tank.getActualFluid() == null || this.getLevel() <= 0)
-			tank.empty();
+		if (this.getFluid() == null || this.getLevel() <= 0) {
+			if (network == null)
+				tank.empty();
+		}
 		else if (isCreative)
-			tank.addLiquid(CAPACITY, tank.getActualFluid());
+			this.addLiquid(CAPACITY, this.getFluid());
 
 		//if (!world.isRemote && network != null)
 		//	network.tick();
@@ -199,23 +196,10 @@ AdjacentUpdateWatcher, PlaceNotification, OpenTopTank {
 		tempTimer.update();
 		if (!world.isRemote && !this.isEmpty() && tempTimer.checkCap()) {
 			if (!this.isSurrounded(false)) {
-				Fluid f = tank.getActualFluid();
-				int Tamb = ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z);
+				Fluid f = this.getFluid();
+				int Tamb = TemperatureHandler.instance.getAmbientTemperature(world, x, y, z);
 				int temp = f.getTemperature(world, x, y, z)-273;
-				int dT = temp-Tamb;
-				int r = 2;
-				for (int i = -r; i <= r; i++) {
-					for (int j = -r; j <= r; j++) {
-						for (int k = -r; k <= r; k++) {
-							double dd = ReikaMathLibrary.py3d(i, j, k)+1;
-							int hiT = (int)(Tamb+dT/dd/2D);
-							//ReikaJavaLibrary.pConsole(dT+" above "+Tamb+" @ "+temp+", h = "+hiT, Side.SERVER);
-							ReikaWorldHelper.temperatureEnvironment(world, x+i, y+j, z+k, hiT);
-							if (temp > 2500)
-								ReikaSoundHelper.playSoundAtBlock(world, x+i, y+j, z+k, "random.fizz", 0.2F, 1F);
-						}
-					}
-				}
+				ReservoirThermalField.instance.addSource(world, x, y, z, Tamb, temp);
 				if (temp > 2500) {
 					world.setBlock(x, y, z, Blocks.flowing_lava);
 					world.setBlock(x+1, y, z, Blocks.flowing_lava);
@@ -242,17 +226,22 @@ AdjacentUpdateWatcher, PlaceNotification, OpenTopTank {
 	private boolean isSurrounded(boolean reservoirOnly) {
 		return (adjacent[2] && adjacent[4] && adjacent[6] && adjacent[8]) || (!reservoirOnly && ReikaWorldHelper.isBlockSurroundedBySolid(worldObj, xCoord, yCoord, zCoord, false));
 	}
-	/*
+
 	public CompoundReservoir getCompound() {
 		return network;
 	}
 
-	public void setCompound(CompoundReservoir cr) {
+	public int getCompoundIndex() {
+		return compoundIndex;
+	}
+
+	public void setCompound(CompoundReservoir cr, int idx) {
 		network = cr;
+		compoundIndex = idx;
 	}
-	 */
+
 	private void transferBetween(World world, int x, int y, int z) {
-		if (tank.getLevel() < CAPACITY) {
+		if (this.getLevel() < CAPACITY) {
 			for (int i = 2; i < 6; i++) {
 				ForgeDirection dir = dirs[i];
 				if (this.adjacentOnSide(dir)) {
@@ -264,8 +253,9 @@ AdjacentUpdateWatcher, PlaceNotification, OpenTopTank {
 						if (this.canMixWith(tile)) {
 							int diff = tile.getLevel()-this.getLevel();
 							if (diff > 1) {
-								tile.tank.removeLiquid(diff/2);
-								tank.addLiquid(diff/2, tile.getFluid());
+								Fluid f = tile.getFluid();
+								tile.removeLiquid(diff/2);
+								this.addLiquid(diff/2, f);
 							}
 						}
 					}
@@ -295,7 +285,7 @@ AdjacentUpdateWatcher, PlaceNotification, OpenTopTank {
 	private boolean canMixWith(TileEntityReservoir tile) {
 		if (tile.getFluid() == null)
 			return false;
-		if (tank.isEmpty() || this.getFluid().equals(tile.getFluid())) {
+		if (this.isEmpty() || this.getFluid().equals(tile.getFluid())) {
 			return true;
 		}
 		return false;
@@ -306,6 +296,14 @@ AdjacentUpdateWatcher, PlaceNotification, OpenTopTank {
 	{
 		super.writeSyncTag(NBT);
 
+		if (network != null) {
+			Fluid f = network.getFluid();
+			int share = network.getLevel(this);
+			if (f != null && share > 0)
+				tank.setContents(share, f);
+			else
+				tank.empty();
+		}
 		tank.writeToNBT(NBT);
 
 		NBT.setBoolean("cover", isCovered);
@@ -344,7 +342,7 @@ AdjacentUpdateWatcher, PlaceNotification, OpenTopTank {
 
 	@Override
 	public int getRedstoneOverride() {
-		return (int)(15*tank.getFraction());
+		return 15*this.getLevel()/CAPACITY;
 	}
 
 	@Override
@@ -404,18 +402,29 @@ AdjacentUpdateWatcher, PlaceNotification, OpenTopTank {
 	public int fill(ForgeDirection from, FluidStack resource, boolean doFill) {
 		if (from == ForgeDirection.UP)
 			return 0;
+		if (network != null)
+			return network.fill(resource.getFluid(), resource.amount, doFill);
 		return tank.fill(resource, doFill);
 	}
 
 	@Override
 	public FluidStack drain(ForgeDirection from, FluidStack resource, boolean doDrain) {
-		return this.canDrain(from, resource.getFluid()) ? tank.drain(resource.amount, doDrain) : null;
+		return this.canDrain(from, resource.getFluid()) ? this.drainTank(resource.amount, doDrain) : null;
 	}
 
 	@Override
 	public FluidStack drain(ForgeDirection from, int maxDrain, boolean doDrain) {
 		if (from == ForgeDirection.UP)
 			return null;
+		return this.drainTank(maxDrain, doDrain);
+	}
+
+	private FluidStack drainTank(int maxDrain, boolean doDrain) {
+		if (network != null) {
+			Fluid f = network.getFluid();
+			int amt = network.drain(maxDrain, doDrain);
+			return amt > 0 ? new FluidStack(f, amt) : null;
+		}
 		return tank.drain(maxDrain, doDrain);
 	}
 
@@ -426,43 +435,63 @@ AdjacentUpdateWatcher, PlaceNotification, OpenTopTank {
 
 	@Override
 	public boolean canDrain(ForgeDirection from, Fluid fluid) {
-		return from != ForgeDirection.UP && ReikaFluidHelper.isFluidDrainableFromTank(fluid, tank);
+		if (from == ForgeDirection.UP)
+			return false;
+		if (network != null)
+			return network.canDrain(fluid);
+		return ReikaFluidHelper.isFluidDrainableFromTank(fluid, tank);
 	}
 
 	@Override
 	public FluidTankInfo[] getTankInfo(ForgeDirection from) {
+		if (network != null)
+			return new FluidTankInfo[]{new FluidTankInfo(network.getContents(), network.getCapacity())};
 		return new FluidTankInfo[]{tank.getInfo()};
 	}
 
 	public boolean canAcceptFluid(Fluid f) {
+		if (network != null)
+			return network.canAccept(f);
 		return tank.isEmpty() || f.equals(tank.getActualFluid());
 	}
 
+	/** For a pooled reservoir, this is its share of the pool. */
 	public int getLevel() {
-		return tank.getLevel();
+		return network != null ? network.getLevel(this) : tank.getLevel();
 	}
 
 	public Fluid getFluid() {
-		return tank.getActualFluid();
+		return network != null ? network.getFluid() : tank.getActualFluid();
 	}
 
 	public void setLevel(int amt, Fluid f) {
-		tank.setContents(amt, f);
+		if (network != null)
+			network.setLevel(this, amt, f);
+		else
+			tank.setContents(amt, f);
 	}
 
 	public void removeLiquid(int amt) {
-		tank.removeLiquid(amt);
+		if (network != null)
+			network.drain(amt, true);
+		else
+			tank.removeLiquid(amt);
 	}
 
 	public void addLiquid(int amt, Fluid f) {
-		tank.addLiquid(amt, f);
+		if (network != null)
+			network.fill(f, amt, true);
+		else
+			tank.addLiquid(amt, f);
 	}
 
 	public boolean isEmpty() {
-		return tank.isEmpty();
+		return network != null ? network.getTotalAmount() == 0 : tank.isEmpty();
 	}
 
 	public FluidStack getContents() {
+		if (network != null)
+			return this.isEmpty() ? null : new FluidStack(network.getFluid(), this.getLevel());
 		return tank.getFluid();
 	}
 
@@ -480,7 +509,10 @@ AdjacentUpdateWatcher, PlaceNotification, OpenTopTank {
 	}
 
 	public void setEmpty() {
-		tank.empty();
+		if (network != null)
+			network.setLevel(this, 0, null);
+		else
+			tank.empty();
 	}
 
 	@Override
@@ -499,18 +531,10 @@ AdjacentUpdateWatcher, PlaceNotification, OpenTopTank {
 		}
 		return clr;
 	}
-	/*
-	@Override
-	public void breakBlock() {
-		if (network != null && !worldObj.isRemote) {
-			network.removeReservoir(this);
-		}
-	}
-	 */
 
 	public void applyFluidEffectsToEntity(EntityLivingBase e) {
-		if (!tank.isEmpty() && !isCovered) {
-			Fluid f = tank.getActualFluid();
+		if (!this.isEmpty() && !isCovered) {
+			Fluid f = this.getFluid();
 			FluidEffect eff = fluidEffects.get(f.getName());
 			if (eff != null) {
 				eff.applyEffect(e);
@@ -548,13 +572,13 @@ AdjacentUpdateWatcher, PlaceNotification, OpenTopTank {
 	@Override
 	public void setDataFromItemStackTag(NBTTagCompound NBT) {
 		if (NBT == null) {
-			tank.empty();
+			this.setEmpty();
 			isCovered = false;
 			return;
 		}
 		Fluid f = ReikaNBTHelper.getFluidFromNBT(NBT);
 		int level = NBT.getInteger("lvl");
-		tank.setContents(level, f);
+		this.setLevel(level, f);
 
 		isCovered = NBT.getBoolean("cover");
 	}
@@ -563,10 +587,10 @@ AdjacentUpdateWatcher, PlaceNotification, OpenTopTank {
 		if (NBT == null)
 			return;
 		Fluid f = ReikaNBTHelper.getFluidFromNBT(NBT);
-		if (f != tank.getActualFluid())
+		if (f != this.getFluid())
 			return;
 		int level = NBT.getInteger("lvl");
-		tank.setContents(level+tank.getLevel(), f);
+		this.setLevel(level+this.getLevel(), f);
 
 		isCovered = isCovered || NBT.getBoolean("cover");
 	}
@@ -707,6 +731,8 @@ AdjacentUpdateWatcher, PlaceNotification, OpenTopTank {
 
 	@Override
 	public int addLiquid(Fluid f, int amt, boolean doAdd) {
+		if (network != null)
+			return network.fill(f, amt, doAdd);
 		if (!tank.isEmpty() && tank.getActualFluid() != f)
 			return 0;
 		amt = Math.min(amt, tank.getRemainingSpace());
@@ -173,7 +173,10 @@ public class TileEntityScaleableChest extends InventoriedPowerReceiver implement
 	@Override
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.getPower(false);
 		if (this.testInconsistentPower())
 			return;
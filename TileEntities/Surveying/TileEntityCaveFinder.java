@@ -15,8 +15,7 @@ import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 
-import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
-import Reika.RotaryCraft.RotaryCraft;
+import Reika.RotaryCraft.Auxiliary.CaveScanExecutor;
 import Reika.RotaryCraft.Auxiliary.Interfaces.RangedEffect;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityPowerReceiver;
 import Reika.RotaryCraft.Registry.ConfigRegistry;
@@ -32,41 +31,10 @@ public class TileEntityCaveFinder extends TileEntityPowerReceiver implements Ran
 	private int rendermode = 0;
 	public String owner;
 	public boolean on;
-	private boolean[][][] points = new boolean[this.getRange()*2+1][this.getRange()*2+1][this.getRange()*2+1];
 	private boolean needsCalc = true;
 
-	private Scanner scanner = new Scanner(this);
-
-	private final class Scanner implements Runnable {
-
-		private final TileEntityCaveFinder tile;
-
-		private Scanner(TileEntityCaveFinder te) {
-			tile = te;
-		}
-
-		@Override
-		public void run() {
-			int r = tile.getRange();
-			for (int i = -r; i <= r; i++) {
-				for (int j = -r; j <= r; j++) {
-					for (int k = -r; k <= r; k++) {
-						int x = tile.getSourceX()+i;
-						int y = tile.getSourceY()+j;
-						int z = tile.getSourceZ()+k;
-						if (ReikaWorldHelper.cornerHasAirAdjacent(worldObj, x, y, z)) {
-							tile.points[i+r][j+r][k+r] = true;
-							//ReikaJavaLibrary.pConsole(x+", "+y+", "+z);
-							//ReikaJavaLibrary.pConsole((i+r)+", "+(j+r)+", "+(k+r));
-						}
-						else {
-							tile.points[i+r][j+r][k+r] = false;
-						}
-					}
-				}
-			}
-		}
-	}
+	private final CaveScanExecutor.CaveScan scan = new CaveScanExecutor.CaveScan();
+	private CaveScanExecutor.ScanResult points;
 
 	@Override
 	protected void onFirstTick(World world, int x, int y, int z) {
@@ -97,9 +65,12 @@ public class TileEntityCaveFinder extends TileEntityPowerReceiver implements Ran
 			this.setSrc(px, py, pz);
 		}
 
+		if (world.isRemote)
+			this.collectPoints();
+
 		int t = this.getUpdateFrequency();
 		if (needsCalc || (world.getTotalWorldTime()&t) == 0)
-			this.calculatePoints();
+			this.calculatePoints(world);
 
 		//ReikaJavaLibrary.pConsole(Arrays.deepToString(points));
 	}
@@ -117,35 +88,55 @@ public class TileEntityCaveFinder extends TileEntityPowerReceiver implements Ran
 		return 31;
 	}
 
-	private void calculatePoints() {
-		Thread t = new Thread(scanner);
-		t.start();
+	/** The points are only used for rendering, so only the client scans. */
+	private void calculatePoints(World world) {
 		needsCalc = false;
-		if (FMLCommonHandler.instance().getEffectiveSide() == Side.CLIENT) {
-			RenderCaveFinder rcf = (RenderCaveFinder)this.getRenderer();
-			rcf.removeListFor(this);
+		if (world.isRemote) {
+			if (!CaveScanExecutor.instance.request(scan, world, src[0], src[1], src[2], this.getRange()))
+				needsCalc = true;
 		}
 	}
 
-	public boolean hasPointAt(int dx, int dy, int dz) {
-		int r = this.getRange();
-		if (Math.abs(dx) > r*2 || Math.abs(dy) > r*2 || Math.abs(dz) > r*2) {
-			//ReikaJavaLibrary.pConsole(dx+", "+dy+", "+dz);
-			return false;
-		}
-		if (Math.abs(dx) < 0 || Math.abs(dy) < 0 || Math.abs(dz) < 0) {
-			//ReikaJavaLibrary.pConsole(dx+", "+dy+", "+dz);
-			return false;
-		}
-		try {
-			return points[dx][dy][dz];
-		}
-		catch (Exception e) {
-			RotaryCraft.logger.logError("Exception at "+dx+", "+dy+", "+dz+"!");
-			return false;
+	private void collectPoints() {
+		CaveScanExecutor.ScanResult res = scan.pollResult();
+		if (res != null) {
+			points = res;
+			if (FMLCommonHandler.instance().getEffectiveSide() == Side.CLIENT) {
+				RenderCaveFinder rcf = (RenderCaveFinder)this.getRenderer();
+				rcf.removeListFor(this);
+			}
 		}
 	}
 
+	public boolean hasPointAt(int dx, int dy, int dz) {
+		CaveScanExecutor.ScanResult res = points;
+		return res != null && res.hasPoint(dx, dy, dz);
+	}
+
+	/** The center of the scan currently being displayed, which lags {@link #getSourceX} until the next scan completes. */
+	public int getScannedSourceX() {
+		return points != null ? points.centerX : src[0];
+	}
+
+	public int getScannedSourceY() {
+		return points != null ? points.centerY : src[1];
+	}
+
+	public int getScannedSourceZ() {
+		return points != null ? points.centerZ : src[2];
+	}
+
+	/** The range the displayed scan was made with, which lags {@link #getRange} like the center does. */
+	public int getScannedRange() {
+		return points != null ? points.range : this.getRange();
+	}
+
+	@Override
+	protected void onInvalidateOrUnload(World world, int x, int y, int z, boolean invalid) {
+		super.onInvalidateOrUnload(world, x, y, z, invalid);
+		scan.cancel();
+	}
+
 	@Override
 	public boolean hasModelTransparency() {
 		return false;
@@ -183,6 +174,8 @@ public class TileEntityCaveFinder extends TileEntityPowerReceiver implements Ran
 	}
 
 	public void setSrc(int x, int y, int z) {
+		if (src[0] == x && src[1] == y && src[2] == z)
+			return;
 		src[0] = x;
 		src[1] = y;
 		src[2] = z;
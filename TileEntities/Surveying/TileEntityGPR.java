@@ -9,7 +9,8 @@
  ******************************************************************************/
 package Reika.RotaryCraft.TileEntities.Surveying;
 
-import net.minecraft.block.Block;
+import java.util.Arrays;
+
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
 import net.minecraft.nbt.NBTTagCompound;
@@ -21,9 +22,9 @@ import Reika.DragonAPI.Instantiable.Data.Immutable.BlockVector;
 import Reika.DragonAPI.Interfaces.TileEntity.GuiController;
 import Reika.DragonAPI.Libraries.ReikaDirectionHelper;
 import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
-import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.API.Interfaces.GPRReactive;
 import Reika.RotaryCraft.Auxiliary.BlockColorMapper;
+import Reika.RotaryCraft.Auxiliary.GPRColumnCache;
 import Reika.RotaryCraft.Auxiliary.Interfaces.RangedEffect;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityPowerReceiver;
 import Reika.RotaryCraft.Registry.MachineRegistry;
@@ -50,6 +51,15 @@ public class TileEntityGPR extends TileEntityPowerReceiver implements GuiControl
 
 	private int oldmeta = 0;
 
+	/** The column cache revision each column of {@link #blocks} was last read at; see {@link GPRColumnCache}. */
+	private final int[] scannedRevisions = new int[MAX_WIDTH];
+	/** Columns holding blocks that must be told every time they are scanned. */
+	private final boolean[] reactiveColumns = new boolean[MAX_WIDTH];
+	private int scanX;
+	private int scanZ;
+	private int scanRange = -1;
+	private ForgeDirection scanDir;
+
 	public boolean isUseableByPlayer(EntityPlayer par1EntityPlayer)	{
 		if (worldObj.getTileEntity(xCoord, yCoord, zCoord) != this)
 			return false;
@@ -84,29 +94,18 @@ public class TileEntityGPR extends TileEntityPowerReceiver implements GuiControl
 	}
 
 	public double getSpongy(World world, int x, int y, int z) {
+		GPRColumnCache cache = GPRColumnCache.getCache(world);
 		int numcave = 0;
-		int numsolid = 0;
-		boolean dungeon = false;
-		boolean mineshaft = false;
-		boolean stronghold = false;
+		int total = 0;
 
 		int range = this.getRange();
 		for (int i = -range; i <= range; i++) {
 			for (int j = -range; j <= range; j++) {
-				for (int k = y; k >= 0; k--) {
-					Block id = (world.getBlock(x+i, k, z+j));
-					if (ReikaWorldHelper.caveBlock(id))
-						numcave++;
-					else
-						numsolid++;
-					if (id == Blocks.web)
-						mineshaft = true;
-					if (id == Blocks.end_portal || id == Blocks.end_portal_frame)
-						stronghold = true;
-				}
+				numcave += cache.countCaveBlocks(world, x+i, y, z+j);
+				total += Math.max(0, y+1);
 			}
 		}
-		double ans = (double)numcave/(double)(numcave+numsolid);
+		double ans = (double)numcave/(double)total;
 		return ans;
 	}
 
@@ -144,19 +143,40 @@ public class TileEntityGPR extends TileEntityPowerReceiver implements GuiControl
 	private void eval2(World world, int x, int y, int z, int meta) {
 		ForgeDirection dir = ReikaDirectionHelper.getRightBy90(this.getGuiDirection());
 		int r = this.getRange();
+		if (x != scanX || z != scanZ || r != scanRange || dir != scanDir) {
+			Arrays.fill(scannedRevisions, 0);
+			scanX = x;
+			scanZ = z;
+			scanRange = r;
+			scanDir = dir;
+		}
+		GPRColumnCache cache = GPRColumnCache.getCache(world);
 		for (int j = -r; j <= r; j++) {
+			int dx = x+j*Math.abs(dir.offsetX);
+			int dz = z+j*Math.abs(dir.offsetZ);
+			int rev = cache.getRevision(world, dx, dz);
+			if (rev == scannedRevisions[j+r]) {
+				if (reactiveColumns[j+r]) {
+					for (int dd = 1; dd <= MAX_HEIGHT; dd++) {
+						this.handleBlock(world, dx, yCoord-dd, dz, blocks[dd-1][j+r]);
+					}
+				}
+				continue;
+			}
+			boolean reactive = false;
 			for (int dd = 1; dd <= MAX_HEIGHT; dd++) {
 				int dy = yCoord-dd;
-				int dx = x+j*Math.abs(dir.offsetX);
-				int dz = z+j*Math.abs(dir.offsetZ);
-				BlockKey bk = BlockKey.getAt(world, dx, dy, dz);
+				BlockKey bk = cache.getBlock(world, dx, dy, dz);
 				blocks[dd-1][j+r] = bk;
-				this.handleBlock(world, dx, dy, dz, bk);
+				reactive |= this.handleBlock(world, dx, dy, dz, bk);
 			}
+			scannedRevisions[j+r] = rev;
+			reactiveColumns[j+r] = reactive;
 		}
 	}
 
-	private void handleBlock(World world, int x, int y, int z, BlockKey bk) {
+	/** Returns true if the block needs to hear about every scan, not just the first. */
+	private boolean handleBlock(World world, int x, int y, int z, BlockKey bk) {
 		if (bk.blockID == Blocks.end_portal || bk.blockID == Blocks.end_portal_frame)
 			RotaryAchievements.GPRENDPORTAL.triggerAchievement(this.getPlacer());
 		else if (bk.blockID == Blocks.mob_spawner)
@@ -164,7 +184,9 @@ public class TileEntityGPR extends TileEntityPowerReceiver implements GuiControl
 
 		if (bk.blockID instanceof GPRReactive) {
 			((GPRReactive)bk.blockID).onScanned(world, x, y, z, bk.blockID, bk.metadata);
+			return true;
 		}
+		return false;
 	}
 
 	/*
@@ -27,6 +27,7 @@ import Reika.DragonAPI.Libraries.Java.ReikaArrayHelper;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.RotaryCraft;
 import Reika.RotaryCraft.Auxiliary.BlockColorMapper;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.Interfaces.RangedEffect;
 import Reika.RotaryCraft.Base.TileEntity.RemoteControlMachine;
 import Reika.RotaryCraft.Registry.GuiRegistry;
@@ -86,7 +87,7 @@ public class TileEntitySpyCam extends RemoteControlMachine implements RangedEffe
 		int range = this.getRange();
 		int maxrange = this.getMaxRange();
 		AxisAlignedBB zone = AxisAlignedBB.getBoundingBox(x-range, 0, z-range, x+1+range, y+1, z+1+range);
-		inzone = world.getEntitiesWithinAABB(EntityLivingBase.class, zone);
+		inzone = MachineEntityIndex.getEntities(world, EntityLivingBase.class, zone);
 		for (EntityLivingBase ent : inzone) {
 			int ex = (int)ent.posX-x;
 			int ey = (int)ent.posY-y;
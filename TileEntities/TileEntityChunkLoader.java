@@ -114,6 +114,7 @@ public class TileEntityChunkLoader extends TileEntityPowerReceiver implements Ch
 
 	@Override
 	protected void onInvalidateOrUnload(World world, int x, int y, int z, boolean invalid) {
+		super.onInvalidateOrUnload(world, x, y, z, invalid);
 		if (world.isRemote)
 			return;
 		if (invalid) {
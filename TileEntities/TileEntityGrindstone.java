@@ -38,7 +38,10 @@ public class TileEntityGrindstone extends InventoriedPowerLiquidReceiver impleme
 	@Override
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.getPower(true);
 		tickcount++;
 		if (power < MINPOWER || torque < MINTORQUE) {
@@ -15,6 +15,7 @@ import net.minecraft.entity.item.EntityItem;
 import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.world.World;
 
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.Interfaces.RangedEffect;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityPowerReceiver;
 import Reika.RotaryCraft.Registry.MachineRegistry;
@@ -36,7 +37,7 @@ public class TileEntityItemRefresher extends TileEntityPowerReceiver implements
 			return;
 		int range = this.getRange();
 		AxisAlignedBB box = AxisAlignedBB.getBoundingBox(x-range, y-range, z-range, x+1+range, y+1+range, z+1+range);
-		List<EntityItem> items = world.getEntitiesWithinAABB(EntityItem.class, box);
+		List<EntityItem> items = MachineEntityIndex.getEntities(world, EntityItem.class, box);
 		for (EntityItem item : items) {
 			if (item.age > item.lifespan-20)
 				item.age = item.lifespan-20;
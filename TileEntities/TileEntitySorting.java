@@ -27,6 +27,7 @@ import Reika.DragonAPI.Instantiable.Data.Immutable.InventorySlot;
 import Reika.DragonAPI.Libraries.ReikaInventoryHelper;
 import Reika.DragonAPI.Libraries.ReikaNBTHelper.NBTTypes;
 import Reika.DragonAPI.Libraries.Registry.ReikaItemHelper;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityPowerReceiver;
 import Reika.RotaryCraft.Registry.MachineRegistry;
 
@@ -40,7 +41,10 @@ public class TileEntitySorting extends TileEntityPowerReceiver {
 
 	@Override
 	public void updateEntity(World world, int x, int y, int z, int meta) {
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.getPower(false);
 		if (!world.isRemote) {
 			if (power >= MINPOWER) {
@@ -65,7 +69,7 @@ public class TileEntitySorting extends TileEntityPowerReceiver {
 		}
 		else {
 			AxisAlignedBB box = this.getBox();
-			List<EntityItem> items = world.getEntitiesWithinAABB(EntityItem.class, box);
+			List<EntityItem> items = MachineEntityIndex.getEntities(world, EntityItem.class, box);
 			for (EntityItem ei : items) {
 				if (!ei.isDead)
 					li.add(new EntityItemCallback(ei));
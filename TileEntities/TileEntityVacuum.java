@@ -44,6 +44,7 @@ import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.DragonAPI.ModInteract.ReikaXPFluidHelper;
 import Reika.RotaryCraft.API.Event.VacuumItemAbsorbEvent;
 import Reika.RotaryCraft.API.Event.VacuumXPAbsorbEvent;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.Interfaces.RangedEffect;
 import Reika.RotaryCraft.Base.TileEntity.InventoriedPowerReceiver;
 import Reika.RotaryCraft.Registry.ConfigRegistry;
@@ -148,7 +149,7 @@ public class TileEntityVacuum extends InventoriedPowerReceiver implements Ranged
 		AxisAlignedBB box = this.getBox(world, x, y, z);
 
 		///Do not merge these, they have slightly different code!
-		List<Entity> inbox = world.selectEntitiesWithinAABB(Entity.class, box, selector);
+		List<Entity> inbox = MachineEntityIndex.getEntities(world, Entity.class, box, selector);
 		double v = Math.max(1, power/1048576D);
 		for (Entity ent : inbox) {
 			if (ent instanceof LizardDoggo) {
@@ -197,7 +198,7 @@ public class TileEntityVacuum extends InventoriedPowerReceiver implements Ranged
 			return;
 		boolean suck = false;
 		AxisAlignedBB close = AxisAlignedBB.getBoundingBox(x, y, z, x+1, y+1, z+1).expand(0.25D, 0.25D, 0.25D);
-		List<EntityItem> closeitems = world.getEntitiesWithinAABB(EntityItem.class, close);
+		List<EntityItem> closeitems = MachineEntityIndex.getEntities(world, EntityItem.class, close);
 		for (EntityItem ent : closeitems) {
 			if (ent.delayBeforeCanPickup <= 0) {
 				ItemStack is = ent.getEntityItem();
@@ -221,7 +222,7 @@ public class TileEntityVacuum extends InventoriedPowerReceiver implements Ranged
 			}
 		}
 		isFull = !suck;
-		List<EntityXPOrb> closeorbs = world.getEntitiesWithinAABB(EntityXPOrb.class, close);
+		List<EntityXPOrb> closeorbs = MachineEntityIndex.getEntities(world, EntityXPOrb.class, close);
 		for (EntityXPOrb xp : closeorbs) {
 			int val = xp.getXpValue();
 			experience += val;
@@ -422,7 +422,10 @@ PipeConnector, IFluidHandler, ToggleTile, CVTControllable {
 	public void updateEntity(World world, int x, int y, int z, int meta)
 	{
 		super.updateTileEntity();
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		if (this.getGearType() == GearType.CVT) {
 			if (controller != null && controller.isActive() && controller.getCVT().equals(this)) {
 				boolean torque = controller.isTorque();
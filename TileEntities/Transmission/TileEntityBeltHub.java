@@ -181,6 +181,10 @@ public class TileEntityBeltHub extends TileEntityPowerReceiver implements PowerG
 		return false;
 	}
 
+	public final Coordinate getConnection() {
+		return otherEnd;
+	}
+
 	public final boolean hasValidConnection() {
 		if (otherEnd == null)
 			return false;
@@ -56,7 +56,10 @@ public class TileEntityBusController extends PoweredLiquidReceiver implements Tr
 	@Override
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.getPower(false);
 
 		timer.update();
@@ -74,8 +77,6 @@ public class TileEntityBusController extends PoweredLiquidReceiver implements Tr
 		}
 
 		power = (long)torque*(long)omega;
-		if (tickcount%10 == 0)
-			bus.update();
 		//ReikaJavaLibrary.pConsole(bus.getInputPower()+":"+bus.getTotalOutputSides(), Side.SERVER);
 	}
 
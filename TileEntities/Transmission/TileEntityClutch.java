@@ -36,7 +36,10 @@ public class TileEntityClutch extends TileEntity1DTransmitter {
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
 
-		this.getIOSides(world, x, y, z, meta, true);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta, true);
+			this.onIOSidesComputed();
+		}
 		this.transferPower(world, x, y, z, meta);
 		power = (long)omega*(long)torque;
 
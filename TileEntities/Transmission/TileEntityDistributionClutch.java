@@ -88,7 +88,10 @@ public class TileEntityDistributionClutch extends TileEntityTransmissionMachine
 	@Override
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		if (!RotaryAux.getPowerOnClient && world.isRemote)
 			return;
 		this.updateControl(world, x, y, z);
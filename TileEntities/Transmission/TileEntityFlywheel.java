@@ -110,7 +110,10 @@ public class TileEntityFlywheel extends TileEntityTransmissionMachine implements
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
 		this.loadType();
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		if (failed) {
 			omega = 0;
 			torque = 0;
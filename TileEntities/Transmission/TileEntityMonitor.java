@@ -29,7 +29,10 @@ public class TileEntityMonitor extends TileEntity1DTransmitter {
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
 		power = (long)omega*(long)torque;
-		this.getIOSides(world, x, y, z, meta, false);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta, false);
+			this.onIOSidesComputed();
+		}
 		this.transferPower(world, x, y, z, meta);
 
 		this.basicPowerReceiver();
@@ -128,6 +128,7 @@ public class TileEntityMultiClutch extends TileEntity1DTransmitter implements Gu
 		if (world.isRemote)
 			return;
 		redLevel = world.getBlockPowerInput(x, y, z);
+		//the output side also follows the redstone level and its GUI setting, so is not cached
 		this.getIOSides(world, x, y, z, meta);
 		this.transferPower(world, x, y, z, meta);
 
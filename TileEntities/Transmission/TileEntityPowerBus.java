@@ -76,6 +76,9 @@ public class TileEntityPowerBus extends TileEntityInventoryIOMachine implements
 				}
 			}
 		}
+		//clutches can toggle without any block update reaching the bus
+		if (bus != null && world.getTotalWorldTime()%10 == 0)
+			bus.updateOutputs(this);
 		for (int i = 2; i < 6; i++) {
 			ForgeDirection dir = dirs[i];
 			if (this.canHaveItemInSlot(dir) && this.getAdjacentTileEntity(dir) != null) {
@@ -104,6 +107,7 @@ public class TileEntityPowerBus extends TileEntityInventoryIOMachine implements
 	public boolean insertItem(ItemStack is, ForgeDirection side) {
 		if (GearboxTypes.getRatioFromPartItem(is) > 0 && inv[side.ordinal()-2] == null) {
 			inv[side.ordinal()-2] = is.copy();
+			this.updateOutputs();
 			return true;
 		}
 		return false;
@@ -122,6 +126,26 @@ public class TileEntityPowerBus extends TileEntityInventoryIOMachine implements
 		return false;
 	}
 
+	public int getOutputMask() {
+		int mask = 0;
+		for (int i = 2; i < 6; i++) {
+			if (this.canOutputToSide(dirs[i]))
+				mask |= 1 << i;
+		}
+		return mask;
+	}
+
+	private void updateOutputs() {
+		if (bus != null)
+			bus.updateOutputs(this);
+	}
+
+	@Override
+	protected void onAdjacentBlockUpdate() {
+		super.onAdjacentBlockUpdate();
+		this.updateOutputs();
+	}
+
 	public boolean canOutputToSide(ForgeDirection dir) {
 		return !this.isReceivingFromSide(dir) && this.hasValidItem(dir) && !this.isDisabledClutch(dir);
 	}
@@ -207,6 +231,7 @@ public class TileEntityPowerBus extends TileEntityInventoryIOMachine implements
 
 	private void breakItem(ForgeDirection dir) {
 		inv[dir.ordinal()-2] = null;
+		this.updateOutputs();
 		for (int i = 0; i < 3; i++)
 			ReikaSoundHelper.playSoundAtBlock(worldObj, xCoord, yCoord, zCoord, "random.break", 2, 1);
 	}
@@ -267,8 +292,8 @@ public class TileEntityPowerBus extends TileEntityInventoryIOMachine implements
 				TileEntityBusController te = (TileEntityBusController)world.getTileEntity(dx, dy, dz);
 				ShaftPowerBus bus = te.getBus();
 				if (bus != null) {
-					this.configureBusData(bus);
 					inputSide = dir;
+					this.configureBusData(bus);
 					return;
 				}
 			}
@@ -276,8 +301,8 @@ public class TileEntityPowerBus extends TileEntityInventoryIOMachine implements
 				TileEntityPowerBus te = (TileEntityPowerBus)world.getTileEntity(dx, dy, dz);
 				ShaftPowerBus bus = te.getBus();
 				if (bus != null) {
-					this.configureBusData(bus);
 					inputSide = dir;
+					this.configureBusData(bus);
 					return;
 				}
 			}
@@ -299,7 +299,10 @@ public class TileEntityShaft extends TileEntity1DTransmitter {
 			return;
 		}
 		//this.testFailure();
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.transferPower(world, x, y, z, meta);
 
 		//ReikaJavaLibrary.pConsole(Arrays.toString(readtorque)+":"+Arrays.toString(readomega), Side.SERVER);
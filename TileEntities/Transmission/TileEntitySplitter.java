@@ -24,6 +24,8 @@ import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.RotaryCraft.API.Interfaces.ComplexIO;
 import Reika.RotaryCraft.API.Power.PowerTracker;
 import Reika.RotaryCraft.API.Power.ShaftMerger;
+import Reika.RotaryCraft.Auxiliary.DrivetrainGraph;
+import Reika.RotaryCraft.Auxiliary.DrivetrainLoopFinder;
 import Reika.RotaryCraft.Auxiliary.PowerSourceList;
 import Reika.RotaryCraft.Auxiliary.RotaryAux;
 import Reika.RotaryCraft.Auxiliary.ShaftPowerEmitter;
@@ -49,6 +51,11 @@ public class TileEntitySplitter extends TileEntityTransmissionMachine implements
 
 	private int overloadTick = 0;
 
+	private boolean upstreamLoop;
+	private boolean loopThroughThis;
+	private int loopCheckRevision = -1;
+	private long loopCheckTime;
+
 	private int pow2;
 
 	public int torqueOut1;
@@ -386,6 +393,14 @@ public class TileEntitySplitter extends TileEntityTransmissionMachine implements
 			PowerSourceList in1 = null;
 			PowerSourceList in2 = null;
 			if (read != null && read2 != null) {
+				if (this.hasUpstreamLoop(world)) {
+					//a loop elsewhere upstream is broken by its own merger; this one only stops taking power from it
+					if (loopThroughThis && torquein+torquein2 > 0 && omegain+omegain2 > 0)
+						this.fail();
+					omega = torque = 0;
+					power = 0;
+					return;
+				}
 				//ReikaJavaLibrary.pConsole("====================", Side.SERVER, xCoord == -1011);
 				in1 = PowerSourceList.getAllFrom(world, read, x+read.offsetX, y+read.offsetY, z+read.offsetZ, this, this);
 				//ReikaJavaLibrary.pConsole("--------------", Side.SERVER, xCoord == -1011);
@@ -686,6 +701,20 @@ public class TileEntitySplitter extends TileEntityTransmissionMachine implements
 		phi += ReikaMathLibrary.doubpow(ReikaMathLibrary.logbase(omega+1, 2), 1.05);
 	}
 
+	/** Checked iteratively before asking for the power sources, which would otherwise recurse forever around the loop. */
+	private boolean hasUpstreamLoop(World world) {
+		int rev = DrivetrainGraph.getGraph(world).getRevision();
+		long time = world.getTotalWorldTime();
+		if (rev != loopCheckRevision || time-loopCheckTime > 20 || time < loopCheckTime) {
+			DrivetrainLoopFinder f = DrivetrainLoopFinder.getFinder(world);
+			upstreamLoop = f.isLoopingThrough(this);
+			loopThroughThis = f.wasLoopThroughStart();
+			loopCheckRevision = rev;
+			loopCheckTime = time;
+		}
+		return upstreamLoop;
+	}
+
 	@Override
 	public boolean canProvidePower() {
 		return true;
@@ -23,6 +23,7 @@ import Reika.DragonAPI.Libraries.ReikaEntityHelper;
 import Reika.DragonAPI.Libraries.ReikaPlayerAPI;
 import Reika.DragonAPI.Libraries.IO.ReikaSoundHelper;
 import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.Interfaces.DiscreteFunction;
 import Reika.RotaryCraft.Auxiliary.Interfaces.RangedEffect;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityPowerReceiver;
@@ -34,7 +35,10 @@ public class TileEntityAirGun extends TileEntityPowerReceiver implements RangedE
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
 		tickcount++;
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.getPower(false);
 
 		if (power < MINPOWER || torque < MINTORQUE)
@@ -44,7 +48,7 @@ public class TileEntityAirGun extends TileEntityPowerReceiver implements RangedE
 
 		if (tickcount >= this.getOperationTime()&& !world.isRemote) {
 			AxisAlignedBB box = this.drawAABB(x, y, z, meta);
-			List<EntityLivingBase> li = world.getEntitiesWithinAABB(EntityLivingBase.class, box);
+			List<EntityLivingBase> li = MachineEntityIndex.getEntities(world, EntityLivingBase.class, box);
 			if (li.size() > 0 && !ReikaEntityHelper.allAreDead(li, false)) {
 				this.fire(world, x, y, z, meta, li);
 			}
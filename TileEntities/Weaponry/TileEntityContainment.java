@@ -22,6 +22,7 @@ import net.minecraft.world.World;
 
 import Reika.DragonAPI.Libraries.ReikaEntityHelper;
 import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityProtectionDome;
 import Reika.RotaryCraft.Registry.MachineRegistry;
 
@@ -45,7 +46,7 @@ public class TileEntityContainment extends TileEntityProtectionDome {
 		if (power < MINPOWER)
 			return;
 		this.spawnParticles(world, x, y, z);
-		List<EntityLivingBase> inbox = world.getEntitiesWithinAABB(EntityLivingBase.class, this.getRangedBox());
+		List<EntityLivingBase> inbox = MachineEntityIndex.getEntities(world, EntityLivingBase.class, this.getRangedBox());
 		for (EntityLivingBase e : inbox) {
 			if (this.isGeneralCapturable(e)) {
 				this.markNoDespawn(e);
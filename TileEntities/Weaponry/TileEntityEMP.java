@@ -10,7 +10,7 @@
 package Reika.RotaryCraft.TileEntities.Weaponry;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
 
 import net.minecraft.block.Block;
@@ -38,7 +38,6 @@ import Reika.DragonAPI.ModList;
 import Reika.DragonAPI.Instantiable.Data.BlockStruct.BlockArray;
 import Reika.DragonAPI.Instantiable.Data.Collections.ClassNameCache;
 import Reika.DragonAPI.Instantiable.Data.Immutable.Coordinate;
-import Reika.DragonAPI.Instantiable.Data.Immutable.WorldLocation;
 import Reika.DragonAPI.Libraries.ReikaAABBHelper;
 import Reika.DragonAPI.Libraries.ReikaEntityHelper;
 import Reika.DragonAPI.Libraries.IO.ReikaPacketHelper;
@@ -48,6 +47,7 @@ import Reika.DragonAPI.Libraries.Rendering.ReikaColorAPI;
 import Reika.DragonAPI.ModRegistry.InterfaceCache;
 import Reika.RotaryCraft.RotaryCraft;
 import Reika.RotaryCraft.API.Interfaces.EMPControl;
+import Reika.RotaryCraft.Auxiliary.EMPShutdownData;
 import Reika.RotaryCraft.Auxiliary.EMPTileWatcher;
 import Reika.RotaryCraft.Auxiliary.ItemStacks;
 import Reika.RotaryCraft.Auxiliary.Interfaces.RangedEffect;
@@ -74,7 +74,9 @@ public class TileEntityEMP extends TileEntityPowerReceiver implements RangedEffe
 
 	private static ClassNameCache blacklist = new ClassNameCache();
 
-	private static HashSet<WorldLocation> shutdownLocations = new HashSet();
+	/** Keyed by dimension; the sets are the dimensions' save data. */
+	private static HashMap<Integer, EMPShutdownData> shutdownLocations = new HashMap();
+	private static int shutdownCount;
 
 	private boolean loading = true;
 	private boolean canLoad = true;
@@ -433,25 +435,59 @@ public class TileEntityEMP extends TileEntityPowerReceiver implements RangedEffe
 	}
 
 	public static boolean isShutdown(TileEntity te) {
-		return !shutdownLocations.isEmpty() && shutdownLocations.contains(new WorldLocation(te));
+		return isShutdown(te.worldObj, te.xCoord, te.yCoord, te.zCoord);
 	}
 
 	public static boolean isShutdown(World world, int x, int y, int z) {
-		return !shutdownLocations.isEmpty() && shutdownLocations.contains(new WorldLocation(world, x, y, z));
+		if (shutdownCount == 0)
+			return false;
+		EMPShutdownData data = shutdownLocations.get(world.provider.dimensionId);
+		return data != null && data.contains(x, y, z);
 	}
 
 	public static void resetCoordinate(World world, int x, int y, int z) {
-		if (shutdownLocations.remove(new WorldLocation(world, x, y, z)))
+		if (shutdownCount == 0)
+			return;
+		EMPShutdownData data = shutdownLocations.get(world.provider.dimensionId);
+		if (data != null && data.remove(x, y, z)) {
+			shutdownCount--;
 			ReikaPacketHelper.sendDataPacketToEntireServer(RotaryCraft.packetChannel, PacketRegistry.SPARKLOC.ordinal(), world.provider.dimensionId, x, y, z, 0);
-		if (shutdownLocations.isEmpty())
+		}
+		if (shutdownCount == 0)
 			EMPTileWatcher.instance.unregisterTileWatcher();
 	}
 
 	private static void addShutdownLocation(TileEntity te) {
-		shutdownLocations.add(new WorldLocation(te));
+		EMPShutdownData data = shutdownLocations.get(te.worldObj.provider.dimensionId);
+		if (data == null) {
+			data = loadShutdownData(te.worldObj);
+		}
+		if (data.add(te.xCoord, te.yCoord, te.zCoord))
+			shutdownCount++;
 		EMPTileWatcher.instance.registerTileWatcher();
 	}
 
+	public static EMPShutdownData loadShutdownData(World world) {
+		EMPShutdownData data = shutdownLocations.get(world.provider.dimensionId);
+		if (data == null) {
+			data = EMPShutdownData.getFor(world);
+			shutdownLocations.put(world.provider.dimensionId, data);
+			shutdownCount += data.size();
+			if (shutdownCount > 0)
+				EMPTileWatcher.instance.registerTileWatcher();
+		}
+		return data;
+	}
+
+	public static void unloadShutdownData(World world) {
+		EMPShutdownData data = shutdownLocations.remove(world.provider.dimensionId);
+		if (data != null) {
+			shutdownCount -= data.size();
+			if (shutdownCount == 0)
+				EMPTileWatcher.instance.unregisterTileWatcher();
+		}
+	}
+
 	private void dropMachine(World world, int x, int y, int z) {
 		Block b = world.getBlock(x, y, z);
 		int meta = world.getBlockMetadata(x, y, z);
@@ -49,6 +49,7 @@ import Reika.DragonAPI.ModRegistry.InterfaceCache;
 import Reika.MeteorCraft.API.MeteorEntity;
 import Reika.RotaryCraft.API.Event.ForceFieldEvent;
 import Reika.RotaryCraft.Auxiliary.MachineEnchantmentHandler;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.Interfaces.EnchantableMachine;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityProtectionDome;
 import Reika.RotaryCraft.Entities.EntityRailGunShot;
@@ -90,7 +91,7 @@ public class TileEntityForceField extends TileEntityProtectionDome implements En
 		this.spawnParticles(world, x, y, z);
 		this.setColor(64*4/tickcount, 128+128*4/tickcount, 255);
 		AxisAlignedBB field = this.getRangedBox();
-		List<Entity> threats = world.getEntitiesWithinAABB(Entity.class, field);
+		List<Entity> threats = MachineEntityIndex.getEntities(world, Entity.class, field);
 		for (Entity e : threats) {
 			this.protect(world, e);
 		}
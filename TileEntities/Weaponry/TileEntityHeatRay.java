@@ -31,6 +31,7 @@ import Reika.DragonAPI.Interfaces.Block.SemiTransparent;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.API.Event.HeatRayNetherDetonationEvent;
 import Reika.RotaryCraft.API.Interfaces.Laserable;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.Interfaces.RangedEffect;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityBeamMachine;
 import Reika.RotaryCraft.Registry.ConfigRegistry;
@@ -140,7 +141,10 @@ public class TileEntityHeatRay extends TileEntityBeamMachine implements RangedEf
 		super.updateTileEntity();
 		tickcount++;
 		power = (long)omega*(long)torque;
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.getPower(false);
 		//if ((world.getTotalWorldTime()&2) == 2) //halves load
 		this.makeBeam(world, x, y, z, meta);
@@ -175,7 +179,7 @@ public class TileEntityHeatRay extends TileEntityBeamMachine implements RangedEf
 					blocked = true; //break loop
 			}
 			AxisAlignedBB zone = this.getBurnZone(metadata, step);
-			List<Entity> inzone = worldObj.getEntitiesWithinAABB(Entity.class, zone);
+			List<Entity> inzone = MachineEntityIndex.getEntities(worldObj, Entity.class, zone);
 			for (Entity caught : inzone) {
 				if (!(caught instanceof EntityItem)) //Do not burn drops
 					caught.setFire(this.getBurnTime());	// 1 Hearts worth of fire at min power, +1 heart for every 65kW extra
@@ -34,6 +34,7 @@ import Reika.DragonAPI.Libraries.ReikaEntityHelper;
 import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.DragonAPI.Libraries.Registry.ReikaItemHelper;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Base.TileEntity.TileEntitySpringPowered;
 import Reika.RotaryCraft.Registry.MachineRegistry;
 import Reika.RotaryCraft.Registry.RotaryAchievements;
@@ -55,7 +56,7 @@ public class TileEntityLandmine extends TileEntitySpringPowered {
 
 	private boolean checkForPlayer(World world, int x, int y, int z) {
 		AxisAlignedBB above = AxisAlignedBB.getBoundingBox(x, y+1, z, x+1, y+3, z+1);
-		List in = world.getEntitiesWithinAABB(EntityLivingBase.class, above);
+		List in = MachineEntityIndex.getEntities(world, EntityLivingBase.class, above);
 		for (int i = 0; i < in.size(); i++) {
 			EntityLivingBase e = (EntityLivingBase)in.get(i);
 			if (e.onGround && !e.isSneaking())
@@ -66,7 +67,7 @@ public class TileEntityLandmine extends TileEntitySpringPowered {
 
 	private boolean checkForArrow(World world, int x, int y, int z) {
 		AxisAlignedBB above = AxisAlignedBB.getBoundingBox(x, y, z, x+1, y+1, z+1).expand(1, 1, 1);
-		List in = world.getEntitiesWithinAABB(EntityArrow.class, above);
+		List in = MachineEntityIndex.getEntities(world, EntityArrow.class, above);
 		return in.size() > 0;
 	}
 
@@ -118,7 +119,7 @@ public class TileEntityLandmine extends TileEntitySpringPowered {
 		else if (!world.isRemote)
 			world.createExplosion(null, x+0.5, y+0.5, z+0.5, power, true);
 		AxisAlignedBB region = AxisAlignedBB.getBoundingBox(x, y, z, x+1, y+1, z+1).expand(2, 2, 2);
-		List in = world.getEntitiesWithinAABB(EntityLivingBase.class, region);
+		List in = MachineEntityIndex.getEntities(world, EntityLivingBase.class, region);
 		for (int i = 0; i < in.size(); i++) {
 			EntityLivingBase e = (EntityLivingBase)in.get(i);
 			if (e instanceof EntityPlayer) {
@@ -136,7 +137,7 @@ public class TileEntityLandmine extends TileEntitySpringPowered {
 		}
 		if (shrapnel) {
 			AxisAlignedBB region2 = AxisAlignedBB.getBoundingBox(x, y, z, x+1, y+1, z+1).expand(8, 8, 8);
-			List in2 = world.getEntitiesWithinAABB(EntityLivingBase.class, region2);
+			List in2 = MachineEntityIndex.getEntities(world, EntityLivingBase.class, region2);
 			for (int i = 0; i < in2.size(); i++) {
 				EntityLivingBase e = (EntityLivingBase)in2.get(i);
 				double dx = e.posX-x-0.5;
@@ -33,6 +33,7 @@ import Reika.DragonAPI.Libraries.IO.ReikaSoundHelper;
 import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.Auxiliary.MachineEnchantmentHandler;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.Interfaces.DiscreteFunction;
 import Reika.RotaryCraft.Auxiliary.Interfaces.EnchantableMachine;
 import Reika.RotaryCraft.Auxiliary.Interfaces.RangedEffect;
@@ -47,7 +48,10 @@ public class TileEntityMachineGun extends InventoriedPowerReceiver implements Ra
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
 		tickcount++;
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.getPower(false);
 
 		if (power < MINPOWER || torque < MINTORQUE)
@@ -61,7 +65,7 @@ public class TileEntityMachineGun extends InventoriedPowerReceiver implements Ra
 
 		if (tickcount >= this.getOperationTime() && ReikaInventoryHelper.checkForItem(Items.arrow, inv)) {
 			AxisAlignedBB box = this.drawAABB(world, x, y, z, meta);
-			List<EntityLivingBase> li = world.getEntitiesWithinAABB(EntityLivingBase.class, box);
+			List<EntityLivingBase> li = MachineEntityIndex.getEntities(world, EntityLivingBase.class, box);
 			if (li.size() > 0 && !ReikaEntityHelper.allAreDead(li, false) && !this.isReikaOnly(li)) {
 				this.fire(world, x, y, z, meta);
 			}
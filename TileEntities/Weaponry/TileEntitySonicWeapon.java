@@ -32,6 +32,7 @@ import Reika.DragonAPI.Libraries.ReikaAABBHelper;
 import Reika.DragonAPI.Libraries.Java.ReikaRandomHelper;
 import Reika.DragonAPI.Libraries.MathSci.ReikaPhysicsHelper;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.Interfaces.RangedEffect;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityPowerReceiver;
 import Reika.RotaryCraft.Registry.MachineRegistry;
@@ -91,7 +92,7 @@ public class TileEntitySonicWeapon extends TileEntityPowerReceiver implements Gu
 	public void applyEffects(World world, int x, int y, int z) {
 		int range = this.getRange();
 		AxisAlignedBB box = ReikaAABBHelper.getBlockAABB(this).expand(range, range, range);
-		List<EntityLivingBase> inbox = world.getEntitiesWithinAABB(EntityLivingBase.class, box);
+		List<EntityLivingBase> inbox = MachineEntityIndex.getEntities(world, EntityLivingBase.class, box);
 		for (EntityLivingBase ent : inbox) {
 			boolean vuln = true;
 			if (ent instanceof EntityPlayer)
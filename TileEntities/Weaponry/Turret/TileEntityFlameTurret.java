@@ -25,6 +25,7 @@ import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.DragonAPI.Libraries.MathSci.ReikaPhysicsHelper;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.API.Interfaces.TargetEntity;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityFluidCannon;
 import Reika.RotaryCraft.Entities.EntityFlameTurretShot;
 import Reika.RotaryCraft.Registry.MachineRegistry;
@@ -59,7 +60,7 @@ public class TileEntityFlameTurret extends TileEntityFluidCannon {
 		double[] xyzb = new double[4];
 		int r = this.getRange();
 		AxisAlignedBB range = AxisAlignedBB.getBoundingBox(x-r, y-r, z-r, x+1+r, y+1+r, z+1+r);
-		List<Entity> inrange = world.getEntitiesWithinAABB(Entity.class, range);
+		List<Entity> inrange = MachineEntityIndex.getEntities(world, Entity.class, range);
 		double mindist = this.getRange()+2;
 		Entity i_at_min = null;
 		for (Entity ent : inrange) {
@@ -80,11 +81,12 @@ public class TileEntityFlameTurret extends TileEntityFluidCannon {
 		if (i_at_min == null)
 			return xyzb;
 		closestMob = i_at_min;
-		xyzb[0] = closestMob.posX+this.randomOffset();
-		xyzb[1] = closestMob.posY+closestMob.getEyeHeight()*0.25+this.randomOffset();
-		xyzb[2] = closestMob.posZ+this.randomOffset();
-		xyzb[3] = 1;
-		return xyzb;
+		return this.getAimPoint(closestMob);
+	}
+
+	@Override
+	protected boolean isInTargetRange(double dist) {
+		return dist >= 6 && super.isInTargetRange(dist);
 	}
 
 	@Override
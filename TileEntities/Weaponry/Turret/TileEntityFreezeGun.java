@@ -27,6 +27,7 @@ import Reika.DragonAPI.Libraries.Registry.ReikaItemHelper;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.RotaryCraft;
 import Reika.RotaryCraft.API.Interfaces.TargetEntity;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityInventoriedCannon;
 import Reika.RotaryCraft.Entities.EntityFreezeGunShot;
 import Reika.RotaryCraft.Registry.MachineRegistry;
@@ -105,7 +106,7 @@ public class TileEntityFreezeGun extends TileEntityInventoriedCannon {
 		double[] xyzb = new double[4];
 		int r = this.getRange();
 		AxisAlignedBB range = AxisAlignedBB.getBoundingBox(x-r, y-r, z-r, x+1+r, y+1+r, z+1+r);
-		List<Entity> inrange = world.getEntitiesWithinAABB(Entity.class, range);
+		List<Entity> inrange = MachineEntityIndex.getEntities(world, Entity.class, range);
 		double mindist = this.getRange()+2;
 		Entity i_at_min = null;
 		for (Entity ent : inrange) {
@@ -127,11 +128,7 @@ public class TileEntityFreezeGun extends TileEntityInventoriedCannon {
 		if (i_at_min == null)
 			return xyzb;
 		closestMob = i_at_min;
-		xyzb[0] = closestMob.posX+this.randomOffset();
-		xyzb[1] = closestMob.posY+closestMob.getEyeHeight()*0.25+this.randomOffset();
-		xyzb[2] = closestMob.posZ+this.randomOffset();
-		xyzb[3] = 1;
-		return xyzb;
+		return this.getAimPoint(closestMob);
 	}
 
 	@Override
@@ -23,6 +23,7 @@ import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
 import Reika.RotaryCraft.RotaryCraft;
 import Reika.RotaryCraft.API.Interfaces.TargetEntity;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.TurretDamage;
 import Reika.RotaryCraft.Base.TileEntity.TileEntityAimedCannon;
 import Reika.RotaryCraft.Registry.ConfigRegistry;
@@ -52,7 +53,7 @@ public class TileEntityLaserGun extends TileEntityAimedCannon {
 		double[] xyzb = new double[4];
 		int r = this.getRange();
 		AxisAlignedBB box = AxisAlignedBB.getBoundingBox(x-r, y-r, z-r, x+1+r, y+1+r, z+1+r);
-		List<Entity> inrange = world.getEntitiesWithinAABB(Entity.class, box);
+		List<Entity> inrange = MachineEntityIndex.getEntities(world, Entity.class, box);
 		double mindist = this.getRange()+2;
 		Entity i_at_min = null;
 		for (Entity ent : inrange) {
@@ -73,11 +74,7 @@ public class TileEntityLaserGun extends TileEntityAimedCannon {
 		if (i_at_min == null)
 			return xyzb;
 		closestMob = i_at_min;
-		xyzb[0] = closestMob.posX+this.randomOffset();
-		xyzb[1] = closestMob.posY+closestMob.getEyeHeight()*0.25+this.randomOffset();
-		xyzb[2] = closestMob.posZ+this.randomOffset();
-		xyzb[3] = 1;
-		return xyzb;
+		return this.getAimPoint(closestMob);
 	}
 
 	@Override
@@ -90,7 +87,7 @@ public class TileEntityLaserGun extends TileEntityAimedCannon {
 			double dz = i*Math.cos(Math.toRadians(theta))*Math.sin(Math.toRadians(-phi+90));
 			int r = 1;
 			AxisAlignedBB light = AxisAlignedBB.getBoundingBox(xCoord+dx, yCoord+dy, zCoord+dz, xCoord+dx, yCoord+dy, zCoord+dz).expand(r, r, r);
-			List<Entity> in = world.getEntitiesWithinAABB(Entity.class, light);
+			List<Entity> in = MachineEntityIndex.getEntities(world, Entity.class, light);
 			for (Entity e : in) {
 				if (e instanceof TargetEntity) {
 					((TargetEntity)e).onLaserBeam(this);
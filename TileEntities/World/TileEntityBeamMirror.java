@@ -25,6 +25,7 @@ import Reika.DragonAPI.Interfaces.TileEntity.BreakAction;
 import Reika.DragonAPI.Libraries.ReikaEntityHelper;
 import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
 import Reika.RotaryCraft.Auxiliary.Interfaces.RangedEffect;
 import Reika.RotaryCraft.Base.TileEntity.RotaryCraftTileEntity;
 import Reika.RotaryCraft.Registry.BlockRegistry;
@@ -92,7 +93,7 @@ public class TileEntityBeamMirror extends RotaryCraftTileEntity implements Range
 
 	private void burnMobs(World world, int x, int y, int z) {
 		AxisAlignedBB box = this.getBurningBox(world, x, y, z);
-		List<EntityLivingBase> inbox = world.getEntitiesWithinAABB(EntityLivingBase.class, box);
+		List<EntityLivingBase> inbox = MachineEntityIndex.getEntities(world, EntityLivingBase.class, box);
 		for (EntityLivingBase e : inbox) {
 			if (ReikaEntityHelper.burnsInSun(e)) {
 				e.setFire(10);
@@ -31,6 +31,8 @@ import Reika.DragonAPI.Libraries.ReikaInventoryHelper;
 import Reika.DragonAPI.Libraries.Java.ReikaRandomHelper;
 import Reika.DragonAPI.Libraries.MathSci.ReikaMathLibrary;
 import Reika.DragonAPI.Libraries.World.ReikaWorldHelper;
+import Reika.RotaryCraft.Auxiliary.MachineEntityIndex;
+import Reika.RotaryCraft.Auxiliary.TemperatureHandler;
 import Reika.RotaryCraft.Auxiliary.Interfaces.ConditionalOperation;
 import Reika.RotaryCraft.Auxiliary.Interfaces.RangedEffect;
 import Reika.RotaryCraft.Auxiliary.Interfaces.TemperatureTE;
@@ -91,7 +93,7 @@ public class TileEntityIgniter extends InventoriedPowerReceiver implements Tempe
 
 		if (temperature >= ANIMALIGNITION) {
 			AxisAlignedBB box = ReikaAABBHelper.getBlockAABB(this).expand(spread, yspread, spread);
-			List<EntityLivingBase> in = world.getEntitiesWithinAABB(EntityLivingBase.class, box);
+			List<EntityLivingBase> in = MachineEntityIndex.getEntities(world, EntityLivingBase.class, box);
 			for (EntityLivingBase ent : in) {
 				ent.setFire(1);
 			}
@@ -138,7 +140,7 @@ public class TileEntityIgniter extends InventoriedPowerReceiver implements Tempe
 
 	@Override
 	public void updateTemperature(World world, int x, int y, int z, int meta) {
-		int Tamb = ReikaWorldHelper.getAmbientTemperatureAt(world, x, y, z);
+		int Tamb = TemperatureHandler.instance.getAmbientTemperature(world, x, y, z);
 		if (temperature > Tamb) {
 			int Tdiff = temperature-Tamb;
 			temperature -= (int)Math.log(Tdiff);
@@ -39,7 +39,10 @@ public class TileEntityLightBridge extends TileEntityBeamMachine implements Rang
 		super.updateTileEntity();
 		animtick++;
 		power = (long)omega*(long)torque;
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.getPower(false);
 		if (!world.isRemote)
 			this.makeBeam(world, x, y, z, meta);
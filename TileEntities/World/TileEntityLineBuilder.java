@@ -64,7 +64,10 @@ public class TileEntityLineBuilder extends InventoriedPowerReceiver implements R
 	@Override
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.getPower(false);
 
 		if (power < MINPOWER || torque < MINTORQUE)
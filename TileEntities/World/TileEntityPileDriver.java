@@ -134,7 +134,10 @@ public class TileEntityPileDriver extends TileEntityPowerReceiver {
 	@Override
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.getPower(true);
 		int speed = BASESPEED;
 		int minpower = BASEPOWER*(step+1);
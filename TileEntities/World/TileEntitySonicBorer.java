@@ -42,7 +42,10 @@ public class TileEntitySonicBorer extends TileEntityPowerReceiver implements Pre
 	@Override
 	public void updateEntity(World world, int x, int y, int z, int meta) {
 		super.updateTileEntity();
-		this.getIOSides(world, x, y, z, meta);
+		if (this.ioSidesChanged(meta)) {
+			this.getIOSides(world, x, y, z, meta);
+			this.onIOSidesComputed();
+		}
 		this.getPower(false);
 		this.updatePressure(world, x, y, z, meta);
 		if (this.canFire(world, x, y, z, meta)) {